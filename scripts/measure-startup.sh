@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+# Compare startup of the container image with and without Spring AOT + AppCDS.
+#
+# Runs each mode RUNS times against the MySQL container of docker-compose.yml and reports:
+# - startup:       "Started AccountApplication in X seconds" from the application log (JVM start to ready)
+# - first request: wall time from "docker run" until GET /api/v1/health first answers 200
+#
+# Usage: scripts/measure-startup.sh [runs]   (builds the image "account-backend" first)
+set -euo pipefail
+
+RUNS=${1:-5}
+IMAGE=account-backend
+PORT=18080
+NETWORK=$(basename "$(pwd)")_default
+
+docker compose up -d mysql
+until [ "$(docker inspect -f '{{.State.Health.Status}}' account-mysql)" = healthy ]; do sleep 1; done
+docker build -q -t "$IMAGE" . > /dev/null
+
+measure() {
+    # remaining arguments: image (and command) for docker run
+    local mode=$1; shift
+    local total_startup=0 total_first=0
+    for run in $(seq "$RUNS"); do
+        local start name=startup-$mode-$run
+        start=$(date +%s%N)
+        docker run -d --rm --name "$name" --network "$NETWORK" -p "$PORT:8080" \
+            -e DB_URL="jdbc:mysql://mysql:3306/account?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC" \
+            "$@" > /dev/null
+        until curl -sf "http://localhost:$PORT/api/v1/health" > /dev/null; do sleep 0.05; done
+        local first=$(( ($(date +%s%N) - start) / 1000000 ))
+        local startup
+        startup=$(docker logs "$name" 2>&1 | sed -n 's/.*Started AccountApplication in \([0-9.]*\) seconds.*/\1/p')
+        docker stop "$name" > /dev/null
+        printf '%-9s run %d: startup %ss, first request %dms\n' "$mode" "$run" "$startup" "$first"
+        total_startup=$(echo "$total_startup + $startup" | bc)
+        total_first=$(( total_first + first ))
+    done
+    printf '%-9s mean:  startup %ss, first request %dms\n' "$mode" \
+        "$(echo "scale=3; $total_startup / $RUNS" | bc)" $(( total_first / RUNS ))
+}
+
+# Before: plain java -jar, no AOT and no CDS archive
+measure baseline --entrypoint java "$IMAGE" -jar /app/application.jar
+# After: the image entrypoint (AOT bean definitions + AppCDS archive)
+measure aot-cds "$IMAGE"
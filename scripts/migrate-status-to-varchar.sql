@@ -0,0 +1,7 @@
+-- Hibernate created account status columns as ENUM('DRAFT','SUBMITTED') before asynchronous registration
+-- added PROCESSING and FAILED, and ddl-auto=update never alters a column type. Run once against schemas
+-- created before then; the columns are VARCHAR(20) from then on, so new statuses need no migration.
+--
+-- Usage: docker compose exec -T mysql mysql -uroot -proot_pass account < scripts/migrate-status-to-varchar.sql
+ALTER TABLE account_requests MODIFY status VARCHAR(20) NOT NULL;
+ALTER TABLE account_requests_archive MODIFY status VARCHAR(20) NOT NULL;
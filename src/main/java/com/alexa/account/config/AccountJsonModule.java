@@ -0,0 +1,24 @@
+package com.alexa.account.config;
+
+import com.alexa.account.dto.AccountRequestDTO;
+import com.alexa.account.dto.AccountResponseDTO;
+import com.alexa.account.dto.AddressDTO;
+import com.alexa.account.dto.DraftRequestDTO;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.stereotype.Component;
+
+/**
+ * Jackson module with the precompiled serializers of {@link AccountJsonSerializers}.
+ * Spring Boot registers Module beans with the application ObjectMapper.
+ */
+@Component
+public class AccountJsonModule extends SimpleModule {
+
+    public AccountJsonModule() {
+        super("AccountJsonModule");
+        addSerializer(AccountResponseDTO.class, new AccountJsonSerializers.AccountResponseSerializer());
+        addSerializer(AccountRequestDTO.class, new AccountJsonSerializers.AccountRequestSerializer());
+        addSerializer(DraftRequestDTO.class, new AccountJsonSerializers.DraftRequestSerializer());
+        addSerializer(AddressDTO.class, new AccountJsonSerializers.AddressSerializer());
+    }
+}
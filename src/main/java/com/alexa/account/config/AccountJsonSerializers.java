@@ -0,0 +1,245 @@
+package com.alexa.account.config;
+
+import com.alexa.account.dto.AccountRequestDTO;
+import com.alexa.account.dto.AccountResponseDTO;
+import com.alexa.account.dto.AddressDTO;
+import com.alexa.account.dto.DraftRequestDTO;
+import com.alexa.account.dto.IdDocumentResponseDTO;
+import com.alexa.account.model.AccountStatus;
+import com.alexa.account.model.AccountType;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Hand-written Jackson serializers for the account DTOs, registered by {@link AccountJsonModule}.
+ *
+ * Instead of the reflective bean serializer, fields are written in record order with pre-encoded
+ * field names ({@link SerializedString} keeps the quoted UTF-8 bytes), pre-encoded Y/N and enum values,
+ * and a direct dd-MM-yyyy date writer. The output is byte-for-byte what the annotated records produce
+ * with the default ObjectMapper configuration (nulls included, enums by name).
+ */
+public final class AccountJsonSerializers {
+
+    private static final SerializableString REQUEST_ID = new SerializedString("requestId");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString DATE_OF_BIRTH = new SerializedString("dateOfBirth");
+    private static final SerializableString ID_DOCUMENT = new SerializedString("idDocument");
+    private static final SerializableString ADDRESS = new SerializedString("address");
+    private static final SerializableString ACCOUNT_TYPE = new SerializedString("accountType");
+    private static final SerializableString STARTING_BALANCE = new SerializedString("startingBalance");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString MONTHLY_SALARY = new SerializedString("monthlySalary");
+    private static final SerializableString INTERESTED = new SerializedString("interestedInOtherProducts");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString STREET_NAME = new SerializedString("streetName");
+    private static final SerializableString HOUSE_NUMBER = new SerializedString("houseNumber");
+    private static final SerializableString POST_CODE = new SerializedString("postCode");
+    private static final SerializableString CITY = new SerializedString("city");
+    private static final SerializableString DOCUMENT_NAME = new SerializedString("documentName");
+    private static final SerializableString DOCUMENT_TYPE = new SerializedString("documentType");
+    private static final SerializableString DOCUMENT_SIZE = new SerializedString("documentSize");
+
+    private static final SerializableString YES = new SerializedString("Y");
+    private static final SerializableString NO = new SerializedString("N");
+    private static final SerializableString[] ACCOUNT_TYPES = enumTokens(AccountType.values());
+    private static final SerializableString[] STATUSES = enumTokens(AccountStatus.values());
+
+    /**
+     * Same pattern as the {@code @JsonFormat} of the DTOs; used for years outside 1-9999.
+     */
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    private AccountJsonSerializers() {
+    }
+
+    public static final class AccountResponseSerializer extends StdSerializer<AccountResponseDTO> {
+
+        public AccountResponseSerializer() {
+            super(AccountResponseDTO.class);
+        }
+
+        @Override
+        public void serialize(AccountResponseDTO value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, REQUEST_ID, value.requestId());
+            writeString(gen, NAME, value.name());
+            writeDate(gen, DATE_OF_BIRTH, value.dateOfBirth());
+            gen.writeFieldName(ID_DOCUMENT);
+            writeIdDocument(gen, value.idDocument());
+            gen.writeFieldName(ADDRESS);
+            writeAddress(gen, value.address());
+            writeEnum(gen, ACCOUNT_TYPE, ACCOUNT_TYPES, value.accountType());
+            writeNumber(gen, STARTING_BALANCE, value.startingBalance());
+            writeString(gen, EMAIL, value.email());
+            writeNumber(gen, MONTHLY_SALARY, value.monthlySalary());
+            writeYesNo(gen, INTERESTED, value.interestedInOtherProducts());
+            writeEnum(gen, STATUS, STATUSES, value.status());
+            gen.writeEndObject();
+        }
+    }
+
+    public static final class AccountRequestSerializer extends StdSerializer<AccountRequestDTO> {
+
+        public AccountRequestSerializer() {
+            super(AccountRequestDTO.class);
+        }
+
+        @Override
+        public void serialize(AccountRequestDTO value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, NAME, value.name());
+            writeDate(gen, DATE_OF_BIRTH, value.dateOfBirth());
+            gen.writeFieldName(ADDRESS);
+            writeAddress(gen, value.address());
+            writeEnum(gen, ACCOUNT_TYPE, ACCOUNT_TYPES, value.accountType());
+            writeNumber(gen, STARTING_BALANCE, value.startingBalance());
+            writeString(gen, EMAIL, value.email());
+            writeNumber(gen, MONTHLY_SALARY, value.monthlySalary());
+            writeYesNo(gen, INTERESTED, value.interestedInOtherProducts());
+            gen.writeEndObject();
+        }
+    }
+
+    public static final class DraftRequestSerializer extends StdSerializer<DraftRequestDTO> {
+
+        public DraftRequestSerializer() {
+            super(DraftRequestDTO.class);
+        }
+
+        @Override
+        public void serialize(DraftRequestDTO value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, NAME, value.name());
+            writeDate(gen, DATE_OF_BIRTH, value.dateOfBirth());
+            gen.writeFieldName(ADDRESS);
+            writeAddress(gen, value.address());
+            writeEnum(gen, ACCOUNT_TYPE, ACCOUNT_TYPES, value.accountType());
+            writeNumber(gen, STARTING_BALANCE, value.startingBalance());
+            writeString(gen, EMAIL, value.email());
+            writeNumber(gen, MONTHLY_SALARY, value.monthlySalary());
+            writeYesNo(gen, INTERESTED, value.interestedInOtherProducts());
+            gen.writeEndObject();
+        }
+    }
+
+    public static final class AddressSerializer extends StdSerializer<AddressDTO> {
+
+        public AddressSerializer() {
+            super(AddressDTO.class);
+        }
+
+        @Override
+        public void serialize(AddressDTO value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeAddress(gen, value);
+        }
+    }
+
+    private static void writeAddress(JsonGenerator gen, AddressDTO address) throws IOException {
+        if (address == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject(address);
+        writeString(gen, STREET_NAME, address.streetName());
+        writeString(gen, HOUSE_NUMBER, address.houseNumber());
+        writeString(gen, POST_CODE, address.postCode());
+        writeString(gen, CITY, address.city());
+        gen.writeEndObject();
+    }
+
+    private static void writeIdDocument(JsonGenerator gen, IdDocumentResponseDTO document) throws IOException {
+        if (document == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject(document);
+        writeString(gen, DOCUMENT_NAME, document.documentName());
+        writeString(gen, DOCUMENT_TYPE, document.documentType());
+        gen.writeFieldName(DOCUMENT_SIZE);
+        gen.writeNumber(document.documentSize());
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString field, String value) throws IOException {
+        gen.writeFieldName(field);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, SerializableString field, BigDecimal value) throws IOException {
+        gen.writeFieldName(field);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            // The generator applies WRITE_BIGDECIMAL_AS_PLAIN like the default serializer
+            gen.writeNumber(value);
+        }
+    }
+
+    private static void writeYesNo(JsonGenerator gen, SerializableString field, Boolean value) throws IOException {
+        gen.writeFieldName(field);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value ? YES : NO);
+        }
+    }
+
+    private static void writeEnum(JsonGenerator gen, SerializableString field, SerializableString[] tokens,
+                                  Enum<?> value) throws IOException {
+        gen.writeFieldName(field);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(tokens[value.ordinal()]);
+        }
+    }
+
+    /**
+     * Write a date as dd-MM-yyyy without a formatter for years 1 to 9999.
+     */
+    private static void writeDate(JsonGenerator gen, SerializableString field, LocalDate value) throws IOException {
+        gen.writeFieldName(field);
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        int year = value.getYear();
+        if (year < 1 || year > 9999) {
+            // yyyy is the year of era: signs and eras are left to the formatter
+            gen.writeString(DATE_FORMAT.format(value));
+            return;
+        }
+        int day = value.getDayOfMonth();
+        int month = value.getMonthValue();
+        char[] date = {
+                digit(day / 10), digit(day % 10), '-',
+                digit(month / 10), digit(month % 10), '-',
+                digit(year / 1000), digit(year / 100 % 10), digit(year / 10 % 10), digit(year % 10)
+        };
+        gen.writeString(date, 0, date.length);
+    }
+
+    private static char digit(int value) {
+        return (char) ('0' + value);
+    }
+
+    private static SerializableString[] enumTokens(Enum<?>[] values) {
+        SerializableString[] tokens = new SerializableString[values.length];
+        for (Enum<?> value : values) {
+            tokens[value.ordinal()] = new SerializedString(value.name());
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,75 @@
+package com.alexa.account.config;
+
+import com.alexa.account.dto.AccountResponseDTO;
+import com.alexa.account.dto.AccountSubmittedEvent;
+import com.alexa.account.dto.DraftRequestDTO;
+import com.alexa.account.dto.FieldValidationRequest;
+import com.alexa.account.dto.FieldValidationUpdate;
+import com.alexa.account.grpc.v1.AccountRegistrationProto;
+import com.alexa.account.model.AbstractAccountRequest;
+import com.alexa.account.model.AccountRequest;
+import com.alexa.account.model.Address;
+import com.alexa.account.model.ArchivedAccountRequest;
+import com.alexa.account.model.IdDocument;
+import com.alexa.account.model.IdempotencyRecord;
+import com.alexa.account.model.OutboxEvent;
+import com.alexa.account.model.YesNoConverter;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumDescriptor;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * Reflection and resource hints for the native image (mvn -Pnative native:compile) that Spring AOT cannot
+ * derive from the bean definitions and controller signatures:
+ * - the MapStruct-generated AccountMapperImpl and its decorated delegate AccountMapperImpl_
+ * - Hibernate entities, the embeddables, YesNoConverter and JdbcTimingSessionListener, which Hibernate reads and
+ *   instantiates reflectively
+ * - the (de)serializers named in {@code @JsonSerialize}/{@code @JsonDeserialize}
+ * - DTOs (de)serialized outside controllers (idempotency records, outbox, WebSocket, merge patch)
+ * - protobuf messages, whose field accessors are looked up by name
+ * - the static OpenAPI document served to springdoc's Swagger UI
+ */
+public class AccountRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> ENTITIES = List.of(AbstractAccountRequest.class, AccountRequest.class,
+            ArchivedAccountRequest.class, Address.class, IdDocument.class, IdempotencyRecord.class,
+            OutboxEvent.class, YesNoConverter.class);
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources().registerPattern("static/openapi.yaml");
+
+        hints.reflection().registerType(TypeReference.of("com.alexa.account.mapper.AccountMapperImpl"),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(TypeReference.of("com.alexa.account.mapper.AccountMapperImpl_"),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        ENTITIES.forEach(type -> hints.reflection().registerType(type,
+                MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS));
+
+        hints.reflection().registerType(JdbcTimingSessionListener.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(YesNoSerializer.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        hints.reflection().registerType(YesNoDeserializer.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                AccountResponseDTO.class, AccountSubmittedEvent.class, DraftRequestDTO.class,
+                FieldValidationRequest.class, FieldValidationUpdate.class);
+
+        for (Descriptor message : AccountRegistrationProto.getDescriptor().getMessageTypes()) {
+            String type = AccountRegistrationProto.class.getPackageName() + "." + message.getName();
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.reflection().registerType(TypeReference.of(type + "$Builder"), MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        for (EnumDescriptor enumType : AccountRegistrationProto.getDescriptor().getEnumTypes()) {
+            hints.reflection().registerType(
+                    TypeReference.of(AccountRegistrationProto.class.getPackageName() + "." + enumType.getName()),
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.alexa.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Adaptive concurrency limits (app.concurrency-limit).
+ *
+ * @param enabled whether excess load is shed
+ * @param retryAfter Retry-After sent with shed requests
+ * @param writes budget for account write requests (registration, drafts, updates)
+ * @param reads budget for all other API requests (lookups, validation, suggestions)
+ */
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1s") Duration retryAfter,
+        @DefaultValue Budget writes,
+        @DefaultValue Budget reads
+) {
+
+    /**
+     * Concurrency budget; the limit starts at initialLimit and adapts between minLimit and maxLimit.
+     */
+    public record Budget(
+            @DefaultValue("20") int initialLimit,
+            @DefaultValue("4") int minLimit,
+            @DefaultValue("200") int maxLimit
+    ) {
+    }
+}
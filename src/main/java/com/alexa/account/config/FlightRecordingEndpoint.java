@@ -0,0 +1,105 @@
+package com.alexa.account.config;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * On-demand flight recording at {@code POST /actuator/flightrecording}: records for the requested duration
+ * (default app.flight-recording.default-duration, at most max-duration) with the JDK's {@code default} or
+ * {@code profile} settings and returns the .jfr file. The recording includes the account events of the
+ * {@code com.alexa.account.jfr} package next to the JVM events (GC, locks, I/O, allocation, CPU samples).
+ *
+ * Only one recording runs at a time; the request blocks until it is done. The file is deleted once sent.
+ * The environment variables, system properties and JVM arguments are left out of the recording, as they
+ * carry secrets such as DB_PASSWORD. The endpoint is not exposed over HTTP by default.
+ */
+@Component
+@Endpoint(id = "flightrecording")
+@Slf4j
+public class FlightRecordingEndpoint {
+
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+
+    /**
+     * JDK events recording the process environment, disabled in every recording.
+     */
+    static final List<String> ENVIRONMENT_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+
+    private final Duration defaultDuration;
+    private final Duration maxDuration;
+    private final AtomicBoolean recording = new AtomicBoolean();
+
+    public FlightRecordingEndpoint(@Value("${app.flight-recording.default-duration:30s}") Duration defaultDuration,
+                                   @Value("${app.flight-recording.max-duration:5m}") Duration maxDuration) {
+        this.defaultDuration = defaultDuration;
+        this.maxDuration = maxDuration;
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Resource> record(@Nullable Duration duration, @Nullable String settings) {
+        Duration length = duration != null ? duration : defaultDuration;
+        String configuration = settings != null ? settings : "default";
+        if (length.isNegative() || length.isZero() || length.compareTo(maxDuration) > 0
+                || !SETTINGS.contains(configuration)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        if (!recording.compareAndSet(false, true)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+        try {
+            Path file = recordToFile(length, configuration);
+            return new WebEndpointResponse<>(
+                    new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Flight recording failed", e);
+        } finally {
+            recording.set(false);
+        }
+    }
+
+    private Path recordToFile(Duration duration, String settings) throws IOException, InterruptedException {
+        Path file = Files.createTempFile("account-", ".jfr");
+        try (Recording jfr = new Recording(Configuration.getConfiguration(settings))) {
+            jfr.setName("account-on-demand");
+            jfr.setToDisk(true);
+            ENVIRONMENT_EVENTS.forEach(jfr::disable);
+            log.info("Flight recording started for {} with {} settings", duration, settings);
+            jfr.start();
+            Thread.sleep(duration.toMillis());
+            jfr.stop();
+            jfr.dump(file);
+            log.info("Flight recording written ({} bytes)", Files.size(file));
+            return file;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        } catch (ParseException e) {
+            Files.deleteIfExists(file);
+            throw new IllegalStateException("Invalid JFR settings " + settings, e);
+        }
+    }
+}
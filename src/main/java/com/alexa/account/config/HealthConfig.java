@@ -0,0 +1,55 @@
+package com.alexa.account.config;
+
+import com.alexa.account.health.BackgroundWorkersHealthIndicator;
+import com.alexa.account.health.CachedHealthIndicator;
+import com.alexa.account.health.DatabaseHealthIndicator;
+import com.alexa.account.health.UploadStorageHealthIndicator;
+import com.alexa.account.outbox.OutboxRelay;
+import com.alexa.account.service.SubmissionWorker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Health indicators of the readiness group (/actuator/health/readiness), each cached for app.health.cache-ttl.
+ * Indicator names come from the bean names without the HealthIndicator suffix; {@code db} replaces Spring Boot's
+ * default database indicator.
+ */
+@Configuration
+public class HealthConfig {
+
+    private final Duration cacheTtl;
+
+    public HealthConfig(@Value("${app.health.cache-ttl:5s}") Duration cacheTtl) {
+        this.cacheTtl = cacheTtl;
+    }
+
+    @Bean
+    public HealthIndicator dbHealthIndicator(DataSource dataSource) {
+        return new CachedHealthIndicator(new DatabaseHealthIndicator(dataSource), cacheTtl);
+    }
+
+    @Bean
+    public HealthIndicator uploadStorageHealthIndicator(
+            @Value("${app.upload.dir:./uploads}") String uploadDir,
+            @Value("${app.health.upload-storage.min-free-space:100MB}") DataSize minFreeSpace,
+            @Value("${app.health.upload-storage.max-write-latency:500ms}") Duration maxWriteLatency) {
+        return new CachedHealthIndicator(new UploadStorageHealthIndicator(
+                Paths.get(uploadDir).toAbsolutePath().normalize(), minFreeSpace, maxWriteLatency), cacheTtl);
+    }
+
+    @Bean
+    public HealthIndicator backgroundWorkersHealthIndicator(SubmissionWorker submissionWorker,
+                                                            ThreadPoolTaskScheduler taskScheduler,
+                                                            OutboxRelay outboxRelay) {
+        return new CachedHealthIndicator(
+                new BackgroundWorkersHealthIndicator(submissionWorker, taskScheduler, outboxRelay), cacheTtl);
+    }
+}
@@ -0,0 +1,35 @@
+package com.alexa.account.config;
+
+import com.alexa.account.util.RequestTiming;
+import org.hibernate.SessionEventListener;
+
+/**
+ * Records the JDBC statements and batches of a Hibernate session as the {@code db} stage of
+ * {@link RequestTiming}. Hibernate creates one listener per session (hibernate.session.events.auto),
+ * so the start times need no synchronization.
+ */
+public class JdbcTimingSessionListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = RequestTiming.begin();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTiming.end(RequestTiming.Stage.DB, statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = RequestTiming.begin();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTiming.end(RequestTiming.Stage.DB, batchStart);
+    }
+}
@@ -0,0 +1,46 @@
+package com.alexa.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Per-client rate limits (app.rate-limit).
+ *
+ * @param enabled whether requests are rate limited
+ * @param maxClients maximum number of clients tracked per route (least recently seen are dropped first)
+ * @param idleTimeout time after which a client without requests is forgotten
+ * @param apiKeyHeader header carrying the API key of partner clients
+ * @param apiKeys known API keys, limited per key instead of per IP address
+ * @param routes the limited routes; the first route matching a request applies
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maxClients,
+        @DefaultValue("10m") Duration idleTimeout,
+        @DefaultValue("X-API-Key") String apiKeyHeader,
+        @DefaultValue List<String> apiKeys,
+        @DefaultValue List<Route> routes
+) {
+
+    /**
+     * A rate limited route.
+     *
+     * @param name name used in logs
+     * @param path path pattern (e.g., /api/v1/validation/**)
+     * @param methods HTTP methods, all methods when empty
+     * @param capacity burst size, the number of requests allowed at once
+     * @param refillInterval time to refill one request
+     */
+    public record Route(
+            String name,
+            String path,
+            @DefaultValue List<String> methods,
+            int capacity,
+            Duration refillInterval
+    ) {
+    }
+}
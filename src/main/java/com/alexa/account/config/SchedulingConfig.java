@@ -0,0 +1,25 @@
+package com.alexa.account.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Enables @Scheduled background jobs (e.g., reloading reference data).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * Shared scheduler for @Scheduled jobs and delayed work such as coalesced WebSocket validation.
+     * Declared explicitly because WebSocket support registers a scheduler bean of its own, which would
+     * otherwise replace Spring Boot's default one. Sized with spring.task.scheduling.pool.size.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.alexa.account.config;
+
+import com.alexa.account.util.RequestTiming;
+import jakarta.servlet.http.HttpServletRequest;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+
+/**
+ * Stages of {@link RequestTiming} that are not timed in the services themselves: multipart parsing
+ * (a timed replacement of Spring Boot's multipart resolver) and JDBC statements (a Hibernate session listener).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.server-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingConfig {
+
+    @Bean(name = DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+    public StandardServletMultipartResolver multipartResolver(MultipartProperties multipartProperties) {
+        TimedMultipartResolver resolver = new TimedMultipartResolver();
+        resolver.setResolveLazily(multipartProperties.isResolveLazily());
+        resolver.setStrictServletCompliance(multipartProperties.isStrictServletCompliance());
+        return resolver;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcTimingCustomizer() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                JdbcTimingSessionListener.class.getName());
+    }
+
+    /**
+     * Times reading and parsing the multipart body (the container parses the parts on first access).
+     */
+    static class TimedMultipartResolver extends StandardServletMultipartResolver {
+
+        @Override
+        public MultipartHttpServletRequest resolveMultipart(HttpServletRequest request) {
+            long start = RequestTiming.begin();
+            try {
+                return super.resolveMultipart(request);
+            } finally {
+                RequestTiming.end(RequestTiming.Stage.MULTIPART, start);
+            }
+        }
+    }
+}
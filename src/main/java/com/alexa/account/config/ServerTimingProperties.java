@@ -0,0 +1,19 @@
+package com.alexa.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Per-request stage timing of API requests (app.server-timing).
+ *
+ * @param enabled whether stages are timed
+ * @param header whether the timings are sent in a Server-Timing response header
+ * @param log whether one request_timing line is logged per request
+ */
+@ConfigurationProperties(prefix = "app.server-timing")
+public record ServerTimingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("true") boolean header,
+        @DefaultValue("true") boolean log
+) {
+}
@@ -0,0 +1,117 @@
+package com.alexa.account.config;
+
+import com.alexa.account.dto.StartupReport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Startup report at {@code /actuator/startupreport}, built from the steps recorded by the
+ * BufferingApplicationStartup of {@link com.alexa.account.AccountApplication}, and logged once the application
+ * is ready so every build and deployment shows it. The full timeline stays available at {@code /actuator/startup}.
+ *
+ * Bean steps nest (creating a bean creates its dependencies first), so beans are ranked by self time,
+ * the time not spent in nested steps; e.g. Hibernate schema update shows up on entityManagerFactory.
+ */
+@Component
+@Endpoint(id = "startupreport")
+@Slf4j
+public class StartupReportEndpoint {
+
+    static final String BEAN_INSTANTIATE = "spring.beans.instantiate";
+
+    private final ConfigurableApplicationContext context;
+    private final int top;
+
+    public StartupReportEndpoint(ConfigurableApplicationContext context,
+                                 @Value("${app.startup-report.top:10}") int top) {
+        this.context = context;
+        this.top = top;
+    }
+
+    @ReadOperation
+    public StartupReport report() {
+        if (context.getApplicationStartup() instanceof BufferingApplicationStartup startup) {
+            return report(startup.getBufferedTimeline(), top);
+        }
+        return new StartupReport(0, 0, List.of(), List.of());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logReport() {
+        StartupReport report = report();
+        if (report.recordedSteps() == 0) {
+            return;
+        }
+        log.info("Startup took {} ms ({} steps recorded); slowest beans: {}; slowest phases: {}",
+                report.totalMs(), report.recordedSteps(),
+                report.slowestBeans().stream()
+                        .map(step -> step.beanName() + " " + step.selfMs() + " ms")
+                        .collect(Collectors.joining(", ")),
+                report.slowestPhases().stream()
+                        .map(step -> step.name() + " " + step.durationMs() + " ms")
+                        .collect(Collectors.joining(", ")));
+    }
+
+    static StartupReport report(StartupTimeline timeline, int top) {
+        List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+        Map<Long, Duration> nested = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                nested.merge(parentId, event.getDuration(), Duration::plus);
+            }
+        }
+
+        List<StartupReport.Step> steps = events.stream()
+                .map(event -> toStep(event, nested.getOrDefault(event.getStartupStep().getId(), Duration.ZERO)))
+                .toList();
+        long totalMs = events.stream()
+                .map(StartupTimeline.TimelineEvent::getEndTime)
+                .max(Comparator.naturalOrder())
+                .map(end -> Duration.between(timeline.getStartTime(), end).toMillis())
+                .orElse(0L);
+
+        return new StartupReport(totalMs, events.size(),
+                steps.stream()
+                        .filter(step -> step.beanName() == null)
+                        .sorted(Comparator.comparingLong(StartupReport.Step::durationMs).reversed())
+                        .limit(top)
+                        .toList(),
+                steps.stream()
+                        .filter(step -> step.beanName() != null)
+                        .sorted(Comparator.comparingLong(StartupReport.Step::selfMs).reversed())
+                        .limit(top)
+                        .toList());
+    }
+
+    private static StartupReport.Step toStep(StartupTimeline.TimelineEvent event, Duration nested) {
+        StartupStep step = event.getStartupStep();
+        String beanName = null;
+        if (BEAN_INSTANTIATE.equals(step.getName())) {
+            for (StartupStep.Tag tag : step.getTags()) {
+                if ("beanName".equals(tag.getKey())) {
+                    beanName = tag.getValue();
+                }
+            }
+        }
+        long durationMs = event.getDuration().toMillis();
+        return new StartupReport.Step(step.getName(), beanName, durationMs,
+                Math.max(0, event.getDuration().minus(nested).toMillis()));
+    }
+}
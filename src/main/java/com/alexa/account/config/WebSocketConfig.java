@@ -0,0 +1,26 @@
+package com.alexa.account.config;
+
+import com.alexa.account.controller.FieldValidationWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * WebSocket endpoints, versioned like the REST API.
+ * Accepts connections from the same frontend origins as {@link CorsConfig}.
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final FieldValidationWebSocketHandler fieldValidationWebSocketHandler;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(fieldValidationWebSocketHandler, "/ws/v1/validation")
+                .setAllowedOrigins(CorsConfig.ALLOWED_ORIGINS);
+    }
+}
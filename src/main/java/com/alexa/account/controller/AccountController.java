@@ -1,15 +1,38 @@
 package com.alexa.account.controller;
 
+import com.alexa.account.config.BinaryContentConfig;
 import com.alexa.account.dto.*;
+import com.alexa.account.exception.InvalidRequestException;
+import com.alexa.account.model.AccountStatus;
+import com.alexa.account.model.AccountType;
 import com.alexa.account.service.AccountService;
+import com.alexa.account.service.IDraftAutosaveService;
+import com.alexa.account.service.IIdempotencyService;
+import com.alexa.account.service.IdempotencyService;
+import com.alexa.account.service.SubmissionWorker;
+import com.alexa.account.util.JsonMergePatch;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.lang.reflect.RecordComponent;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
 /**
  * Account Controller - API Version 1
  * Handles account registration, draft operations, and retrieval.
@@ -19,27 +42,57 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class AccountController {
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    static final String PREFER_HEADER = "Prefer";
+    static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+    static final String RESPOND_ASYNC = "respond-async";
+
+    private static final Set<String> SELECTABLE_FIELDS = Arrays.stream(AccountResponseDTO.class.getRecordComponents())
+            .map(RecordComponent::getName)
+            .collect(Collectors.toUnmodifiableSet());
+
     private final AccountService accountService;
+    private final IIdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+    private final SubmissionWorker submissionWorker;
+    private final IDraftAutosaveService draftAutosaveService;
 
     /**
      * Register a new account or submit existing draft.
      * - If requestId is provided: retrieves existing draft from database and submits it
      * - If requestId is NOT provided: creates new account registration
+     * - With "Prefer: respond-async", a new registration is validated, queued and answered with 202;
+     *   progress is available through GET /{requestId}. When the queue is full it is submitted directly.
      */
     @PostMapping(value = "/register", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<AccountResponseDTO> registerOrSubmit(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestHeader(value = PREFER_HEADER, required = false) String prefer,
             @RequestParam(value = "requestId", required = false) String requestId,
             @RequestPart("request") @Valid AccountRequestDTO requestDTO,
             @RequestPart(value = "idDocument", required = false) MultipartFile idDocument) {
 
-        AccountResponseDTO response = accountService.registerOrSubmit(requestId, requestDTO, idDocument);
+        boolean newRegistration = requestId == null || requestId.trim().isEmpty();
+        Supplier<IdempotentResponse> register = () -> {
+            if (newRegistration && prefersAsync(prefer) && submissionWorker.isAvailable()) {
+                AccountResponseDTO accepted = accountService.acceptRegistration(requestDTO, idDocument);
+                submissionWorker.submit(accepted.requestId());
+                return new IdempotentResponse(HttpStatus.ACCEPTED.value(), accepted, false);
+            }
 
-        // Return 201 for new registration, 200 for draft submission
-        if (requestId == null || requestId.trim().isEmpty()) {
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
-        } else {
-            return ResponseEntity.ok(response);
-        }
+            AccountResponseDTO response = accountService.registerOrSubmit(requestId, requestDTO, idDocument);
+
+            // Return 201 for new registration, 200 for draft submission
+            if (newRegistration) {
+                return new IdempotentResponse(HttpStatus.CREATED.value(), response, false);
+            } else {
+                return new IdempotentResponse(HttpStatus.OK.value(), response, false);
+            }
+        };
+        return idempotent(idempotencyKey,
+                () -> IdempotencyService.fingerprint("register", requestId, requestDTO, describe(idDocument)),
+                register);
     }
 
     /**
@@ -47,10 +100,13 @@ public class AccountController {
      */
     @PostMapping(value = "/draft", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<AccountResponseDTO> saveDraft(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @RequestPart("request") @Valid DraftRequestDTO requestDTO,
             @RequestPart(value = "idDocument", required = false) MultipartFile idDocument) {
-        AccountResponseDTO response = accountService.saveDraft(requestDTO, idDocument);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return idempotent(idempotencyKey,
+                () -> IdempotencyService.fingerprint("draft", requestDTO, describe(idDocument)),
+                () -> new IdempotentResponse(HttpStatus.CREATED.value(),
+                        accountService.saveDraft(requestDTO, idDocument), false));
     }
 
     /**
@@ -65,6 +121,59 @@ public class AccountController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Partially update a draft with a JSON Merge Patch (RFC 7396).
+     * Only the fields in the patch are changed and validated, together with the draft minimums.
+     */
+    @PatchMapping(value = "/{requestId}", consumes = JsonMergePatch.MEDIA_TYPE)
+    public ResponseEntity<AccountResponseDTO> patchDraft(
+            @PathVariable String requestId,
+            @RequestBody JsonNode patch) {
+        return ResponseEntity.ok(accountService.patchDraft(requestId, patch));
+    }
+
+    /**
+     * Autosave a draft (JSON, CBOR or Smile, without ID document). The state is buffered and written in the
+     * background; a later update or submission of the draft starts from the latest autosaved state.
+     */
+    @PutMapping(value = "/{requestId}/autosave", consumes = {MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, BinaryContentConfig.SMILE_VALUE})
+    public ResponseEntity<Void> autosaveDraft(
+            @PathVariable String requestId,
+            @RequestBody @Valid DraftRequestDTO requestDTO) {
+        draftAutosaveService.autosave(requestId, requestDTO);
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * List account requests for the back office, newest first.
+     * Pages are requested with the nextCursor of the previous page; fields selects the returned
+     * properties (requestId is always included).
+     */
+    @GetMapping
+    public ResponseEntity<AccountPageDTO<?>> listAccounts(
+            @RequestParam(value = "status", required = false) AccountStatus status,
+            @RequestParam(value = "accountType", required = false) AccountType accountType,
+            @RequestParam(value = "createdFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(value = "createdTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @RequestParam(value = "fields", required = false) Set<String> fields) {
+        Set<String> selected = selectedFields(fields);
+        AccountPageDTO<AccountResponseDTO> page = accountService.listAccounts(
+                new AccountSearchCriteria(status, accountType, createdFrom, createdTo), cursor, limit);
+        if (selected == null) {
+            return ResponseEntity.ok(page);
+        }
+
+        List<ObjectNode> items = page.items().stream()
+                .map(item -> objectMapper.<ObjectNode>valueToTree(item).retain(selected))
+                .toList();
+        return ResponseEntity.ok(new AccountPageDTO<>(items, page.nextCursor()));
+    }
+
     /**
      * Get account request by request ID.
      */
@@ -73,4 +182,66 @@ public class AccountController {
         AccountResponseDTO response = accountService.getByRequestId(requestId);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Execute the request once per Idempotency-Key; without a key the request is simply executed.
+     * Replays return the stored response with the Idempotent-Replayed header.
+     */
+    private ResponseEntity<AccountResponseDTO> idempotent(String idempotencyKey, Supplier<String> fingerprint,
+                                                          Supplier<IdempotentResponse> action) {
+        IdempotentResponse response = idempotencyKey == null
+                ? action.get()
+                : idempotencyService.execute(idempotencyKey, fingerprint.get(), action);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(response.status());
+        if (response.replayed()) {
+            builder.header(IDEMPOTENT_REPLAYED_HEADER, "true");
+        }
+        if (response.status() == HttpStatus.ACCEPTED.value()) {
+            builder.header(PREFERENCE_APPLIED_HEADER, RESPOND_ASYNC)
+                    .location(URI.create("/api/v1/accounts/" + response.body().requestId()));
+        }
+        return builder.body(response.body());
+    }
+
+    private static boolean prefersAsync(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        return Arrays.stream(prefer.split(","))
+                .map(preference -> preference.split(";", 2)[0].trim())
+                .anyMatch(RESPOND_ASYNC::equalsIgnoreCase);
+    }
+
+    /**
+     * Validate the requested sparse fields.
+     *
+     * @return the fields to return, or null to return all fields
+     */
+    private static Set<String> selectedFields(Set<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return null;
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("requestId");
+        for (String field : fields) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!SELECTABLE_FIELDS.contains(name)) {
+                throw new InvalidRequestException("Unknown field: " + name + ". Supported fields: "
+                        + String.join(", ", SELECTABLE_FIELDS.stream().sorted().toList()));
+            }
+            selected.add(name);
+        }
+        return selected;
+    }
+
+    private static String describe(MultipartFile file) {
+        return file == null || file.isEmpty()
+                ? null
+                : file.getOriginalFilename() + ":" + file.getContentType() + ":" + file.getSize()
+                        + ":" + IdempotencyService.contentDigest(file);
+    }
 }
@@ -0,0 +1,42 @@
+package com.alexa.account.controller;
+
+import com.alexa.account.service.IAddressSuggestionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Address Controller - API Version 1
+ * Provides type-ahead suggestions for address fields.
+ */
+@RestController
+@RequestMapping("/api/v1/address")
+@RequiredArgsConstructor
+public class AddressController {
+
+    private final IAddressSuggestionService addressSuggestionService;
+
+    /**
+     * Suggest city or street names starting with a prefix, ignoring case and diacritics.
+     *
+     * @param field the field (city or streetName)
+     * @param prefix the typed prefix
+     * @param limit the maximum number of suggestions (1 to 20, default 10)
+     * @return suggestions ordered by relevance
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<String>> suggest(
+            @RequestParam(required = false) String field,
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<String> suggestions = addressSuggestionService.suggest(field, prefix, limit);
+        // Reference data only changes with a redeploy, so browsers may reuse answers per prefix
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePublic())
+                .body(suggestions);
+    }
+}
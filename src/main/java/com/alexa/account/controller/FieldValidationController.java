@@ -1,5 +1,6 @@
 package com.alexa.account.controller;
 
+import com.alexa.account.dto.AddressDTO;
 import com.alexa.account.dto.FieldValidationRequest;
 import com.alexa.account.dto.FieldValidationResponse;
 import com.alexa.account.service.FieldValidationService;
@@ -74,4 +75,12 @@ public class FieldValidationController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Validate a complete address (post code existence, house number range and city).
+     */
+    @PostMapping("/address")
+    public ResponseEntity<FieldValidationResponse> validateAddress(@RequestBody AddressDTO address) {
+        FieldValidationResponse response = fieldValidationService.validateAddress(address);
+        return ResponseEntity.ok(response);
+    }
 }
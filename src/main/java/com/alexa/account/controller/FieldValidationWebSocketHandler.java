@@ -0,0 +1,162 @@
+package com.alexa.account.controller;
+
+import com.alexa.account.dto.FieldValidationRequest;
+import com.alexa.account.dto.FieldValidationResponse;
+import com.alexa.account.dto.FieldValidationUpdate;
+import com.alexa.account.service.IFieldValidationService;
+import com.alexa.account.validation.FieldRule;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Field Validation WebSocket - API Version 1
+ * Live alternative to the per-field POST endpoints of {@link FieldValidationController}.
+ *
+ * The client sends {@link FieldValidationRequest} messages and receives a {@link FieldValidationUpdate}
+ * per field. Updates for the same field arriving within the debounce window are coalesced, so only
+ * the latest value of each field is validated.
+ */
+@Component
+@Slf4j
+public class FieldValidationWebSocketHandler extends TextWebSocketHandler {
+
+    private static final int SEND_TIME_LIMIT_MS = 5_000;
+    private static final int SEND_BUFFER_LIMIT_BYTES = 64 * 1024;
+
+    private static final FieldValidationResponse INVALID_MESSAGE = new FieldValidationResponse(false,
+            "Invalid message. Expected {\"fieldName\": \"...\", \"fieldValue\": \"...\"}");
+
+    private final IFieldValidationService fieldValidationService;
+    private final ObjectMapper objectMapper;
+    private final TaskScheduler taskScheduler;
+    private final Duration debounce;
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+
+    public FieldValidationWebSocketHandler(IFieldValidationService fieldValidationService,
+                                           ObjectMapper objectMapper,
+                                           @Qualifier("taskScheduler") TaskScheduler taskScheduler,
+                                           @Value("${app.validation.websocket.debounce:150ms}") Duration debounce) {
+        this.fieldValidationService = fieldValidationService;
+        this.objectMapper = objectMapper;
+        this.taskScheduler = taskScheduler;
+        this.debounce = debounce;
+    }
+
+    /**
+     * Number of open live validation sessions.
+     */
+    public int activeSessions() {
+        return sessions.size();
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        // Validation results are sent from scheduler threads, so sends must be serialized per session
+        WebSocketSession concurrentSession =
+                new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, SEND_BUFFER_LIMIT_BYTES);
+        sessions.put(session.getId(), new SessionState(concurrentSession));
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        SessionState state = sessions.get(session.getId());
+        if (state == null) {
+            return;
+        }
+
+        FieldValidationRequest request = parse(message.getPayload());
+        if (request == null) {
+            send(state, new FieldValidationUpdate(null, null, INVALID_MESSAGE));
+            return;
+        }
+        FieldRule rule = FieldRule.forFieldName(request.fieldName());
+        if (rule == null) {
+            // Unknown fields are answered directly, so pending updates stay bounded by the rule catalogue
+            send(state, new FieldValidationUpdate(request.fieldName(), request.fieldValue(),
+                    fieldValidationService.validateField(request)));
+            return;
+        }
+
+        state.pending.put(rule, request.fieldValue() == null ? "" : request.fieldValue());
+        if (state.flushScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> flush(state), Instant.now().plus(debounce));
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        SessionState state = sessions.remove(session.getId());
+        if (state != null) {
+            state.pending.clear();
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("Transport error on validation session {}: {}", session.getId(), exception.getMessage());
+    }
+
+    /**
+     * Validate the latest value of every field updated since the previous flush.
+     */
+    private void flush(SessionState state) {
+        // Reset first: an update arriving during the flush schedules the next one
+        state.flushScheduled.set(false);
+        for (FieldRule rule : state.pending.keySet()) {
+            String value = state.pending.remove(rule);
+            if (value != null) {
+                FieldValidationResponse result =
+                        fieldValidationService.validateField(new FieldValidationRequest(rule.fieldName(), value));
+                send(state, new FieldValidationUpdate(rule.fieldName(), value, result));
+            }
+        }
+    }
+
+    private FieldValidationRequest parse(String payload) {
+        try {
+            return objectMapper.readValue(payload, FieldValidationRequest.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private void send(SessionState state, FieldValidationUpdate update) {
+        if (!state.session.isOpen()) {
+            return;
+        }
+        try {
+            state.session.sendMessage(new TextMessage(objectMapper.writeValueAsString(update)));
+        } catch (IOException | RuntimeException e) {
+            // Includes slow clients exceeding the send limits; the decorator closes those sessions
+            log.debug("Failed to send validation result on session {}: {}", state.session.getId(), e.getMessage());
+        }
+    }
+
+    private static final class SessionState {
+
+        private final WebSocketSession session;
+        private final Map<FieldRule, String> pending = new ConcurrentHashMap<>();
+        private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+        private SessionState(WebSocketSession session) {
+            this.session = session;
+        }
+    }
+}
@@ -2,6 +2,10 @@ package com.alexa.account.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -18,10 +22,24 @@ import java.util.Map;
 @Tag(name = "Health", description = "Health check endpoints")
 public class HealthController {
 
+    private static final String READINESS_GROUP = "readiness";
+
+    private final HealthEndpoint healthEndpoint;
+
+    public HealthController(HealthEndpoint healthEndpoint) {
+        this.healthEndpoint = healthEndpoint;
+    }
+
+    /**
+     * Readiness of the application: database, upload storage and background workers
+     * (the readiness health group, cached for app.health.cache-ttl).
+     */
     @GetMapping("/health")
-    @Operation(summary = "Health check", description = "Returns the health status of the application")
+    @Operation(summary = "Health check", description = "Returns the readiness status of the application")
     public ResponseEntity<Map<String, String>> getHealth() {
-        return ResponseEntity.ok(Map.of("status", "UP"));
+        HealthComponent readiness = healthEndpoint.healthForPath(READINESS_GROUP);
+        Status status = readiness == null ? Status.UNKNOWN : readiness.getStatus();
+        HttpStatus httpStatus = Status.UP.equals(status) ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(httpStatus).body(Map.of("status", status.getCode()));
     }
 }
-
@@ -0,0 +1,15 @@
+package com.alexa.account.dto;
+
+import java.util.List;
+
+/**
+ * One page of a listing.
+ *
+ * @param items the items of the page, newest first
+ * @param nextCursor opaque cursor to request the next page, or null on the last page
+ */
+public record AccountPageDTO<T>(
+        List<T> items,
+        String nextCursor
+) {
+}
@@ -0,0 +1,22 @@
+package com.alexa.account.dto;
+
+import com.alexa.account.model.AccountStatus;
+import com.alexa.account.model.AccountType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters for listing account requests. Null values do not filter.
+ *
+ * @param status the request status
+ * @param accountType the account type
+ * @param createdFrom lower bound of the creation time (inclusive)
+ * @param createdTo upper bound of the creation time (exclusive)
+ */
+public record AccountSearchCriteria(
+        AccountStatus status,
+        AccountType accountType,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo
+) {
+}
@@ -0,0 +1,19 @@
+package com.alexa.account.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Payload of the AccountSubmitted outbox event, published when a registration is submitted.
+ *
+ * @param requestId the request ID
+ * @param submittedAt when the request was submitted
+ * @param account the submitted request
+ */
+public record AccountSubmittedEvent(
+        String requestId,
+        LocalDateTime submittedAt,
+        AccountResponseDTO account
+) {
+
+    public static final String TYPE = "AccountSubmitted";
+}
@@ -0,0 +1,12 @@
+package com.alexa.account.dto;
+
+/**
+ * Result pushed over the live validation channel for the latest value of a field.
+ * The validated value is echoed so the client can ignore results for values it has since replaced.
+ */
+public record FieldValidationUpdate(
+        String fieldName,
+        String fieldValue,
+        FieldValidationResponse result
+) {
+}
@@ -0,0 +1,19 @@
+package com.alexa.account.dto;
+
+/**
+ * Outcome of a request executed with an Idempotency-Key.
+ *
+ * @param status the HTTP status of the original execution
+ * @param body the response of the original execution
+ * @param replayed true if the response was replayed instead of executing the request
+ */
+public record IdempotentResponse(
+        int status,
+        AccountResponseDTO body,
+        boolean replayed
+) {
+
+    public IdempotentResponse asReplay() {
+        return replayed ? this : new IdempotentResponse(status, body, true);
+    }
+}
@@ -0,0 +1,23 @@
+package com.alexa.account.dto;
+
+import java.util.List;
+
+/**
+ * Summary of the recorded startup steps: total time, the slowest phases and the slowest bean initialisations.
+ * Bean times are inclusive (durationMs) and exclusive of nested bean creation (selfMs).
+ */
+public record StartupReport(
+        long totalMs,
+        int recordedSteps,
+        List<Step> slowestPhases,
+        List<Step> slowestBeans
+) {
+
+    public record Step(
+            String name,
+            String beanName,
+            long durationMs,
+            long selfMs
+    ) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.alexa.account.exception;
+
+/**
+ * Request conflicting with one still being processed, answered with 409. Stackless like
+ * {@link InvalidRequestException}: the client can retry it as is once the other request completes.
+ */
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -1,67 +1,119 @@
 package com.alexa.account.exception;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Maps exceptions to RFC 7807 problem responses (application/problem+json).
+ *
+ * Each error type has a {@link ProblemTemplate} with its status, title and api.errors counter, so a
+ * burst of 404s or 400s (e.g. request ID enumeration) costs one small object per response.
+ */
 @RestControllerAdvice
+@Slf4j
 public class GlobalExceptionHandler {
 
+    static final String FIELD_ERRORS = "fieldErrors";
+
+    private final ProblemTemplate validationFailed;
+    private final ProblemTemplate notFound;
+    private final ProblemTemplate badRequest;
+    private final ProblemTemplate conflict;
+    private final ProblemTemplate unprocessable;
+    private final ProblemTemplate typeMismatch;
+    private final ProblemTemplate malformedBody;
+    private final ProblemTemplate internalError;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.validationFailed = new ProblemTemplate(meterRegistry, "validation_failed", HttpStatus.BAD_REQUEST,
+                "Validation Failed");
+        this.notFound = new ProblemTemplate(meterRegistry, "not_found", HttpStatus.NOT_FOUND, "Not Found");
+        this.badRequest = new ProblemTemplate(meterRegistry, "bad_request", HttpStatus.BAD_REQUEST, "Bad Request");
+        this.conflict = new ProblemTemplate(meterRegistry, "conflict", HttpStatus.CONFLICT, "Conflict");
+        this.unprocessable = new ProblemTemplate(meterRegistry, "unprocessable", HttpStatus.UNPROCESSABLE_ENTITY,
+                "Unprocessable Entity");
+        this.typeMismatch = new ProblemTemplate(meterRegistry, "type_mismatch", HttpStatus.BAD_REQUEST,
+                "Bad Request");
+        this.malformedBody = new ProblemTemplate(meterRegistry, "malformed_body", HttpStatus.BAD_REQUEST,
+                "Bad Request");
+        this.internalError = new ProblemTemplate(meterRegistry, "internal_error", HttpStatus.INTERNAL_SERVER_ERROR,
+                "Internal Server Error");
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException ex) {
-        Map<String, Object> response = new HashMap<>();
+    public ResponseEntity<ProblemDetail> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> fieldErrors = new HashMap<>();
-
         for (FieldError error : ex.getBindingResult().getFieldErrors()) {
             fieldErrors.put(error.getField(), error.getDefaultMessage());
         }
+        return fieldErrors(fieldErrors);
+    }
 
-        response.put("timestamp", LocalDateTime.now());
-        response.put("status", HttpStatus.BAD_REQUEST.value());
-        response.put("error", "Validation Failed");
-        response.put("fieldErrors", fieldErrors);
-
-        return ResponseEntity.badRequest().body(response);
+    @ExceptionHandler(InvalidFieldsException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidFieldsException(InvalidFieldsException ex) {
+        return fieldErrors(ex.getFieldErrors());
     }
 
     @ExceptionHandler(ResourceNotFoundException.class)
-    public ResponseEntity<Map<String, Object>> handleResourceNotFoundException(ResourceNotFoundException ex) {
-        Map<String, Object> response = new HashMap<>();
-        response.put("timestamp", LocalDateTime.now());
-        response.put("status", HttpStatus.NOT_FOUND.value());
-        response.put("error", "Not Found");
-        response.put("message", ex.getMessage());
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    public ResponseEntity<ProblemDetail> handleResourceNotFoundException(ResourceNotFoundException ex) {
+        return respond(notFound, ex.getMessage());
     }
 
     @ExceptionHandler(InvalidRequestException.class)
-    public ResponseEntity<Map<String, Object>> handleInvalidRequestException(InvalidRequestException ex) {
-        Map<String, Object> response = new HashMap<>();
-        response.put("timestamp", LocalDateTime.now());
-        response.put("status", HttpStatus.BAD_REQUEST.value());
-        response.put("error", "Bad Request");
-        response.put("message", ex.getMessage());
-
-        return ResponseEntity.badRequest().body(response);
+    public ResponseEntity<ProblemDetail> handleInvalidRequestException(InvalidRequestException ex) {
+        return respond(badRequest, ex.getMessage());
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ProblemDetail> handleConflictException(ConflictException ex) {
+        return respond(conflict, ex.getMessage());
+    }
+
+    @ExceptionHandler(UnprocessableRequestException.class)
+    public ResponseEntity<ProblemDetail> handleUnprocessableRequestException(UnprocessableRequestException ex) {
+        return respond(unprocessable, ex.getMessage());
+    }
+
+    @ExceptionHandler(StorageException.class)
+    public ResponseEntity<ProblemDetail> handleStorageException(StorageException ex) {
+        log.error(ex.getMessage(), ex);
+        return respond(internalError, ex.getMessage());
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ProblemDetail> handleTypeMismatchException(MethodArgumentTypeMismatchException ex) {
+        return respond(typeMismatch, "Invalid value '" + ex.getValue() + "' for parameter " + ex.getName());
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ProblemDetail> handleMessageNotReadableException(HttpMessageNotReadableException ex) {
+        return respond(malformedBody, "Malformed request body");
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
-        Map<String, Object> response = new HashMap<>();
-        response.put("timestamp", LocalDateTime.now());
-        response.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
-        response.put("error", "Internal Server Error");
-        response.put("message", ex.getMessage());
-
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+    public ResponseEntity<ProblemDetail> handleGenericException(Exception ex) {
+        return respond(internalError, ex.getMessage());
+    }
+
+    private ResponseEntity<ProblemDetail> fieldErrors(Map<String, String> fieldErrors) {
+        ProblemDetail problem = validationFailed.problem(null);
+        problem.setProperty(FIELD_ERRORS, fieldErrors);
+        return ResponseEntity.status(validationFailed.status()).body(problem);
     }
-}
 
+    private static ResponseEntity<ProblemDetail> respond(ProblemTemplate template, String detail) {
+        return ResponseEntity.status(template.status()).body(template.problem(detail));
+    }
+}
@@ -0,0 +1,21 @@
+package com.alexa.account.exception;
+
+import java.util.Map;
+
+/**
+ * Validation failure detected in the service layer, reported like a failed {@code @Valid} request body.
+ * Stackless like {@link InvalidRequestException}.
+ */
+public class InvalidFieldsException extends RuntimeException {
+
+    private final Map<String, String> fieldErrors;
+
+    public InvalidFieldsException(Map<String, String> fieldErrors) {
+        super("Validation failed for " + fieldErrors.keySet(), null, false, false);
+        this.fieldErrors = Map.copyOf(fieldErrors);
+    }
+
+    public Map<String, String> getFieldErrors() {
+        return fieldErrors;
+    }
+}
@@ -1,8 +1,11 @@
 package com.alexa.account.exception;
 
+/**
+ * Invalid client input, answered with 400. Thrown for every rejected request, so it is stackless:
+ * the message identifies the cause and filling in the stack trace would only add cost.
+ */
 public class InvalidRequestException extends RuntimeException {
     public InvalidRequestException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
-
@@ -0,0 +1,60 @@
+package com.alexa.account.exception;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+/**
+ * Fixed status, title and error counter of one error type, prepared once at startup.
+ *
+ * Spring sets {@code instance} on the returned {@link ProblemDetail}, so every response gets its own
+ * instance; only the per-request detail is filled in.
+ */
+public final class ProblemTemplate {
+
+    public static final String ERRORS_METRIC = "api.errors";
+
+    private final HttpStatus status;
+    private final String title;
+    private final Counter counter;
+
+    public ProblemTemplate(MeterRegistry meterRegistry, String type, HttpStatus status, String title) {
+        this.status = status;
+        this.title = title;
+        this.counter = Counter.builder(ERRORS_METRIC)
+                .tag("type", type)
+                .tag("status", Integer.toString(status.value()))
+                .description("Error responses returned by the API")
+                .register(meterRegistry);
+    }
+
+    public HttpStatus status() {
+        return status;
+    }
+
+    /**
+     * Count the error and create its response body.
+     */
+    public ProblemDetail problem(String detail) {
+        count();
+        return create(detail);
+    }
+
+    /**
+     * Count the error without creating a body, for callers writing a body serialized up front.
+     */
+    public void count() {
+        counter.increment();
+    }
+
+    /**
+     * Create a response body without counting it.
+     */
+    public ProblemDetail create(String detail) {
+        ProblemDetail problem = ProblemDetail.forStatus(status);
+        problem.setTitle(title);
+        problem.setDetail(detail);
+        return problem;
+    }
+}
@@ -1,8 +1,11 @@
 package com.alexa.account.exception;
 
+/**
+ * Unknown resource, answered with 404. Stackless like {@link InvalidRequestException}: lookups of
+ * unknown request IDs are routine and the message identifies the resource.
+ */
 public class ResourceNotFoundException extends RuntimeException {
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
-
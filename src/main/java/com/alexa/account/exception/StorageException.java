@@ -0,0 +1,11 @@
+package com.alexa.account.exception;
+
+/**
+ * Failure to store or spool a document on the server, answered with 500. Unlike the client errors it
+ * keeps its cause and stack trace, which are logged: the message alone does not explain an I/O failure.
+ */
+public class StorageException extends RuntimeException {
+    public StorageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.alexa.account.exception;
+
+/**
+ * Well-formed request that cannot be processed as sent, answered with 422. Stackless like
+ * {@link InvalidRequestException}; the client must change the request before retrying.
+ */
+public class UnprocessableRequestException extends RuntimeException {
+    public UnprocessableRequestException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,167 @@
+package com.alexa.account.filter;
+
+import com.alexa.account.config.ConcurrencyLimitProperties;
+import com.alexa.account.exception.ProblemTemplate;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Sheds excess API load with 503 once the adaptive concurrency limit is reached.
+ *
+ * Account writes (multipart uploads) and all other API requests have separate budgets, so a spike
+ * of registrations cannot starve lookups and real-time validation. Requests are rejected before the
+ * multipart body is parsed, which only happens later in the DispatcherServlet. The 503 problem body
+ * never changes, so it is serialized once.
+ *
+ * The time spent receiving a multipart body is not part of the latency sample: it depends on the
+ * client's upload speed, and slow clients would otherwise shrink the write limit of an idle server.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/";
+    private static final String ACCOUNTS_PREFIX = "/api/v1/accounts";
+    private static final String HEALTH_PREFIX = "/api/v1/health";
+    private static final String MULTIPART_PREFIX = "multipart/";
+
+    private final ConcurrencyLimitProperties properties;
+    private final AdaptiveConcurrencyLimit writeLimit;
+    private final AdaptiveConcurrencyLimit readLimit;
+    private final ProblemTemplate overloaded;
+    private final String retryAfter;
+    private final byte[] overloadedBody;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) throws JsonProcessingException {
+        this.properties = properties;
+        this.writeLimit = create(properties.writes());
+        this.readLimit = create(properties.reads());
+        this.overloaded = new ProblemTemplate(meterRegistry, "overloaded", HttpStatus.SERVICE_UNAVAILABLE,
+                "Service Unavailable");
+        long retryAfterSeconds = Math.max(1, properties.retryAfter().toSeconds());
+        this.retryAfter = Long.toString(retryAfterSeconds);
+        this.overloadedBody = objectMapper.writeValueAsBytes(
+                overloaded.create("Server is busy. Retry after " + retryAfterSeconds + " seconds"));
+    }
+
+    public AdaptiveConcurrencyLimit getWriteLimit() {
+        return writeLimit;
+    }
+
+    public AdaptiveConcurrencyLimit getReadLimit() {
+        return readLimit;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        // Health checks must keep answering, especially under load
+        return !properties.enabled() || !path.startsWith(API_PREFIX) || path.startsWith(HEALTH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimit limit = isWrite(request) ? writeLimit : readLimit;
+        int inFlight = limit.tryAcquire();
+        if (inFlight == 0) {
+            log.debug("Shedding {} {}: concurrency limit {} reached", request.getMethod(), request.getRequestURI(),
+                    limit.getLimit());
+            writeServiceUnavailable(response);
+            return;
+        }
+
+        UploadTimedRequest upload = isMultipart(request) ? new UploadTimedRequest(request) : null;
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(upload != null ? upload : request, response);
+            failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            limit.release(upload != null ? elapsed - upload.getUploadNanos() : elapsed, inFlight, failed);
+        }
+    }
+
+    private static boolean isMultipart(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.regionMatches(true, 0, MULTIPART_PREFIX, 0, MULTIPART_PREFIX.length());
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        boolean writeMethod = "POST".equals(method) || "PUT".equals(method)
+                || "PATCH".equals(method) || "DELETE".equals(method);
+        return writeMethod && request.getRequestURI().startsWith(ACCOUNTS_PREFIX, request.getContextPath().length());
+    }
+
+    private void writeServiceUnavailable(HttpServletResponse response) throws IOException {
+        overloaded.count();
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setContentLength(overloadedBody.length);
+        response.getOutputStream().write(overloadedBody);
+    }
+
+    private static AdaptiveConcurrencyLimit create(ConcurrencyLimitProperties.Budget budget) {
+        return new AdaptiveConcurrencyLimit(budget.initialLimit(), budget.minLimit(), budget.maxLimit());
+    }
+
+    /**
+     * Measures the time the container spends reading and parsing the multipart body, which happens on
+     * the first call to getParts or getPart.
+     */
+    static final class UploadTimedRequest extends HttpServletRequestWrapper {
+
+        private long uploadNanos;
+
+        UploadTimedRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        long getUploadNanos() {
+            return uploadNanos;
+        }
+
+        @Override
+        public Collection<Part> getParts() throws IOException, ServletException {
+            long start = System.nanoTime();
+            try {
+                return super.getParts();
+            } finally {
+                uploadNanos += System.nanoTime() - start;
+            }
+        }
+
+        @Override
+        public Part getPart(String name) throws IOException, ServletException {
+            long start = System.nanoTime();
+            try {
+                return super.getPart(name);
+            } finally {
+                uploadNanos += System.nanoTime() - start;
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.alexa.account.filter;
+
+import com.alexa.account.config.RateLimitProperties;
+import com.alexa.account.exception.ProblemTemplate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.RequestPath;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client token-bucket rate limiting, configured per route with app.rate-limit.
+ *
+ * Clients presenting a known API key are limited per key, all others per IP address.
+ * Behind a proxy, set server.forward-headers-strategy so the IP address is the client's.
+ * Limited requests get 429 with Retry-After before reaching the controllers.
+ *
+ * gRPC calls take their tokens from the same buckets through {@link #tryAcquire}, so a client cannot
+ * get around a limit by switching transport.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Set<String> apiKeys;
+    private final List<LimitedRoute> routes;
+    private final ProblemTemplate rateLimited;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.rateLimited = new ProblemTemplate(meterRegistry, "rate_limited", HttpStatus.TOO_MANY_REQUESTS,
+                "Too Many Requests");
+        this.apiKeys = new HashSet<>(properties.apiKeys());
+        this.routes = properties.routes().stream()
+                .map(route -> new LimitedRoute(route, properties))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled() || routes.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestPath path = RequestPath.parse(request.getRequestURI(), request.getContextPath());
+        LimitedRoute route = match(request.getMethod(), path.pathWithinApplication());
+        if (route == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String clientKey = clientKey(request.getHeader(properties.apiKeyHeader()), request.getRemoteAddr());
+        long waitNanos = route.buckets.tryAcquire(clientKey);
+        if (waitNanos == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        log.debug("Rate limit of route {} exceeded by {}", route.name, request.getRemoteAddr());
+        writeTooManyRequests(response, retryAfterSeconds(waitNanos));
+    }
+
+    /**
+     * Take a token for a request made over another transport, as if it were the given HTTP request.
+     *
+     * @param method HTTP method of the equivalent request
+     * @param path path of the equivalent request within the application
+     * @param apiKey API key presented by the client, or null
+     * @param remoteAddress IP address of the client
+     * @return 0 if the request may proceed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String method, String path, String apiKey, String remoteAddress) {
+        if (!properties.enabled()) {
+            return 0;
+        }
+        LimitedRoute route = match(method, PathContainer.parsePath(path));
+        if (route == null) {
+            return 0;
+        }
+        long waitNanos = route.buckets.tryAcquire(clientKey(apiKey, remoteAddress));
+        if (waitNanos > 0) {
+            log.debug("Rate limit of route {} exceeded by {}", route.name, remoteAddress);
+        }
+        return waitNanos;
+    }
+
+    /**
+     * Retry-After for a client that gets its next token in waitNanos, in whole seconds (at least 1).
+     */
+    public static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    /**
+     * Forget idle clients so memory follows the number of active clients.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.idle-timeout:10m}")
+    public void evictIdleClients() {
+        for (LimitedRoute route : routes) {
+            int evicted = route.buckets.evictIdle();
+            if (evicted > 0) {
+                log.debug("Evicted {} idle clients from rate limit of route {}", evicted, route.name);
+            }
+        }
+    }
+
+    private LimitedRoute match(String method, PathContainer path) {
+        for (LimitedRoute route : routes) {
+            if ((route.methods.isEmpty() || route.methods.contains(method))
+                    && route.pattern.matches(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private String clientKey(String apiKey, String remoteAddress) {
+        if (apiKey != null && apiKeys.contains(apiKey)) {
+            return "key:" + apiKey;
+        }
+        return remoteAddress;
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        ProblemDetail body = rateLimited.problem("Rate limit exceeded. Retry after " + retryAfterSeconds + " seconds");
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private static final class LimitedRoute {
+
+        private final String name;
+        private final PathPattern pattern;
+        private final Set<String> methods;
+        private final TokenBucketMap buckets;
+
+        private LimitedRoute(RateLimitProperties.Route route, RateLimitProperties properties) {
+            this.name = route.name();
+            this.pattern = PathPatternParser.defaultInstance.parse(route.path());
+            this.methods = new HashSet<>();
+            route.methods().forEach(method -> methods.add(method.toUpperCase(Locale.ROOT)));
+            this.buckets = new TokenBucketMap(route.capacity(), route.refillInterval(),
+                    properties.maxClients(), properties.idleTimeout());
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.alexa.account.filter;
+
+import com.alexa.account.config.ServerTimingProperties;
+import com.alexa.account.util.RequestTiming;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Reports the stages recorded with {@link RequestTiming} for each API request: as a Server-Timing header
+ * (e.g. {@code multipart;dur=1.204, storage;dur=3.870, db;dur=2.113, total;dur=9.502}) and as one
+ * {@code request_timing} log line with the same values and the number of calls per stage.
+ *
+ * The header is added when the response body is first written, since the response is committed after that;
+ * by then the controller and service work is done.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    private static final String API_PREFIX = "/api/";
+
+    private final ServerTimingProperties properties;
+
+    public ServerTimingFilter(ServerTimingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled()
+                || !request.getRequestURI().startsWith(API_PREFIX, request.getContextPath().length());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTiming.start();
+        TimingResponse timingResponse = new TimingResponse(response);
+        try {
+            chain.doFilter(request, timingResponse);
+            timingResponse.addServerTiming();
+        } finally {
+            if (properties.log()) {
+                log.info("request_timing method={} path={} status={} {}", request.getMethod(),
+                        request.getRequestURI(), response.getStatus(), logFields());
+            }
+            RequestTiming.stop();
+        }
+    }
+
+    /**
+     * Server-Timing value of the stages recorded so far, followed by the total.
+     */
+    static String serverTiming() {
+        StringBuilder value = new StringBuilder(128);
+        for (RequestTiming.Stage stage : RequestTiming.Stage.values()) {
+            if (RequestTiming.count(stage) > 0) {
+                value.append(stage.metricName()).append(";dur=");
+                appendMillis(value, RequestTiming.nanos(stage));
+                value.append(", ");
+            }
+        }
+        value.append("total;dur=");
+        appendMillis(value, RequestTiming.elapsedNanos());
+        return value.toString();
+    }
+
+    private static String logFields() {
+        StringBuilder fields = new StringBuilder(160).append("total_ms=");
+        appendMillis(fields, RequestTiming.elapsedNanos());
+        for (RequestTiming.Stage stage : RequestTiming.Stage.values()) {
+            int count = RequestTiming.count(stage);
+            if (count > 0) {
+                String name = stage.metricName().replace('-', '_');
+                fields.append(' ').append(name).append("_ms=");
+                appendMillis(fields, RequestTiming.nanos(stage));
+                fields.append(' ').append(name).append("_count=").append(count);
+            }
+        }
+        return fields.toString();
+    }
+
+    /**
+     * Milliseconds with microsecond precision, e.g. 12.345.
+     */
+    private static void appendMillis(StringBuilder target, long nanos) {
+        long micros = nanos / 1_000;
+        long fraction = micros % 1_000;
+        target.append(micros / 1_000).append('.');
+        if (fraction < 100) {
+            target.append('0');
+        }
+        if (fraction < 10) {
+            target.append('0');
+        }
+        target.append(fraction);
+    }
+
+    /**
+     * Adds the Server-Timing header just before the response is committed.
+     */
+    private final class TimingResponse extends HttpServletResponseWrapper {
+
+        private boolean added;
+
+        TimingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        void addServerTiming() {
+            if (!added && properties.header() && !isCommitted()) {
+                setHeader(SERVER_TIMING_HEADER, serverTiming());
+            }
+            added = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.alexa.account.filter;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded map of token buckets per client, split into independently locked stripes.
+ *
+ * Each stripe is an access-ordered LRU: when a stripe is full the least recently seen client is
+ * dropped, and idle clients are evicted from the LRU end. A dropped client simply starts again with
+ * a full bucket, which is what its bucket would have refilled to anyway once idle.
+ *
+ * A bucket is stored as one timestamp (the generic cell rate algorithm): the time at which the
+ * bucket would be full again. This behaves exactly like a token bucket of the given capacity and
+ * refill interval, without floating point state or a refill step.
+ */
+public final class TokenBucketMap {
+
+    private static final int STRIPES = 32;
+
+    private final Stripe[] stripes;
+    private final long capacity;
+    private final long refillNanos;
+    private final long idleNanos;
+    private final LongSupplier clock;
+
+    /**
+     * @param capacity burst size, the number of requests allowed at once
+     * @param refillInterval time to refill one token
+     * @param maxClients maximum number of clients tracked
+     * @param idleTimeout time after which a client that sent no requests is forgotten
+     */
+    public TokenBucketMap(int capacity, Duration refillInterval, int maxClients, Duration idleTimeout) {
+        this(capacity, refillInterval, maxClients, idleTimeout, System::nanoTime);
+    }
+
+    TokenBucketMap(int capacity, Duration refillInterval, int maxClients, Duration idleTimeout, LongSupplier clock) {
+        if (capacity < 1 || refillInterval.isZero() || refillInterval.isNegative()) {
+            throw new IllegalArgumentException("Capacity and refill interval must be positive");
+        }
+        this.capacity = capacity;
+        this.refillNanos = refillInterval.toNanos();
+        this.idleNanos = idleTimeout.toNanos();
+        this.clock = clock;
+        int maxPerStripe = Math.max(1, maxClients / STRIPES);
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(maxPerStripe);
+        }
+    }
+
+    /**
+     * Take one token from the client's bucket.
+     *
+     * @param clientKey the client (IP address or API key)
+     * @return 0 if the request is allowed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String clientKey) {
+        long now = clock.getAsLong();
+        Stripe stripe = stripeFor(clientKey);
+        synchronized (stripe) {
+            Bucket bucket = stripe.get(clientKey);
+            if (bucket == null) {
+                bucket = new Bucket(now);
+                stripe.put(clientKey, bucket);
+            }
+            bucket.lastSeen = now;
+
+            // fullAt - now is the refill time of the tokens in use; a request needs one token left
+            long fullAt = Math.max(bucket.fullAt, now);
+            long wait = fullAt + refillNanos - now - capacity * refillNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            bucket.fullAt = fullAt + refillNanos;
+            return 0;
+        }
+    }
+
+    /**
+     * Forget clients that sent no requests for longer than the idle timeout.
+     *
+     * @return the number of clients evicted
+     */
+    public int evictIdle() {
+        long now = clock.getAsLong();
+        int evicted = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                Iterator<Bucket> buckets = stripe.values().iterator();
+                // Access order: stop at the first client seen recently enough
+                while (buckets.hasNext()) {
+                    if (now - buckets.next().lastSeen <= idleNanos) {
+                        break;
+                    }
+                    buckets.remove();
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Number of clients currently tracked.
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(String clientKey) {
+        int hash = clientKey.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static final class Bucket {
+
+        private long fullAt;
+        private long lastSeen;
+
+        private Bucket(long now) {
+            this.fullAt = now;
+            this.lastSeen = now;
+        }
+    }
+
+    private static final class Stripe extends LinkedHashMap<String, Bucket> {
+
+        private final int maxSize;
+
+        private Stripe(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
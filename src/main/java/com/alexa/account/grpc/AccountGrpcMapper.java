@@ -0,0 +1,155 @@
+package com.alexa.account.grpc;
+
+import com.alexa.account.dto.AccountRequestDTO;
+import com.alexa.account.dto.AccountResponseDTO;
+import com.alexa.account.dto.AddressDTO;
+import com.alexa.account.dto.DraftRequestDTO;
+import com.alexa.account.dto.IdDocumentResponseDTO;
+import com.alexa.account.exception.InvalidFieldsException;
+import com.alexa.account.grpc.v1.Account;
+import com.alexa.account.grpc.v1.AccountRequest;
+import com.alexa.account.grpc.v1.Address;
+import com.alexa.account.grpc.v1.DocumentInfo;
+import com.alexa.account.grpc.v1.IdDocument;
+import com.alexa.account.model.AccountType;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Conversion between the protobuf messages of account_registration.proto and the account DTOs.
+ * Values that cannot be converted (dates, amounts) are reported as field errors, like a JSON body that fails to bind.
+ */
+final class AccountGrpcMapper {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    private AccountGrpcMapper() {
+    }
+
+    static AccountRequestDTO toAccountRequest(AccountRequest request) {
+        Map<String, String> fieldErrors = new LinkedHashMap<>();
+        AccountRequestDTO dto = new AccountRequestDTO(
+                emptyToNull(request.getName()),
+                toDate(request.getDateOfBirth(), fieldErrors),
+                request.hasAddress() ? toAddress(request.getAddress()) : null,
+                toAccountType(request.getAccountType()),
+                toDecimal("startingBalance", request.getStartingBalance(), fieldErrors),
+                emptyToNull(request.getEmail()),
+                toDecimal("monthlySalary", request.getMonthlySalary(), fieldErrors),
+                request.hasInterestedInOtherProducts() ? request.getInterestedInOtherProducts() : null);
+        if (!fieldErrors.isEmpty()) {
+            throw new InvalidFieldsException(fieldErrors);
+        }
+        return dto;
+    }
+
+    static DraftRequestDTO toDraftRequest(AccountRequest request) {
+        AccountRequestDTO dto = toAccountRequest(request);
+        return new DraftRequestDTO(dto.name(), dto.dateOfBirth(), dto.address(), dto.accountType(),
+                dto.startingBalance(), dto.email(), dto.monthlySalary(), dto.interestedInOtherProducts());
+    }
+
+    /**
+     * The document of a request, or null when none was sent.
+     */
+    static MultipartFile toDocument(boolean present, IdDocument document) {
+        if (!present) {
+            return null;
+        }
+        return new DocumentUpload(document.getDocumentName(), emptyToNull(document.getContentType()),
+                document.getContent().toByteArray());
+    }
+
+    static Account toAccount(AccountResponseDTO response) {
+        Account.Builder account = Account.newBuilder()
+                .setRequestId(response.requestId())
+                .setName(nullToEmpty(response.name()))
+                .setEmail(nullToEmpty(response.email()))
+                .setStartingBalance(toPlainString(response.startingBalance()))
+                .setMonthlySalary(toPlainString(response.monthlySalary()));
+        if (response.dateOfBirth() != null) {
+            account.setDateOfBirth(DATE_FORMAT.format(response.dateOfBirth()));
+        }
+        IdDocumentResponseDTO document = response.idDocument();
+        if (document != null) {
+            account.setIdDocument(DocumentInfo.newBuilder()
+                    .setDocumentName(nullToEmpty(document.documentName()))
+                    .setDocumentType(nullToEmpty(document.documentType()))
+                    .setDocumentSize(document.documentSize()));
+        }
+        AddressDTO address = response.address();
+        if (address != null) {
+            account.setAddress(Address.newBuilder()
+                    .setStreetName(nullToEmpty(address.streetName()))
+                    .setHouseNumber(nullToEmpty(address.houseNumber()))
+                    .setPostCode(nullToEmpty(address.postCode()))
+                    .setCity(nullToEmpty(address.city())));
+        }
+        if (response.accountType() != null) {
+            account.setAccountType(com.alexa.account.grpc.v1.AccountType.valueOf(response.accountType().name()));
+        }
+        if (response.interestedInOtherProducts() != null) {
+            account.setInterestedInOtherProducts(response.interestedInOtherProducts());
+        }
+        if (response.status() != null) {
+            account.setStatus(com.alexa.account.grpc.v1.AccountStatus.valueOf(response.status().name()));
+        }
+        return account.build();
+    }
+
+    private static AddressDTO toAddress(Address address) {
+        return new AddressDTO(emptyToNull(address.getStreetName()), emptyToNull(address.getHouseNumber()),
+                emptyToNull(address.getPostCode()), emptyToNull(address.getCity()));
+    }
+
+    private static AccountType toAccountType(com.alexa.account.grpc.v1.AccountType accountType) {
+        return switch (accountType) {
+            case SAVINGS -> AccountType.SAVINGS;
+            case CURRENT -> AccountType.CURRENT;
+            case INVESTMENT -> AccountType.INVESTMENT;
+            case ACCOUNT_TYPE_UNSPECIFIED, UNRECOGNIZED -> null;
+        };
+    }
+
+    private static LocalDate toDate(String value, Map<String, String> fieldErrors) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value, DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            fieldErrors.put("dateOfBirth", "Date of birth must be in dd-MM-yyyy format");
+            return null;
+        }
+    }
+
+    private static BigDecimal toDecimal(String field, String value, Map<String, String> fieldErrors) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            fieldErrors.put(field, "Must be a decimal number");
+            return null;
+        }
+    }
+
+    private static String toPlainString(BigDecimal value) {
+        return value == null ? "" : value.toPlainString();
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
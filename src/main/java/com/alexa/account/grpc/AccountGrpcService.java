@@ -0,0 +1,234 @@
+package com.alexa.account.grpc;
+
+import com.alexa.account.dto.AccountResponseDTO;
+import com.alexa.account.exception.InvalidFieldsException;
+import com.alexa.account.exception.InvalidRequestException;
+import com.alexa.account.exception.ResourceNotFoundException;
+import com.alexa.account.grpc.v1.Account;
+import com.alexa.account.grpc.v1.AccountRegistrationServiceGrpc;
+import com.alexa.account.grpc.v1.DraftUpdateRequest;
+import com.alexa.account.grpc.v1.GetAccountRequest;
+import com.alexa.account.grpc.v1.LookupError;
+import com.alexa.account.grpc.v1.LookupResult;
+import com.alexa.account.grpc.v1.RegisterRequest;
+import com.alexa.account.grpc.v1.RegistrationChunk;
+import com.alexa.account.grpc.v1.RegistrationHeader;
+import com.alexa.account.grpc.v1.SaveDraftRequest;
+import com.alexa.account.service.IAccountService;
+import com.google.protobuf.ByteString;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * gRPC endpoint of the account service for partner integrations (account_registration.proto).
+ *
+ * Requests are converted to the REST DTOs, validated with the same constraints as {@code @Valid} request bodies
+ * and passed to {@link IAccountService}; service exceptions are mapped to gRPC status codes.
+ */
+@Component
+@Slf4j
+public class AccountGrpcService extends AccountRegistrationServiceGrpc.AccountRegistrationServiceImplBase {
+
+    private final IAccountService accountService;
+    private final Validator validator;
+    private final long maxDocumentSize;
+
+    public AccountGrpcService(IAccountService accountService,
+                              Validator validator,
+                              @Value("${app.grpc.max-document-size:10MB}") DataSize maxDocumentSize) {
+        this.accountService = accountService;
+        this.validator = validator;
+        this.maxDocumentSize = maxDocumentSize.toBytes();
+    }
+
+    @Override
+    public void register(RegisterRequest request, StreamObserver<Account> responseObserver) {
+        respond(responseObserver, () -> accountService.registerOrSubmit(null,
+                validated(AccountGrpcMapper.toAccountRequest(request.getRequest())),
+                AccountGrpcMapper.toDocument(request.hasIdDocument(), request.getIdDocument())));
+    }
+
+    @Override
+    public void saveDraft(SaveDraftRequest request, StreamObserver<Account> responseObserver) {
+        respond(responseObserver, () -> accountService.saveDraft(
+                validated(AccountGrpcMapper.toDraftRequest(request.getRequest())),
+                AccountGrpcMapper.toDocument(request.hasIdDocument(), request.getIdDocument())));
+    }
+
+    @Override
+    public void updateDraft(DraftUpdateRequest request, StreamObserver<Account> responseObserver) {
+        respond(responseObserver, () -> accountService.updateDraft(request.getRequestId(),
+                validated(AccountGrpcMapper.toAccountRequest(request.getRequest())),
+                AccountGrpcMapper.toDocument(request.hasIdDocument(), request.getIdDocument())));
+    }
+
+    @Override
+    public void submitDraft(DraftUpdateRequest request, StreamObserver<Account> responseObserver) {
+        respond(responseObserver, () -> accountService.submitDraft(request.getRequestId(),
+                validated(AccountGrpcMapper.toAccountRequest(request.getRequest())),
+                AccountGrpcMapper.toDocument(request.hasIdDocument(), request.getIdDocument())));
+    }
+
+    @Override
+    public void getAccount(GetAccountRequest request, StreamObserver<Account> responseObserver) {
+        respond(responseObserver, () -> accountService.getByRequestId(request.getRequestId()));
+    }
+
+    /**
+     * Collect the streamed document in memory (at most max-document-size) and register or submit
+     * once the client half-closes. The header is validated on arrival, so an invalid request fails
+     * before the document is transferred.
+     */
+    @Override
+    public StreamObserver<RegistrationChunk> uploadRegistration(StreamObserver<Account> responseObserver) {
+        return new StreamObserver<>() {
+
+            private RegistrationHeader header;
+            private ByteString document = ByteString.EMPTY;
+            private boolean failed;
+
+            @Override
+            public void onNext(RegistrationChunk chunk) {
+                if (failed) {
+                    return;
+                }
+                try {
+                    if (chunk.hasHeader()) {
+                        if (header != null) {
+                            throw new InvalidRequestException("Registration header must be sent once, as the first message");
+                        }
+                        validated(AccountGrpcMapper.toAccountRequest(chunk.getHeader().getRequest()));
+                        header = chunk.getHeader();
+                    } else {
+                        if (header == null) {
+                            throw new InvalidRequestException("First message must be the registration header");
+                        }
+                        if (document.size() + (long) chunk.getDocumentContent().size() > maxDocumentSize) {
+                            throw new InvalidRequestException("ID document exceeds " + maxDocumentSize + " bytes");
+                        }
+                        document = document.concat(chunk.getDocumentContent());
+                    }
+                } catch (RuntimeException e) {
+                    failed = true;
+                    responseObserver.onError(toStatus(e));
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.debug("Registration upload cancelled by client: {}", t.getMessage());
+            }
+
+            @Override
+            public void onCompleted() {
+                if (failed) {
+                    return;
+                }
+                if (header == null) {
+                    responseObserver.onError(Status.INVALID_ARGUMENT
+                            .withDescription("No registration header received")
+                            .asRuntimeException());
+                    return;
+                }
+                String requestId = header.getRequestId().isEmpty() ? null : header.getRequestId();
+                respond(responseObserver, () -> accountService.registerOrSubmit(requestId,
+                        AccountGrpcMapper.toAccountRequest(header.getRequest()),
+                        document.isEmpty()
+                                ? null
+                                : new DocumentUpload(header.getDocumentName(),
+                                header.getContentType().isEmpty() ? null : header.getContentType(),
+                                document.toByteArray())));
+            }
+        };
+    }
+
+    /**
+     * Answer each request ID as it arrives; gRPC flow control limits how far a client can run ahead.
+     */
+    @Override
+    public StreamObserver<GetAccountRequest> lookupAccounts(StreamObserver<LookupResult> responseObserver) {
+        return new StreamObserver<>() {
+
+            @Override
+            public void onNext(GetAccountRequest request) {
+                LookupResult.Builder result = LookupResult.newBuilder().setRequestId(request.getRequestId());
+                try {
+                    result.setAccount(AccountGrpcMapper.toAccount(accountService.getByRequestId(request.getRequestId())));
+                } catch (RuntimeException e) {
+                    Status status = toStatus(e).getStatus();
+                    result.setError(LookupError.newBuilder()
+                            .setCode(status.getCode().name())
+                            .setMessage(status.getDescription() == null ? "" : status.getDescription()));
+                }
+                responseObserver.onNext(result.build());
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.debug("Account lookup stream cancelled by client: {}", t.getMessage());
+            }
+
+            @Override
+            public void onCompleted() {
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    private <T> T validated(T request) {
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            Map<String, String> fieldErrors = new LinkedHashMap<>();
+            violations.forEach(violation ->
+                    fieldErrors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage()));
+            throw new InvalidFieldsException(fieldErrors);
+        }
+        return request;
+    }
+
+    private void respond(StreamObserver<Account> responseObserver, Supplier<AccountResponseDTO> call) {
+        Account account;
+        try {
+            account = AccountGrpcMapper.toAccount(call.get());
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e));
+            return;
+        }
+        responseObserver.onNext(account);
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Map service exceptions like GlobalExceptionHandler does for HTTP.
+     */
+    private static StatusRuntimeException toStatus(RuntimeException e) {
+        if (e instanceof StatusRuntimeException statusException) {
+            return statusException;
+        }
+        if (e instanceof InvalidFieldsException invalidFields) {
+            return Status.INVALID_ARGUMENT
+                    .withDescription("Validation failed: " + invalidFields.getFieldErrors())
+                    .asRuntimeException();
+        }
+        if (e instanceof InvalidRequestException) {
+            return Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException();
+        }
+        if (e instanceof ResourceNotFoundException) {
+            return Status.NOT_FOUND.withDescription(e.getMessage()).asRuntimeException();
+        }
+        log.error("Unexpected error in gRPC call", e);
+        return Status.INTERNAL.withDescription("Internal server error").asRuntimeException();
+    }
+}
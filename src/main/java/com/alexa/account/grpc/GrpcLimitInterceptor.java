@@ -0,0 +1,333 @@
+package com.alexa.account.grpc;
+
+import com.alexa.account.config.ConcurrencyLimitProperties;
+import com.alexa.account.config.RateLimitProperties;
+import com.alexa.account.filter.AdaptiveConcurrencyLimit;
+import com.alexa.account.filter.ConcurrencyLimitFilter;
+import com.alexa.account.filter.RateLimitFilter;
+import com.alexa.account.grpc.v1.AccountRegistrationServiceGrpc;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Applies the HTTP rate limits (app.rate-limit) and concurrency limits (app.concurrency-limit) to gRPC calls.
+ *
+ * Each RPC is limited as its REST equivalent, with the token buckets of {@link RateLimitFilter} and the limits
+ * of {@link ConcurrencyLimitFilter}, so both transports share one budget. A rate limited call fails with
+ * RESOURCE_EXHAUSTED and a shed call with UNAVAILABLE, before the service sees it. LookupAccounts is limited
+ * per request ID, like repeated GETs. As for multipart uploads, the latency sample starts once the client has
+ * sent the whole request.
+ */
+@Component
+@ConditionalOnProperty(name = "app.grpc.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class GrpcLimitInterceptor implements ServerInterceptor {
+
+    private static final String REGISTER_PATH = "/api/v1/accounts/register";
+    private static final String DRAFT_PATH = "/api/v1/accounts/draft";
+    private static final String ACCOUNT_PATH = "/api/v1/accounts/{requestId}";
+
+    private final RateLimitFilter rateLimitFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
+    private final boolean concurrencyLimited;
+    private final Metadata.Key<String> apiKeyHeader;
+    private final Map<String, Route> routes;
+    private final Status overloadedStatus;
+    private final Counter rateLimited;
+    private final Counter overloaded;
+
+    public GrpcLimitInterceptor(RateLimitFilter rateLimitFilter,
+                                RateLimitProperties rateLimitProperties,
+                                ConcurrencyLimitFilter concurrencyLimitFilter,
+                                ConcurrencyLimitProperties concurrencyLimitProperties,
+                                MeterRegistry meterRegistry) {
+        this.rateLimitFilter = rateLimitFilter;
+        this.concurrencyLimitFilter = concurrencyLimitFilter;
+        this.concurrencyLimited = concurrencyLimitProperties.enabled();
+        this.apiKeyHeader = Metadata.Key.of(rateLimitProperties.apiKeyHeader(), Metadata.ASCII_STRING_MARSHALLER);
+        this.routes = Map.of(
+                AccountRegistrationServiceGrpc.getRegisterMethod().getFullMethodName(),
+                new Route("POST", REGISTER_PATH, true, false),
+                AccountRegistrationServiceGrpc.getSaveDraftMethod().getFullMethodName(),
+                new Route("POST", DRAFT_PATH, true, false),
+                AccountRegistrationServiceGrpc.getUpdateDraftMethod().getFullMethodName(),
+                new Route("PUT", ACCOUNT_PATH, true, false),
+                AccountRegistrationServiceGrpc.getSubmitDraftMethod().getFullMethodName(),
+                new Route("POST", REGISTER_PATH, true, false),
+                AccountRegistrationServiceGrpc.getGetAccountMethod().getFullMethodName(),
+                new Route("GET", ACCOUNT_PATH, false, false),
+                AccountRegistrationServiceGrpc.getUploadRegistrationMethod().getFullMethodName(),
+                new Route("POST", REGISTER_PATH, true, false),
+                AccountRegistrationServiceGrpc.getLookupAccountsMethod().getFullMethodName(),
+                new Route("GET", ACCOUNT_PATH, false, true));
+        long retryAfterSeconds = Math.max(1, concurrencyLimitProperties.retryAfter().toSeconds());
+        this.overloadedStatus = Status.UNAVAILABLE
+                .withDescription("Server is busy. Retry after " + retryAfterSeconds + " seconds");
+        this.rateLimited = rejectedCounter(meterRegistry, "rate_limited");
+        this.overloaded = rejectedCounter(meterRegistry, "overloaded");
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        Route route = routes.get(call.getMethodDescriptor().getFullMethodName());
+        if (route == null) {
+            return next.startCall(call, headers);
+        }
+        Client client = new Client(headers.get(apiKeyHeader), remoteAddress(call));
+        return route.perMessage()
+                ? limitEachMessage(call, headers, next, route, client)
+                : limitCall(call, headers, next, route, client);
+    }
+
+    /**
+     * One token and one concurrency slot for the whole call. The slot is released when the call closes.
+     */
+    private <ReqT, RespT> ServerCall.Listener<ReqT> limitCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                              ServerCallHandler<ReqT, RespT> next,
+                                                              Route route, Client client) {
+        Status rejected = checkRateLimit(route, client);
+        Slot slot = rejected == null ? tryAcquire(route) : null;
+        if (rejected == null && slot == null) {
+            rejected = shed(call);
+        }
+        if (rejected != null) {
+            call.close(rejected, new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        ServerCall<ReqT, RespT> releasingCall = new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+            @Override
+            public void close(Status status, Metadata trailers) {
+                slot.finish(isServerError(status));
+                super.close(status, trailers);
+            }
+        };
+        ServerCall.Listener<ReqT> listener;
+        try {
+            listener = next.startCall(releasingCall, headers);
+        } catch (RuntimeException e) {
+            slot.cancel();
+            throw e;
+        }
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+            @Override
+            public void onHalfClose() {
+                slot.start();
+                super.onHalfClose();
+            }
+
+            @Override
+            public void onCancel() {
+                slot.cancel();
+                super.onCancel();
+            }
+        };
+    }
+
+    /**
+     * One token and one concurrency slot per request message; the call is closed at the first rejection.
+     */
+    private <ReqT, RespT> ServerCall.Listener<ReqT> limitEachMessage(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                     ServerCallHandler<ReqT, RespT> next,
+                                                                     Route route, Client client) {
+        ClosableCall<ReqT, RespT> closableCall = new ClosableCall<>(call);
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(
+                next.startCall(closableCall, headers)) {
+            @Override
+            public void onMessage(ReqT message) {
+                if (closableCall.isClosed()) {
+                    return;
+                }
+                Status rejected = checkRateLimit(route, client);
+                Slot slot = rejected == null ? tryAcquire(route) : null;
+                if (rejected == null && slot == null) {
+                    rejected = shed(call);
+                }
+                if (rejected != null) {
+                    closableCall.close(rejected, new Metadata());
+                    return;
+                }
+
+                slot.start();
+                boolean failed = true;
+                try {
+                    super.onMessage(message);
+                    failed = false;
+                } finally {
+                    slot.finish(failed);
+                }
+            }
+
+            @Override
+            public void onHalfClose() {
+                if (!closableCall.isClosed()) {
+                    super.onHalfClose();
+                }
+            }
+        };
+    }
+
+    private Status checkRateLimit(Route route, Client client) {
+        long waitNanos = rateLimitFilter.tryAcquire(route.httpMethod(), route.path(), client.apiKey(),
+                client.remoteAddress());
+        if (waitNanos == 0) {
+            return null;
+        }
+        rateLimited.increment();
+        return Status.RESOURCE_EXHAUSTED.withDescription("Rate limit exceeded. Retry after "
+                + RateLimitFilter.retryAfterSeconds(waitNanos) + " seconds");
+    }
+
+    /**
+     * @return a slot, or null if the concurrency limit is reached
+     */
+    private Slot tryAcquire(Route route) {
+        if (!concurrencyLimited) {
+            return new Slot(null, 0);
+        }
+        AdaptiveConcurrencyLimit limit = route.write()
+                ? concurrencyLimitFilter.getWriteLimit()
+                : concurrencyLimitFilter.getReadLimit();
+        int inFlight = limit.tryAcquire();
+        return inFlight == 0 ? null : new Slot(limit, inFlight);
+    }
+
+    private Status shed(ServerCall<?, ?> call) {
+        log.debug("Shedding gRPC call {}: concurrency limit reached", call.getMethodDescriptor().getFullMethodName());
+        overloaded.increment();
+        return overloadedStatus;
+    }
+
+    private static boolean isServerError(Status status) {
+        return switch (status.getCode()) {
+            case UNKNOWN, INTERNAL, UNAVAILABLE, DATA_LOSS -> true;
+            default -> false;
+        };
+    }
+
+    private static String remoteAddress(ServerCall<?, ?> call) {
+        SocketAddress address = call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR);
+        if (address instanceof InetSocketAddress inetAddress && inetAddress.getAddress() != null) {
+            return inetAddress.getAddress().getHostAddress();
+        }
+        return String.valueOf(address);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("grpc.calls.rejected")
+                .tag("reason", reason)
+                .description("gRPC calls rejected by the rate and concurrency limits")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The REST request an RPC is limited as.
+     *
+     * @param httpMethod method of the REST equivalent
+     * @param path path of the REST equivalent
+     * @param write true for the write budget of the concurrency limit
+     * @param perMessage true to limit each request message instead of the call
+     */
+    private record Route(String httpMethod, String path, boolean write, boolean perMessage) {
+    }
+
+    private record Client(String apiKey, String remoteAddress) {
+    }
+
+    /**
+     * A concurrency slot, released exactly once. Only calls that got as far as being processed feed a
+     * latency sample into the limit.
+     */
+    private static final class Slot {
+
+        private final AdaptiveConcurrencyLimit limit;
+        private final int inFlight;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile boolean started;
+        private volatile long startNanos;
+
+        private Slot(AdaptiveConcurrencyLimit limit, int inFlight) {
+            this.limit = limit;
+            this.inFlight = inFlight;
+        }
+
+        void start() {
+            startNanos = System.nanoTime();
+            started = true;
+        }
+
+        void finish(boolean failed) {
+            if (limit == null || !released.compareAndSet(false, true)) {
+                return;
+            }
+            if (started) {
+                limit.release(System.nanoTime() - startNanos, inFlight, failed);
+            } else {
+                limit.release();
+            }
+        }
+
+        void cancel() {
+            if (limit != null && released.compareAndSet(false, true)) {
+                limit.release();
+            }
+        }
+    }
+
+    /**
+     * Ignores what the service sends after the call was closed by a rejection.
+     */
+    private static final class ClosableCall<ReqT, RespT>
+            extends ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT> {
+
+        private volatile boolean closed;
+
+        private ClosableCall(ServerCall<ReqT, RespT> delegate) {
+            super(delegate);
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public void sendHeaders(Metadata headers) {
+            if (!closed) {
+                super.sendHeaders(headers);
+            }
+        }
+
+        @Override
+        public void sendMessage(RespT message) {
+            if (!closed) {
+                super.sendMessage(message);
+            }
+        }
+
+        @Override
+        public void close(Status status, Metadata trailers) {
+            if (!closed) {
+                closed = true;
+                super.close(status, trailers);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.alexa.account.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerInterceptor;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Netty gRPC server for the {@link BindableService} beans, started and stopped with the application context.
+ * Calls are multiplexed over HTTP/2 connections; max-concurrent-calls-per-connection bounds the work a single
+ * partner connection can have in flight, and the {@link ServerInterceptor} beans (see {@link GrpcLimitInterceptor})
+ * apply the HTTP rate and concurrency limits. Calls run on a fixed pool of app.grpc.threads threads instead of
+ * gRPC's default unbounded one.
+ */
+@Component
+@ConditionalOnProperty(name = "app.grpc.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class GrpcServer implements SmartLifecycle {
+
+    private final Server server;
+    private final ExecutorService executor;
+    private final Duration shutdownTimeout;
+    private volatile boolean running;
+
+    public GrpcServer(List<BindableService> services,
+                      List<ServerInterceptor> interceptors,
+                      @Value("${app.grpc.port:9090}") int port,
+                      @Value("${app.grpc.threads:50}") int threads,
+                      @Value("${app.grpc.max-concurrent-calls-per-connection:100}") int maxConcurrentCallsPerConnection,
+                      @Value("${app.grpc.max-inbound-message-size:11MB}") DataSize maxInboundMessageSize,
+                      @Value("${app.grpc.shutdown-timeout:30s}") Duration shutdownTimeout) {
+        this.executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("grpc-"));
+        NettyServerBuilder builder = NettyServerBuilder.forPort(port)
+                .executor(executor)
+                .maxConcurrentCallsPerConnection(maxConcurrentCallsPerConnection)
+                .maxInboundMessageSize(Math.toIntExact(maxInboundMessageSize.toBytes()));
+        services.forEach(builder::addService);
+        interceptors.forEach(builder::intercept);
+        this.server = builder.build();
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @Override
+    public void start() {
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start gRPC server: " + e.getMessage(), e);
+        }
+        running = true;
+        log.info("gRPC server started on port {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            server.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+            running = false;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,52 @@
+package com.alexa.account.health;
+
+import com.alexa.account.outbox.OutboxRelay;
+import com.alexa.account.service.SubmissionWorker;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * State of the background workers: the asynchronous submission pool and the scheduler running autosave flushes,
+ * the outbox relay and recovery jobs. DOWN when either has been shut down, since accepted work would then
+ * never complete.
+ *
+ * Outbox lag is reported but does not affect the status: it grows when the downstream sink is unavailable,
+ * and taking every instance out of rotation would not help.
+ */
+public class BackgroundWorkersHealthIndicator extends AbstractHealthIndicator {
+
+    private final SubmissionWorker submissionWorker;
+    private final ThreadPoolTaskScheduler taskScheduler;
+    private final OutboxRelay outboxRelay;
+
+    public BackgroundWorkersHealthIndicator(SubmissionWorker submissionWorker,
+                                            ThreadPoolTaskScheduler taskScheduler,
+                                            OutboxRelay outboxRelay) {
+        super("Background workers health check failed");
+        this.submissionWorker = submissionWorker;
+        this.taskScheduler = taskScheduler;
+        this.outboxRelay = outboxRelay;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        ScheduledThreadPoolExecutor scheduler = taskScheduler.getScheduledThreadPoolExecutor();
+        boolean schedulerRunning = !scheduler.isShutdown();
+        boolean submissionsRunning = submissionWorker.isRunning();
+
+        builder.withDetail("submissionWorkersRunning", submissionsRunning)
+                .withDetail("submissionQueueDepth", submissionWorker.getQueueDepth())
+                .withDetail("schedulerRunning", schedulerRunning)
+                .withDetail("schedulerActiveThreads", scheduler.getActiveCount())
+                .withDetail("schedulerPoolSize", scheduler.getPoolSize())
+                .withDetail("outboxLagMs", outboxRelay.getLag().toMillis());
+        if (submissionsRunning && schedulerRunning) {
+            builder.up();
+        } else {
+            builder.down();
+        }
+    }
+}
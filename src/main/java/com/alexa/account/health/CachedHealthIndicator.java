@@ -0,0 +1,41 @@
+package com.alexa.account.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.time.Duration;
+
+/**
+ * Health indicator that reuses the result of its delegate for a time-to-live, so frequent probes from
+ * orchestrators and load balancers do not each open a connection or write to disk.
+ * Concurrent probes after expiry wait for a single check.
+ */
+public class CachedHealthIndicator implements HealthIndicator {
+
+    private final HealthIndicator delegate;
+    private final long timeToLiveNanos;
+    private volatile Health cached;
+    private volatile long expiresAt;
+
+    public CachedHealthIndicator(HealthIndicator delegate, Duration timeToLive) {
+        this.delegate = delegate;
+        this.timeToLiveNanos = timeToLive.toNanos();
+    }
+
+    @Override
+    public Health health() {
+        Health health = cached;
+        if (health != null && System.nanoTime() - expiresAt < 0) {
+            return health;
+        }
+        synchronized (this) {
+            if (cached != null && System.nanoTime() - expiresAt < 0) {
+                return cached;
+            }
+            health = delegate.health();
+            expiresAt = System.nanoTime() + timeToLiveNanos;
+            cached = health;
+            return health;
+        }
+    }
+}
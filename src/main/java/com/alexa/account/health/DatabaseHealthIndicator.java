@@ -0,0 +1,43 @@
+package com.alexa.account.health;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
+
+import javax.sql.DataSource;
+
+/**
+ * Database check that looks at the connection pool before borrowing a connection: when no connection is idle
+ * and requests are already waiting, the pool is reported as exhausted instead of queueing the probe behind them
+ * (which would block for the pool's connection timeout). Otherwise a connection is validated as by the default
+ * {@code db} indicator.
+ */
+public class DatabaseHealthIndicator extends AbstractHealthIndicator {
+
+    private final DataSource dataSource;
+    private final DataSourceHealthIndicator connectionCheck;
+
+    public DatabaseHealthIndicator(DataSource dataSource) {
+        super("Database health check failed");
+        this.dataSource = dataSource;
+        this.connectionCheck = new DataSourceHealthIndicator(dataSource);
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        HikariPoolMXBean pool = dataSource instanceof HikariDataSource hikari ? hikari.getHikariPoolMXBean() : null;
+        if (pool != null) {
+            builder.withDetail("activeConnections", pool.getActiveConnections())
+                    .withDetail("idleConnections", pool.getIdleConnections())
+                    .withDetail("threadsAwaitingConnection", pool.getThreadsAwaitingConnection());
+            if (pool.getIdleConnections() == 0 && pool.getThreadsAwaitingConnection() > 0) {
+                builder.down().withDetail("reason", "Connection pool exhausted");
+                return;
+            }
+        }
+        Health connection = connectionCheck.health();
+        builder.status(connection.getStatus()).withDetails(connection.getDetails());
+    }
+}
@@ -0,0 +1,65 @@
+package com.alexa.account.health;
+
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+/**
+ * Checks that the upload directory can take new ID documents: enough usable space, and a small probe file
+ * can be written, synced to disk and deleted within max-write-latency.
+ */
+public class UploadStorageHealthIndicator extends AbstractHealthIndicator {
+
+    private static final String PROBE_FILE = ".health-probe";
+    private static final int PROBE_SIZE = 4096;
+
+    private final Path uploadLocation;
+    private final DataSize minFreeSpace;
+    private final Duration maxWriteLatency;
+
+    public UploadStorageHealthIndicator(Path uploadLocation, DataSize minFreeSpace, Duration maxWriteLatency) {
+        super("Upload storage health check failed");
+        this.uploadLocation = uploadLocation;
+        this.minFreeSpace = minFreeSpace;
+        this.maxWriteLatency = maxWriteLatency;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) throws IOException {
+        long usable = Files.getFileStore(uploadLocation).getUsableSpace();
+        Duration writeLatency = probeWrite();
+
+        builder.withDetail("path", uploadLocation.toString())
+                .withDetail("free", usable)
+                .withDetail("threshold", minFreeSpace.toBytes())
+                .withDetail("writeLatencyMs", writeLatency.toMillis());
+        if (usable < minFreeSpace.toBytes()) {
+            builder.down().withDetail("reason", "Free space below threshold");
+        } else if (writeLatency.compareTo(maxWriteLatency) > 0) {
+            builder.down().withDetail("reason", "Write latency above " + maxWriteLatency.toMillis() + " ms");
+        } else {
+            builder.up();
+        }
+    }
+
+    private Duration probeWrite() throws IOException {
+        Path probe = uploadLocation.resolve(PROBE_FILE);
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(probe, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.allocate(PROBE_SIZE));
+            channel.force(true);
+        } finally {
+            Files.deleteIfExists(probe);
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,31 @@
+package com.alexa.account.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An uploaded document streamed to the upload directory by FileStorageService.
+ */
+@Name("com.alexa.account.DocumentStore")
+@Label("Document Store")
+@Category({"Account Registration", "Storage"})
+@Description("ID document written to the upload directory")
+@StackTrace(false)
+public class DocumentStoreEvent extends Event {
+
+    @Label("Path")
+    @Description("Path relative to the upload directory")
+    public String path;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,33 @@
+package com.alexa.account.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An update of a draft through PUT (full update, optionally with a new document) or PATCH (merge patch).
+ */
+@Name("com.alexa.account.DraftUpdate")
+@Label("Draft Update")
+@Category({"Account Registration", "Service"})
+@Description("Update of a draft account request")
+@StackTrace(false)
+public class DraftUpdateEvent extends Event {
+
+    @Label("Request ID")
+    public String requestId;
+
+    @Label("Operation")
+    @Description("update or patch")
+    public String operation;
+
+    @Label("Fields")
+    @Description("Number of fields in the merge patch, 0 for a full update")
+    public int fields;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,35 @@
+package com.alexa.account.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A registration: a new request, the submission of a draft, or a registration accepted for asynchronous
+ * submission. The duration covers validation, document storage and the database writes of the transaction.
+ */
+@Name("com.alexa.account.Registration")
+@Label("Registration")
+@Category({"Account Registration", "Service"})
+@Description("Registration of a new account request or submission of a draft")
+@StackTrace(false)
+public class RegistrationEvent extends Event {
+
+    @Label("Request ID")
+    public String requestId;
+
+    @Label("Mode")
+    @Description("new, draft-submit or async")
+    public String mode;
+
+    @Label("Document Size")
+    @DataAmount
+    public long documentSize;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,26 @@
+package com.alexa.account.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Generation of a unique request ID, including the lookups of IDs that were already in use.
+ */
+@Name("com.alexa.account.RequestIdGeneration")
+@Label("Request ID Generation")
+@Category({"Account Registration", "Service"})
+@Description("Generation of a unique request ID")
+@StackTrace(false)
+public class RequestIdGenerationEvent extends Event {
+
+    @Label("Request ID")
+    public String requestId;
+
+    @Label("Retries")
+    @Description("Generated IDs discarded because they were already in use")
+    public int retries;
+}
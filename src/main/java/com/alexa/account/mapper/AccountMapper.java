@@ -2,18 +2,21 @@ package com.alexa.account.mapper;
 
 import com.alexa.account.dto.AddressDTO;
 import com.alexa.account.dto.AccountResponseDTO;
+import com.alexa.account.dto.DraftRequestDTO;
 import com.alexa.account.dto.IdDocumentResponseDTO;
-import com.alexa.account.model.AccountRequest;
+import com.alexa.account.model.AbstractAccountRequest;
 import com.alexa.account.model.Address;
 import com.alexa.account.model.IdDocument;
+import org.mapstruct.DecoratedWith;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 /**
  * Mapper for converting between AccountRequest, AddressDTO, and response DTOs.
- * Uses MapStruct for compile-time code generation.
+ * Uses MapStruct for compile-time code generation; {@link TimedAccountMapper} times each call.
  */
 @Mapper(componentModel = "spring")
+@DecoratedWith(TimedAccountMapper.class)
 public interface AccountMapper {
 
 
@@ -37,11 +40,15 @@ public interface AccountMapper {
     IdDocumentResponseDTO idDocumentToResponseDTO(IdDocument idDocument);
 
     /**
-     * Convert AccountRequest entity to AccountResponseDTO.
+     * Convert an AccountRequest or ArchivedAccountRequest entity to AccountResponseDTO.
      * Nested mappings for Address and IdDocument.
      */
     @Mapping(source = "address", target = "address")
     @Mapping(source = "idDocument", target = "idDocument")
-    AccountResponseDTO accountRequestToResponseDTO(AccountRequest accountRequest);
-}
+    AccountResponseDTO accountRequestToResponseDTO(AbstractAccountRequest accountRequest);
 
+    /**
+     * Convert an AccountRequest to the draft fields a client can change.
+     */
+    DraftRequestDTO accountRequestToDraftRequestDTO(AbstractAccountRequest accountRequest);
+}
@@ -0,0 +1,73 @@
+package com.alexa.account.mapper;
+
+import com.alexa.account.dto.AccountResponseDTO;
+import com.alexa.account.dto.AddressDTO;
+import com.alexa.account.dto.DraftRequestDTO;
+import com.alexa.account.dto.IdDocumentResponseDTO;
+import com.alexa.account.model.AbstractAccountRequest;
+import com.alexa.account.model.Address;
+import com.alexa.account.model.IdDocument;
+import com.alexa.account.util.RequestTiming;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+
+/**
+ * MapStruct decorator of {@link AccountMapper} recording each mapping as the {@code map} stage of
+ * {@link RequestTiming}. Nested mappings run inside the generated delegate and are not counted twice.
+ */
+public abstract class TimedAccountMapper implements AccountMapper {
+
+    @Autowired
+    @Qualifier("delegate")
+    private AccountMapper delegate;
+
+    @Override
+    public Address addressDtoToAddress(AddressDTO addressDTO) {
+        long start = RequestTiming.begin();
+        try {
+            return delegate.addressDtoToAddress(addressDTO);
+        } finally {
+            RequestTiming.end(RequestTiming.Stage.MAPPING, start);
+        }
+    }
+
+    @Override
+    public AddressDTO addressToAddressDto(Address address) {
+        long start = RequestTiming.begin();
+        try {
+            return delegate.addressToAddressDto(address);
+        } finally {
+            RequestTiming.end(RequestTiming.Stage.MAPPING, start);
+        }
+    }
+
+    @Override
+    public IdDocumentResponseDTO idDocumentToResponseDTO(IdDocument idDocument) {
+        long start = RequestTiming.begin();
+        try {
+            return delegate.idDocumentToResponseDTO(idDocument);
+        } finally {
+            RequestTiming.end(RequestTiming.Stage.MAPPING, start);
+        }
+    }
+
+    @Override
+    public AccountResponseDTO accountRequestToResponseDTO(AbstractAccountRequest accountRequest) {
+        long start = RequestTiming.begin();
+        try {
+            return delegate.accountRequestToResponseDTO(accountRequest);
+        } finally {
+            RequestTiming.end(RequestTiming.Stage.MAPPING, start);
+        }
+    }
+
+    @Override
+    public DraftRequestDTO accountRequestToDraftRequestDTO(AbstractAccountRequest accountRequest) {
+        long start = RequestTiming.begin();
+        try {
+            return delegate.accountRequestToDraftRequestDTO(accountRequest);
+        } finally {
+            RequestTiming.end(RequestTiming.Stage.MAPPING, start);
+        }
+    }
+}
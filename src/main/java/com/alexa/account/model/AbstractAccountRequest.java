@@ -0,0 +1,65 @@
+package com.alexa.account.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Columns shared by active account requests ({@link AccountRequest}) and archived submitted
+ * requests ({@link ArchivedAccountRequest}).
+ */
+@MappedSuperclass
+@Getter
+@Setter
+public abstract class AbstractAccountRequest {
+
+    @Column(nullable = false, unique = true)
+    private String requestId;
+
+    private String name;
+
+    private LocalDate dateOfBirth;
+
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "fileName", column = @Column(name = "id_document_name")),
+        @AttributeOverride(name = "fileType", column = @Column(name = "id_document_type"))
+    })
+    private IdDocument idDocument;
+
+    @Embedded
+    private Address address;
+
+    // VARCHAR rather than Hibernate's native MySQL ENUM, so adding a status needs no column change
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 20)
+    private AccountStatus status;
+
+    @Enumerated(EnumType.STRING)
+    private AccountType accountType;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal startingBalance;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal monthlySalary;
+
+    private String email;
+
+    @Convert(converter = YesNoConverter.class)
+    @Column(length = 1)
+    private Boolean interestedInOtherProducts;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    public abstract Long getId();
+}
@@ -4,70 +4,46 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import java.math.BigDecimal;
-import java.time.LocalDate;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
+/**
+ * Active account registration request (draft or recently submitted).
+ * Submitted requests are moved to {@link ArchivedAccountRequest} after a while.
+ *
+ * The composite indexes on (created_at, id) serve the back-office listing: every filter combination
+ * is an equality prefix followed by the keyset order of the listing. (status, updated_at) lets the
+ * draft purge and the archiver find old drafts and submitted requests without a table scan.
+ *
+ * Updates are dynamic: an UPDATE sets only the columns that changed, so patching one field of a
+ * draft does not rewrite the whole row.
+ */
 @Entity
-@Table(name = "account_requests")
+@Table(name = "account_requests", indexes = {
+    @Index(name = "idx_account_requests_created", columnList = "created_at, id"),
+    @Index(name = "idx_account_requests_status_created", columnList = "status, created_at, id"),
+    @Index(name = "idx_account_requests_type_created", columnList = "account_type, created_at, id"),
+    @Index(name = "idx_account_requests_status_type_created", columnList = "status, account_type, created_at, id"),
+    @Index(name = "idx_account_requests_status_updated", columnList = "status, updated_at")
+})
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
-public class AccountRequest {
+public class AccountRequest extends AbstractAccountRequest {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true)
-    private String requestId;
-
-    private String name;
-
-    private LocalDate dateOfBirth;
-
-    @Embedded
-    @AttributeOverrides({
-        @AttributeOverride(name = "fileName", column = @Column(name = "id_document_name")),
-        @AttributeOverride(name = "fileType", column = @Column(name = "id_document_type"))
-    })
-    private IdDocument idDocument;
-
-    @Embedded
-    private Address address;
-
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
-    private AccountStatus status;
-
-    @Enumerated(EnumType.STRING)
-    private AccountType accountType;
-
-    @Column(precision = 19, scale = 2)
-    private BigDecimal startingBalance;
-
-    @Column(precision = 19, scale = 2)
-    private BigDecimal monthlySalary;
-
-    private String email;
-
-    @Convert(converter = YesNoConverter.class)
-    @Column(length = 1)
-    private Boolean interestedInOtherProducts;
-
-    @Column(nullable = false, updatable = false)
-    private LocalDateTime createdAt;
-
-    private LocalDateTime updatedAt;
-
     @PrePersist
     protected void onCreate() {
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        setCreatedAt(LocalDateTime.now());
+        setUpdatedAt(LocalDateTime.now());
     }
 
     @PreUpdate
     protected void onUpdate() {
-        this.updatedAt = LocalDateTime.now();
+        setUpdatedAt(LocalDateTime.now());
     }
 }
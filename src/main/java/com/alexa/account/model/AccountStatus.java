@@ -2,6 +2,13 @@ package com.alexa.account.model;
 
 public enum AccountStatus {
     DRAFT,
-    SUBMITTED
+    /**
+     * Accepted for asynchronous submission; the document is spooled and the request is not yet submitted.
+     */
+    PROCESSING,
+    SUBMITTED,
+    /**
+     * Asynchronous submission failed; the request was not submitted.
+     */
+    FAILED
 }
-
@@ -0,0 +1,30 @@
+package com.alexa.account.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Submitted account request moved out of account_requests by the archiver.
+ * Keeps the id of the original row. Rows are only written by the archiver's bulk insert and never change.
+ */
+@Entity
+@Immutable
+@Table(name = "account_requests_archive")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedAccountRequest extends AbstractAccountRequest {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,61 @@
+package com.alexa.account.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event written in the same transaction as the change it describes, and published to downstream
+ * consumers by the outbox relay. The id gives the publication order.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_events_published", columnList = "published_at, id"),
+    @Index(name = "idx_outbox_events_aggregate", columnList = "aggregate_id, published_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String eventType;
+
+    /**
+     * Key of the entity the event is about (the request ID); events of one aggregate are published in order.
+     */
+    @Column(name = "aggregate_id", nullable = false)
+    private String aggregateId;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    private int attempts;
+
+    /**
+     * Set when the event failed max-attempts times; the relay no longer publishes it.
+     */
+    @Column(name = "dead_lettered_at")
+    private LocalDateTime deadLetteredAt;
+
+    public OutboxEvent(String eventType, String aggregateId, String payload) {
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+}
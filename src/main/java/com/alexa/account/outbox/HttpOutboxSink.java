@@ -0,0 +1,59 @@
+package com.alexa.account.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Posts each event as JSON to an HTTP endpoint, standing in for a message broker.
+ * The event id and type are sent as headers so the receiver can drop duplicates.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "http")
+public class HttpOutboxSink implements OutboxSink {
+
+    static final String EVENT_ID_HEADER = "X-Event-Id";
+    static final String EVENT_TYPE_HEADER = "X-Event-Type";
+
+    private final HttpClient httpClient;
+    private final URI url;
+    private final Duration timeout;
+
+    public HttpOutboxSink(@Value("${app.outbox.http.url}") URI url,
+                          @Value("${app.outbox.http.timeout:5s}") Duration timeout) {
+        this(HttpClient.newBuilder().connectTimeout(timeout).build(), url, timeout);
+    }
+
+    HttpOutboxSink(HttpClient httpClient, URI url, Duration timeout) {
+        this.httpClient = httpClient;
+        this.url = url;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void publish(OutboxMessage message) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(url)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .header(EVENT_ID_HEADER, Long.toString(message.id()))
+                .header(EVENT_TYPE_HEADER, message.eventType())
+                .POST(HttpRequest.BodyPublishers.ofString(message.payload()))
+                .build();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 != 2) {
+                throw new IOException("Outbox endpoint returned HTTP " + response.statusCode());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while publishing outbox event " + message.id(), e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.alexa.account.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded in-memory queue for tests, which read it with {@link #drain(int)}. Not durable: events
+ * marked published are lost on restart, so it must only be selected explicitly with app.outbox.sink=memory
+ * and drained by a consumer. A full queue rejects events, which stay in the outbox until there is room again.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "memory")
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final BlockingQueue<OutboxMessage> queue;
+
+    public InMemoryOutboxSink(@Value("${app.outbox.memory.capacity:10000}") int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public void publish(OutboxMessage message) throws IOException {
+        if (!queue.offer(message)) {
+            throw new IOException("Outbox queue is full");
+        }
+    }
+
+    /**
+     * Take up to max published events, oldest first.
+     */
+    public List<OutboxMessage> drain(int max) {
+        List<OutboxMessage> messages = new ArrayList<>();
+        queue.drainTo(messages, max);
+        return messages;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+}
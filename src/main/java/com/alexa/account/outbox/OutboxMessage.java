@@ -0,0 +1,28 @@
+package com.alexa.account.outbox;
+
+import com.alexa.account.model.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event as handed to an {@link OutboxSink}.
+ *
+ * @param id the event id, increasing in publication order; consumers can use it to drop duplicates
+ * @param eventType the event type (e.g. AccountSubmitted)
+ * @param aggregateId the request ID the event is about
+ * @param payload the event as JSON
+ * @param createdAt when the event was recorded
+ */
+public record OutboxMessage(
+        long id,
+        String eventType,
+        String aggregateId,
+        String payload,
+        LocalDateTime createdAt
+) {
+
+    public static OutboxMessage of(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getEventType(), event.getAggregateId(),
+                event.getPayload(), event.getCreatedAt());
+    }
+}
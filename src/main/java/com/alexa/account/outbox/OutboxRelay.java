@@ -0,0 +1,174 @@
+package com.alexa.account.outbox;
+
+import com.alexa.account.model.OutboxEvent;
+import com.alexa.account.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes outbox events to the configured {@link OutboxSink}.
+ *
+ * Each batch is claimed with SELECT ... FOR UPDATE SKIP LOCKED, published in id order, and marked
+ * published in the same transaction, so several instances can relay concurrently without publishing
+ * an event twice in the normal case. A batch holds at most one event per request ID (the claim skips
+ * events behind a pending one), so a failed event only holds back its own request: the rest of the
+ * batch is still published. After max-attempts failures the event is dead-lettered and left for an
+ * operator, and later events of its request are released.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retention;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter publishedEvents;
+    private final Counter failures;
+    private final Counter deadLettered;
+    private final Timer publishDelay;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxSink sink,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.outbox.relay.enabled:true}") boolean enabled,
+                       @Value("${app.outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${app.outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${app.outbox.retention:7d}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+        this.publishedEvents = Counter.builder("outbox.events.published")
+                .description("Outbox events published to the sink")
+                .register(meterRegistry);
+        this.failures = Counter.builder("outbox.relay.failures")
+                .description("Failed attempts to publish an outbox event")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("outbox.events.dead.lettered")
+                .description("Outbox events given up after max-attempts failed publications")
+                .register(meterRegistry);
+        this.publishDelay = Timer.builder("outbox.events.publish.delay")
+                .description("Time from recording an outbox event to publishing it")
+                .register(meterRegistry);
+        Gauge.builder("outbox.relay.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .description("Age in seconds of the oldest unpublished outbox event, as of the last relay run")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval:500ms}")
+    public void scheduledRelay() {
+        if (enabled) {
+            relay();
+        }
+    }
+
+    /**
+     * Publish batches until the outbox is drained or an event fails. A failed event is retried by
+     * the next run, not by the next batch, so it costs one attempt per poll interval.
+     *
+     * @return the number of events published
+     */
+    public int relay() {
+        int total = 0;
+        BatchResult batch;
+        do {
+            batch = transactionTemplate.execute(status -> relayBatch());
+            if (batch == null) {
+                break;
+            }
+            total += batch.published();
+        } while (batch.claimed() == batchSize && batch.published() == batch.claimed());
+
+        LocalDateTime oldest = outboxEventRepository.findFirstByPublishedAtIsNullAndDeadLetteredAtIsNullOrderByIdAsc()
+                .map(OutboxEvent::getCreatedAt)
+                .orElse(null);
+        lagMillis.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()));
+        return total;
+    }
+
+    /**
+     * Age of the oldest unpublished event as of the last relay run.
+     */
+    public Duration getLag() {
+        return Duration.ofMillis(lagMillis.get());
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval:PT1H}")
+    public void purgePublished() {
+        int deleted = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Purged {} published outbox events", deleted);
+        }
+    }
+
+    private BatchResult relayBatch() {
+        List<OutboxEvent> events = outboxEventRepository.claimUnpublished(Limit.of(batchSize));
+        List<OutboxEvent> published = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            try {
+                sink.publish(OutboxMessage.of(event));
+                published.add(event);
+            } catch (IOException | RuntimeException e) {
+                recordFailure(event, e);
+            }
+        }
+
+        try {
+            sink.flush();
+        } catch (IOException e) {
+            failures.increment();
+            log.warn("Failed to flush {} outbox events: {}", published.size(), e.getMessage());
+            return new BatchResult(events.size(), 0);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxEvent event : published) {
+            event.setPublishedAt(now);
+            publishDelay.record(Duration.between(event.getCreatedAt(), now));
+        }
+        publishedEvents.increment(published.size());
+        return new BatchResult(events.size(), published.size());
+    }
+
+    private void recordFailure(OutboxEvent event, Exception e) {
+        event.setAttempts(event.getAttempts() + 1);
+        failures.increment();
+        if (event.getAttempts() >= maxAttempts) {
+            event.setDeadLetteredAt(LocalDateTime.now());
+            deadLettered.increment();
+            log.error("Dead-lettered outbox event {} of {} after {} attempts: {}",
+                    event.getId(), event.getAggregateId(), event.getAttempts(), e.getMessage());
+        } else {
+            log.warn("Failed to publish outbox event {} (attempt {}): {}",
+                    event.getId(), event.getAttempts(), e.getMessage());
+        }
+    }
+
+    private record BatchResult(int claimed, int published) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.alexa.account.outbox;
+
+import java.io.IOException;
+
+/**
+ * Destination of outbox events, selected with {@code app.outbox.sink} (memory, file or http).
+ *
+ * Delivery is at least once: a batch is marked published only after {@link #flush()} succeeds,
+ * so a failure or a crash before that publishes the events again.
+ */
+public interface OutboxSink {
+
+    /**
+     * Publish one event. Events are passed in publication order.
+     *
+     * @throws IOException if the event could not be published; the relay retries it later
+     */
+    void publish(OutboxMessage message) throws IOException;
+
+    /**
+     * Make the events published since the previous flush durable.
+     */
+    default void flush() throws IOException {
+    }
+}
@@ -0,0 +1,334 @@
+package com.alexa.account.reference;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable in-memory index of Dutch post codes, their house-number ranges and city.
+ *
+ * Layout (for the full Dutch dataset of roughly 500k post codes this is a few MB):
+ * - a bitset over all 9000 * 26 * 26 possible post codes for O(1) existence checks
+ * - a rank directory over the bitset mapping a post code to its position in O(1)
+ * - per position, offsets into a packed array of house-number ranges
+ * - per position, a city id pointing into a shared table of city names
+ *
+ * Dataset format (one range per line, '#' starts a comment):
+ * <pre>postcode;fromNumber;toNumber;parity;city</pre>
+ * e.g. {@code 1011AB;1;25;odd;Amsterdam}, where parity is one of mixed, even or odd.
+ */
+@Slf4j
+public final class AddressIndex {
+
+    public static final AddressIndex EMPTY = new AddressIndex(new long[0], new int[0], new int[]{0}, new long[0], new short[0], new String[0]);
+
+    private static final int LETTER_COMBINATIONS = 26 * 26;
+    private static final int KEY_SPACE = 9000 * LETTER_COMBINATIONS;
+
+    private static final int PARITY_MIXED = 0;
+    private static final int PARITY_EVEN = 1;
+    private static final int PARITY_ODD = 2;
+
+    private final long[] postCodes;
+    private final int[] wordRanks;
+    private final int[] rangeOffsets;
+    private final long[] ranges;
+    private final short[] cityIds;
+    private final String[] cities;
+
+    private AddressIndex(long[] postCodes, int[] wordRanks, int[] rangeOffsets, long[] ranges, short[] cityIds, String[] cities) {
+        this.postCodes = postCodes;
+        this.wordRanks = wordRanks;
+        this.rangeOffsets = rangeOffsets;
+        this.ranges = ranges;
+        this.cityIds = cityIds;
+        this.cities = cities;
+    }
+
+    /**
+     * Load the index from a dataset file. Malformed lines are skipped and logged.
+     */
+    public static AddressIndex load(Path file) throws IOException {
+        int capacity = 1 << 16;
+        int[] lineKeys = new int[capacity];
+        long[] lineRanges = new long[capacity];
+        short[] lineCities = new short[capacity];
+        Map<String, Short> cityIdsByName = new HashMap<>();
+        int count = 0;
+        int skipped = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split(";", -1);
+                int key = parts.length == 5 ? postCodeKey(parts[0].trim()) : -1;
+                long range = key >= 0 ? packRange(parts[1].trim(), parts[2].trim(), parts[3].trim()) : -1;
+                String city = key >= 0 ? parts[4].trim() : "";
+                if (range < 0 || city.isEmpty()) {
+                    skipped++;
+                    continue;
+                }
+
+                if (count == capacity) {
+                    capacity *= 2;
+                    lineKeys = Arrays.copyOf(lineKeys, capacity);
+                    lineRanges = Arrays.copyOf(lineRanges, capacity);
+                    lineCities = Arrays.copyOf(lineCities, capacity);
+                }
+                Short cityId = cityIdsByName.get(city);
+                if (cityId == null) {
+                    if (cityIdsByName.size() > Short.MAX_VALUE) {
+                        throw new IOException("Too many distinct cities in " + file);
+                    }
+                    cityId = (short) cityIdsByName.size();
+                    cityIdsByName.put(city, cityId);
+                }
+                lineKeys[count] = key;
+                lineRanges[count] = range;
+                lineCities[count] = cityId;
+                count++;
+            }
+        }
+
+        if (skipped > 0) {
+            log.warn("Skipped {} malformed lines while loading address index from {}", skipped, file);
+        }
+        return build(lineKeys, lineRanges, lineCities, count, cityIdsByName);
+    }
+
+    private static AddressIndex build(int[] lineKeys, long[] lineRanges, short[] lineCities, int count,
+                                      Map<String, Short> cityIdsByName) {
+        // Sort lines by post code, keeping the original line index in the low bits
+        long[] order = new long[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = ((long) lineKeys[i] << 32) | i;
+        }
+        Arrays.sort(order);
+
+        BitSet postCodes = new BitSet(KEY_SPACE);
+        int previousKey = -1;
+        int[] rangeOffsets = new int[count + 1];
+        long[] ranges = new long[count];
+        short[] cityIds = new short[count];
+        int distinct = 0;
+
+        for (int i = 0; i < count; i++) {
+            int key = (int) (order[i] >>> 32);
+            int line = (int) order[i];
+            if (key != previousKey) {
+                previousKey = key;
+                rangeOffsets[distinct] = i;
+                cityIds[distinct] = lineCities[line];
+                postCodes.set(key);
+                distinct++;
+            }
+            ranges[i] = lineRanges[line];
+        }
+        rangeOffsets[distinct] = count;
+
+        String[] cities = new String[cityIdsByName.size()];
+        cityIdsByName.forEach((name, id) -> cities[id] = name);
+
+        // Number of set bits before each word, so a post code's position is one popcount away
+        long[] words = postCodes.toLongArray();
+        int[] wordRanks = new int[words.length];
+        int rank = 0;
+        for (int w = 0; w < words.length; w++) {
+            wordRanks[w] = rank;
+            rank += Long.bitCount(words[w]);
+        }
+
+        return new AddressIndex(words, wordRanks, Arrays.copyOf(rangeOffsets, distinct + 1),
+                ranges, Arrays.copyOf(cityIds, distinct), cities);
+    }
+
+    /**
+     * Number of distinct post codes in the index.
+     */
+    public int size() {
+        return cityIds.length;
+    }
+
+    /**
+     * Approximate heap size of the index structures in bytes.
+     */
+    public long memoryFootprint() {
+        return postCodes.length * 8L + wordRanks.length * 4L + rangeOffsets.length * 4L
+                + ranges.length * 8L + cityIds.length * 2L;
+    }
+
+    public boolean containsPostCode(String postCode) {
+        return position(postCode) >= 0;
+    }
+
+    /**
+     * Check whether the house number lies in one of the ranges of the post code.
+     * Only the numeric part of the house number is considered (e.g., 123 for "123A-bis").
+     */
+    public boolean containsHouseNumber(String postCode, String houseNumber) {
+        int position = position(postCode);
+        int number = leadingNumber(houseNumber);
+        if (position < 0 || number <= 0) {
+            return false;
+        }
+        for (int i = rangeOffsets[position]; i < rangeOffsets[position + 1]; i++) {
+            if (inRange(ranges[i], number)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * City of the post code, or null if the post code is unknown.
+     */
+    public String cityOf(String postCode) {
+        int position = position(postCode);
+        return position < 0 ? null : cities[cityIds[position]];
+    }
+
+    /**
+     * Check whether the city matches the city of the post code, ignoring case and surrounding whitespace.
+     */
+    public boolean cityMatches(String postCode, String city) {
+        String expected = cityOf(postCode);
+        return expected != null && city != null && expected.equalsIgnoreCase(city.trim());
+    }
+
+    private int position(String postCode) {
+        int key = postCodeKey(postCode);
+        int word = key >>> 6;
+        if (key < 0 || word >= postCodes.length) {
+            return -1;
+        }
+        long bit = 1L << key;
+        if ((postCodes[word] & bit) == 0) {
+            return -1;
+        }
+        return wordRanks[word] + Long.bitCount(postCodes[word] & (bit - 1));
+    }
+
+    /**
+     * Map a post code ("1234 AB" or "1234AB", any case) to its key in [0, 9000 * 676), or -1 if malformed.
+     * The separator may be any whitespace character accepted by the post code format check.
+     */
+    static int postCodeKey(String postCode) {
+        if (postCode == null) {
+            return -1;
+        }
+        int length = postCode.length();
+        if (length != 6 && length != 7) {
+            return -1;
+        }
+        int number = 0;
+        for (int i = 0; i < 4; i++) {
+            char c = postCode.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        if (number < 1000 || (length == 7 && !isSeparator(postCode.charAt(4)))) {
+            return -1;
+        }
+        int first = letterIndex(postCode.charAt(length - 2));
+        int second = letterIndex(postCode.charAt(length - 1));
+        if (first < 0 || second < 0) {
+            return -1;
+        }
+        return (number - 1000) * LETTER_COMBINATIONS + first * 26 + second;
+    }
+
+    /**
+     * Same characters as {@code \s} in the post code pattern of the format check.
+     */
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static int letterIndex(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        return -1;
+    }
+
+    private static int leadingNumber(String houseNumber) {
+        if (houseNumber == null) {
+            return -1;
+        }
+        int number = 0;
+        int i = 0;
+        while (i < houseNumber.length() && i < 6 && isDigit(houseNumber.charAt(i))) {
+            number = number * 10 + (houseNumber.charAt(i) - '0');
+            i++;
+        }
+        return i == 0 ? -1 : number;
+    }
+
+    /**
+     * Parse a whole value of 1 to 6 ASCII digits, or -1 if it is anything else.
+     */
+    private static int parseNumber(String value) {
+        if (value.isEmpty() || value.length() > 6) {
+            return -1;
+        }
+        int number = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Pack a range as from (bits 22-41), to (bits 2-21) and parity (bits 0-1), or -1 if malformed.
+     */
+    private static long packRange(String from, String to, String parity) {
+        int parityCode = switch (parity.toLowerCase()) {
+            case "mixed", "" -> PARITY_MIXED;
+            case "even" -> PARITY_EVEN;
+            case "odd" -> PARITY_ODD;
+            default -> -1;
+        };
+        int fromNumber = parseNumber(from);
+        int toNumber = parseNumber(to);
+        if (parityCode < 0 || fromNumber <= 0 || toNumber < fromNumber) {
+            return -1;
+        }
+        return ((long) fromNumber << 22) | ((long) toNumber << 2) | parityCode;
+    }
+
+    private static boolean inRange(long range, int number) {
+        int from = (int) (range >>> 22);
+        int to = (int) ((range >>> 2) & 0xFFFFF);
+        int parity = (int) (range & 3);
+        if (number < from || number > to) {
+            return false;
+        }
+        return parity == PARITY_MIXED
+                || (parity == PARITY_EVEN && (number & 1) == 0)
+                || (parity == PARITY_ODD && (number & 1) == 1);
+    }
+}
@@ -0,0 +1,272 @@
+package com.alexa.account.reference;
+
+import com.alexa.account.validation.FieldRule;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable prefix index for type-ahead suggestions of city and street names.
+ *
+ * Names are folded (diacritics removed, lower case) and stored in one sorted array per field,
+ * which acts as a flattened trie: all names sharing a prefix form one contiguous range, found
+ * with two binary searches. The best names of that range are selected by weight. The widest
+ * ranges (one and two character prefixes) have their top names precomputed.
+ *
+ * Reference file format (one name per line, '#' starts a comment):
+ * <pre>field;name;weight</pre>
+ * e.g. {@code city;Amsterdam;931298}, where field is city or streetName and weight ranks suggestions.
+ */
+@Slf4j
+public final class SuggestionIndex {
+
+    public static final SuggestionIndex EMPTY = new SuggestionIndex(new EnumMap<>(FieldRule.class));
+
+    /**
+     * Largest number of suggestions returned for one lookup.
+     */
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private static final int PRECOMPUTED_PREFIX_LENGTH = 2;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final Map<FieldRule, Dictionary> dictionaries;
+
+    private SuggestionIndex(Map<FieldRule, Dictionary> dictionaries) {
+        this.dictionaries = dictionaries;
+    }
+
+    /**
+     * Load the index from a reference file. Malformed lines and unsupported fields are skipped and logged.
+     */
+    public static SuggestionIndex load(Path file) throws IOException {
+        Map<FieldRule, Map<String, Entry>> entriesByField = new EnumMap<>(FieldRule.class);
+        int skipped = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split(";", -1);
+                FieldRule field = parts.length == 3 ? FieldRule.forFieldName(parts[0].trim()) : null;
+                String name = parts.length == 3 ? parts[1].trim() : "";
+                long weight = parts.length == 3 ? parseWeight(parts[2].trim()) : -1;
+                if (!isSupported(field) || name.isEmpty() || weight < 0) {
+                    skipped++;
+                    continue;
+                }
+
+                // Names that fold to the same key are merged, keeping the most common spelling
+                entriesByField.computeIfAbsent(field, f -> new HashMap<>())
+                        .merge(fold(name), new Entry(name, weight), Entry::merge);
+            }
+        }
+
+        if (skipped > 0) {
+            log.warn("Skipped {} malformed lines while loading suggestions from {}", skipped, file);
+        }
+        Map<FieldRule, Dictionary> dictionaries = new EnumMap<>(FieldRule.class);
+        entriesByField.forEach((field, entries) -> dictionaries.put(field, Dictionary.build(entries)));
+        return new SuggestionIndex(dictionaries);
+    }
+
+    /**
+     * Check whether suggestions can be requested for the field.
+     */
+    public static boolean isSupported(FieldRule field) {
+        return field == FieldRule.CITY || field == FieldRule.STREET_NAME;
+    }
+
+    /**
+     * Fold a name for matching: remove diacritics and convert to lower case ("Ĳsselstein" matches "ijs").
+     */
+    public static String fold(String value) {
+        if (isAscii(value)) {
+            return value.toLowerCase(Locale.ROOT);
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFKD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Number of distinct names indexed for the field.
+     */
+    public int size(FieldRule field) {
+        Dictionary dictionary = dictionaries.get(field);
+        return dictionary == null ? 0 : dictionary.names.length;
+    }
+
+    /**
+     * Get the highest ranked names starting with the prefix, ignoring case and diacritics.
+     *
+     * @param field the field (city or streetName)
+     * @param prefix the typed prefix
+     * @param limit the maximum number of suggestions (capped at {@link #MAX_SUGGESTIONS})
+     * @return names ordered by descending weight
+     */
+    public List<String> suggest(FieldRule field, String prefix, int limit) {
+        Dictionary dictionary = dictionaries.get(field);
+        if (dictionary == null || prefix == null || prefix.isBlank() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        return dictionary.suggest(fold(prefix.strip()), Math.min(limit, MAX_SUGGESTIONS));
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseWeight(String value) {
+        if (value.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private record Entry(String name, long weight) {
+        Entry merge(Entry other) {
+            String preferred = other.weight > weight ? other.name : name;
+            return new Entry(preferred, weight + other.weight);
+        }
+    }
+
+    /**
+     * Names of one field sorted by folded key, with weights and precomputed top names for short prefixes.
+     */
+    private static final class Dictionary {
+
+        private final String[] keys;
+        private final String[] names;
+        private final long[] weights;
+        private final Map<String, int[]> topByShortPrefix;
+
+        private Dictionary(String[] keys, String[] names, long[] weights) {
+            this.keys = keys;
+            this.names = names;
+            this.weights = weights;
+            this.topByShortPrefix = new HashMap<>();
+            for (int i = 0; i < keys.length; i++) {
+                for (int length = 1; length <= PRECOMPUTED_PREFIX_LENGTH && length <= keys[i].length(); length++) {
+                    String prefix = keys[i].substring(0, length);
+                    if (!topByShortPrefix.containsKey(prefix)) {
+                        int from = i;
+                        int to = upperBound(prefix, from);
+                        topByShortPrefix.put(prefix, top(from, to, MAX_SUGGESTIONS));
+                    }
+                }
+            }
+        }
+
+        static Dictionary build(Map<String, Entry> entries) {
+            String[] keys = entries.keySet().toArray(new String[0]);
+            Arrays.sort(keys);
+            String[] names = new String[keys.length];
+            long[] weights = new long[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                Entry entry = entries.get(keys[i]);
+                names[i] = entry.name();
+                weights[i] = entry.weight();
+            }
+            return new Dictionary(keys, names, weights);
+        }
+
+        List<String> suggest(String prefix, int limit) {
+            int[] top = prefix.length() <= PRECOMPUTED_PREFIX_LENGTH ? topByShortPrefix.get(prefix) : null;
+            if (top == null) {
+                int from = lowerBound(prefix);
+                int to = upperBound(prefix, from);
+                top = top(from, to, limit);
+            }
+
+            int count = Math.min(limit, top.length);
+            List<String> suggestions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                suggestions.add(names[top[i]]);
+            }
+            return suggestions;
+        }
+
+        /**
+         * First index whose key is >= prefix.
+         */
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * First index from {@code from} whose key does not start with prefix.
+         */
+        private int upperBound(String prefix, int from) {
+            int low = from;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].startsWith(prefix)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Indexes of the highest weighted names in [from, to), best first.
+         * Keeps a small sorted buffer instead of sorting the whole range.
+         */
+        private int[] top(int from, int to, int limit) {
+            int[] best = new int[Math.max(0, Math.min(limit, to - from))];
+            if (best.length == 0) {
+                return best;
+            }
+            int size = 0;
+            for (int i = from; i < to; i++) {
+                if (size == best.length && weights[i] <= weights[best[size - 1]]) {
+                    continue;
+                }
+                int position = size < best.length ? size++ : size - 1;
+                while (position > 0 && weights[best[position - 1]] < weights[i]) {
+                    best[position] = best[position - 1];
+                    position--;
+                }
+                best[position] = i;
+            }
+            return best;
+        }
+    }
+}
@@ -1,13 +1,76 @@
 package com.alexa.account.repository;
 
 import com.alexa.account.model.AccountRequest;
+import com.alexa.account.model.AccountStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AccountRequestRepository extends JpaRepository<AccountRequest, Long> {
+public interface AccountRequestRepository extends JpaRepository<AccountRequest, Long>, AccountRequestRepositoryCustom {
     Optional<AccountRequest> findByRequestId(String requestId);
-}
 
+    /**
+     * Check whether a request with the request ID and status exists.
+     */
+    boolean existsByRequestIdAndStatus(String requestId, AccountStatus status);
+
+    /**
+     * Find a request by request ID and lock it until the end of the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from AccountRequest a where a.requestId = :requestId")
+    Optional<AccountRequest> findForUpdateByRequestId(@Param("requestId") String requestId);
+
+    /**
+     * Request IDs of requests with the status that were last updated before the cutoff, oldest first.
+     */
+    @Query("select a.requestId from AccountRequest a where a.status = :status and a.updatedAt < :cutoff"
+            + " order by a.updatedAt, a.id")
+    List<String> findRequestIdsUpdatedBefore(@Param("status") AccountStatus status,
+                                             @Param("cutoff") LocalDateTime cutoff,
+                                             Limit limit);
+
+    /**
+     * Requests with the status that were last updated before the cutoff, oldest first.
+     */
+    @Query("select a.id as id, a.idDocument.filePath as filePath from AccountRequest a"
+            + " where a.status = :status and a.updatedAt < :cutoff order by a.updatedAt, a.id")
+    List<StoredDocumentView> findUpdatedBefore(@Param("status") AccountStatus status,
+                                               @Param("cutoff") LocalDateTime cutoff,
+                                               Limit limit);
+
+    /**
+     * Delete the requests by id, provided they still have the status and were not updated since the cutoff.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from AccountRequest a where a.id in :ids and a.status = :status and a.updatedAt < :cutoff")
+    int deleteUpdatedBefore(@Param("ids") Collection<Long> ids,
+                            @Param("status") AccountStatus status,
+                            @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Delete the requests by id, provided they still have the status.
+     * Must run in the transaction that copied them to the archive.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Modifying
+    @Query("delete from AccountRequest a where a.id in :ids and a.status = :status")
+    int deleteByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") AccountStatus status);
+
+    @Query("select a.id from AccountRequest a where a.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,55 @@
+package com.alexa.account.repository;
+
+import com.alexa.account.dto.AccountSearchCriteria;
+import com.alexa.account.dto.DraftRequestDTO;
+import com.alexa.account.model.AbstractAccountRequest;
+import com.alexa.account.model.AccountRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Queries of {@link AccountRequestRepository} that cannot be derived from method names.
+ */
+public interface AccountRequestRepositoryCustom {
+
+    /**
+     * Find the account requests matching the criteria, newest first, using keyset pagination.
+     *
+     * @param criteria the filters
+     * @param after the position after which to start, or null for the first page
+     * @param limit the maximum number of rows
+     * @return the rows ordered by (createdAt desc, id desc)
+     */
+    List<AccountRequest> findPage(AccountSearchCriteria criteria, AccountCursor after, int limit);
+
+    /**
+     * Find a request by request ID in account_requests, falling through to the archive on a miss.
+     *
+     * @param requestId the unique request ID
+     * @return the active {@link AccountRequest} (managed), or the read-only archived request
+     */
+    Optional<AbstractAccountRequest> findByRequestIdIncludingArchive(String requestId);
+
+    /**
+     * Check whether a request ID is used in account_requests or in the archive, with one statement.
+     * New request IDs must be checked against both: an archived request keeps its ID, and the archive
+     * cannot take a second request with the same ID.
+     *
+     * @param requestId the request ID
+     * @return true if an active or archived request has the request ID
+     */
+    boolean existsByRequestIdIncludingArchive(String requestId);
+
+    /**
+     * Write the draft state of several requests as one JDBC batch of conditional UPDATEs.
+     * Only rows that are still drafts are updated; optional fields left null keep their stored value.
+     *
+     * @param drafts the latest draft state by request ID
+     * @param updatedAt the update timestamp to store
+     * @return the number of rows updated, or -1 if the driver does not report it
+     */
+    int updateDrafts(Map<String, DraftRequestDTO> drafts, LocalDateTime updatedAt);
+}
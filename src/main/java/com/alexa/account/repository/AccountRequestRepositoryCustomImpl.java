@@ -0,0 +1,172 @@
+package com.alexa.account.repository;
+
+import com.alexa.account.dto.AccountSearchCriteria;
+import com.alexa.account.dto.DraftRequestDTO;
+import com.alexa.account.model.AbstractAccountRequest;
+import com.alexa.account.model.AccountRequest;
+import com.alexa.account.model.AccountStatus;
+import com.alexa.account.model.ArchivedAccountRequest;
+import com.alexa.account.util.YesNoBoolean;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Custom queries over account requests.
+ *
+ * The listing uses keyset (seek) pagination: instead of an OFFSET, which makes the database read and discard every row of the previous pages,
+ * each page continues below the (createdAt, id) of the last row seen. Together with the composite
+ * indexes on {@link AccountRequest} every page is a short index range scan, however deep it is.
+ *
+ * Draft autosaves bypass the persistence context: one parameterized UPDATE per draft is sent as a
+ * single JDBC batch, conditional on the row still being a draft, so a flush racing with a submission
+ * cannot overwrite it.
+ */
+public class AccountRequestRepositoryCustomImpl implements AccountRequestRepositoryCustom {
+
+    private static final String UPDATE_DRAFT = """
+            update account_requests
+               set name = :name,
+                   date_of_birth = :dateOfBirth,
+                   street_name = :streetName,
+                   house_number = :houseNumber,
+                   post_code = :postCode,
+                   city = :city,
+                   account_type = coalesce(:accountType, account_type),
+                   starting_balance = coalesce(:startingBalance, starting_balance),
+                   email = coalesce(:email, email),
+                   monthly_salary = coalesce(:monthlySalary, monthly_salary),
+                   interested_in_other_products = coalesce(:interestedInOtherProducts, interested_in_other_products),
+                   updated_at = :updatedAt
+             where request_id = :requestId
+               and status = :status
+            """;
+
+    private static final String REQUEST_ID_IN_USE = """
+            select 1 from account_requests where request_id = :requestId
+            union all
+            select 1 from account_requests_archive where request_id = :requestId
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public AccountRequestRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public List<AccountRequest> findPage(AccountSearchCriteria criteria, AccountCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AccountRequest> query = cb.createQuery(AccountRequest.class);
+        Root<AccountRequest> root = query.from(AccountRequest.class);
+        Path<LocalDateTime> createdAt = root.get("createdAt");
+        Path<Long> id = root.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.status() != null) {
+            predicates.add(cb.equal(root.get("status"), criteria.status()));
+        }
+        if (criteria.accountType() != null) {
+            predicates.add(cb.equal(root.get("accountType"), criteria.accountType()));
+        }
+        if (criteria.createdFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdAt, criteria.createdFrom()));
+        }
+        if (criteria.createdTo() != null) {
+            predicates.add(cb.lessThan(createdAt, criteria.createdTo()));
+        }
+        if (after != null) {
+            // (createdAt, id) < (after.createdAt, after.id); the leading bound lets the database
+            // start the index range scan at the cursor instead of evaluating the OR per row
+            predicates.add(cb.lessThanOrEqualTo(createdAt, after.createdAt()));
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, after.createdAt()),
+                    cb.lessThan(id, after.id())));
+        }
+
+        query.select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(createdAt), cb.desc(id));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Optional<AbstractAccountRequest> findByRequestIdIncludingArchive(String requestId) {
+        List<AccountRequest> active = entityManager
+                .createQuery("select a from AccountRequest a where a.requestId = :requestId", AccountRequest.class)
+                .setParameter("requestId", requestId)
+                .getResultList();
+        if (!active.isEmpty()) {
+            return Optional.of(active.get(0));
+        }
+        List<ArchivedAccountRequest> archived = entityManager
+                .createQuery("select a from ArchivedAccountRequest a where a.requestId = :requestId",
+                        ArchivedAccountRequest.class)
+                .setParameter("requestId", requestId)
+                .getResultList();
+        return archived.isEmpty() ? Optional.empty() : Optional.of(archived.get(0));
+    }
+
+    @Override
+    public boolean existsByRequestIdIncludingArchive(String requestId) {
+        return !entityManager.createNativeQuery(REQUEST_ID_IN_USE)
+                .setParameter("requestId", requestId)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+
+    @Override
+    public int updateDrafts(Map<String, DraftRequestDTO> drafts, LocalDateTime updatedAt) {
+        if (drafts.isEmpty()) {
+            return 0;
+        }
+        SqlParameterSource[] batch = drafts.entrySet().stream()
+                .map(entry -> draftParameters(entry.getKey(), entry.getValue(), updatedAt))
+                .toArray(SqlParameterSource[]::new);
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_DRAFT, batch);
+        // Batched drivers may report SUCCESS_NO_INFO (-2) instead of a row count
+        return Arrays.stream(counts).anyMatch(count -> count < 0) ? -1 : Arrays.stream(counts).sum();
+    }
+
+    private static SqlParameterSource draftParameters(String requestId, DraftRequestDTO draft, LocalDateTime updatedAt) {
+        return new MapSqlParameterSource()
+                .addValue("requestId", requestId)
+                .addValue("status", AccountStatus.DRAFT.name())
+                .addValue("name", draft.name())
+                .addValue("dateOfBirth", draft.dateOfBirth())
+                .addValue("streetName", draft.address().streetName())
+                .addValue("houseNumber", draft.address().houseNumber())
+                .addValue("postCode", draft.address().postCode())
+                .addValue("city", draft.address().city())
+                // Typed, so null optional fields bind as NULL for coalesce on every driver
+                .addValue("accountType", draft.accountType() == null ? null : draft.accountType().name(), Types.VARCHAR)
+                .addValue("startingBalance", draft.startingBalance(), Types.DECIMAL)
+                .addValue("email", draft.email(), Types.VARCHAR)
+                .addValue("monthlySalary", draft.monthlySalary(), Types.DECIMAL)
+                .addValue("interestedInOtherProducts", YesNoBoolean.toYesNo(draft.interestedInOtherProducts()),
+                        Types.VARCHAR)
+                .addValue("updatedAt", updatedAt);
+    }
+}
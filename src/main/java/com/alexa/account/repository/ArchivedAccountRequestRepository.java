@@ -0,0 +1,41 @@
+package com.alexa.account.repository;
+
+import com.alexa.account.model.ArchivedAccountRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedAccountRequestRepository extends JpaRepository<ArchivedAccountRequest, Long> {
+    Optional<ArchivedAccountRequest> findByRequestId(String requestId);
+
+    /**
+     * Copy submitted requests from account_requests into the archive in one statement.
+     * Must run in the transaction that deletes the copied rows from account_requests.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into account_requests_archive (id, request_id, name, date_of_birth,
+                file_path, id_document_name, id_document_type, file_size,
+                street_name, house_number, post_code, city,
+                status, account_type, starting_balance, monthly_salary, email, interested_in_other_products,
+                created_at, updated_at, archived_at)
+            select id, request_id, name, date_of_birth,
+                file_path, id_document_name, id_document_type, file_size,
+                street_name, house_number, post_code, city,
+                status, account_type, starting_balance, monthly_salary, email, interested_in_other_products,
+                created_at, updated_at, :archivedAt
+            from account_requests
+            where id in (:ids) and status = 'SUBMITTED'
+            """)
+    int copySubmitted(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -0,0 +1,43 @@
+package com.alexa.account.repository;
+
+import com.alexa.account.model.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Lock the oldest unpublished events, skipping events locked by another relay.
+     * An event is only claimed when no earlier event of the same aggregate is still pending,
+     * so events of one request are never published out of order across relays. A dead-lettered
+     * event no longer holds back the later events of its aggregate.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e where e.publishedAt is null and e.deadLetteredAt is null and not exists ("
+            + "select 1 from OutboxEvent p where p.aggregateId = e.aggregateId"
+            + " and p.publishedAt is null and p.deadLetteredAt is null and p.id < e.id)"
+            + " order by e.id")
+    List<OutboxEvent> claimUnpublished(Limit limit);
+
+    Optional<OutboxEvent> findFirstByPublishedAtIsNullAndDeadLetteredAtIsNullOrderByIdAsc();
+
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent e where e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,14 @@
+package com.alexa.account.repository;
+
+/**
+ * Projection of an account request to its id and the path of its stored ID document.
+ */
+public interface StoredDocumentView {
+
+    Long getId();
+
+    /**
+     * Relative path of the stored document, or null if no document was uploaded.
+     */
+    String getFilePath();
+}
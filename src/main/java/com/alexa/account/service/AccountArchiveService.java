@@ -0,0 +1,178 @@
+package com.alexa.account.service;
+
+import com.alexa.account.model.AccountStatus;
+import com.alexa.account.repository.AccountRequestRepository;
+import com.alexa.account.repository.ArchivedAccountRequestRepository;
+import com.alexa.account.repository.StoredDocumentView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of the archiver.
+ *
+ * Each chunk selects up to batch-size old submitted requests by the (status, updated_at) index and
+ * moves them with one INSERT ... SELECT into account_requests_archive and one DELETE by primary key,
+ * in a single transaction. Submitted requests never change, so the copy and the delete always cover
+ * the same rows; if they do not, the chunk is rolled back. Lookups by request ID fall through to the
+ * archive, so moving a request is invisible to clients.
+ *
+ * A chunk that violates a constraint of the archive (a request ID that is already archived, or another
+ * instance archiving the same rows) is moved again row by row. Rows that still fail are counted,
+ * logged and skipped by later chunks and runs, so one bad row cannot stop archiving. The skipped IDs
+ * are kept in memory only (a restart finds them again, once) and at most max-skipped of them: each one
+ * widens the chunk select, so once that many are skipped the runs stop archiving until they are fixed.
+ */
+@Service
+@Slf4j
+public class AccountArchiveService implements IAccountArchiveService {
+
+    private final AccountRequestRepository accountRequestRepository;
+    private final ArchivedAccountRequestRepository archivedAccountRequestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration archiveAfter;
+    private final int batchSize;
+    private final Duration pause;
+    private final int maxSkipped;
+    private final Counter archivedRequests;
+    private final Counter conflicts;
+    private final Timer runTimer;
+    private final Set<Long> conflictingIds = ConcurrentHashMap.newKeySet();
+
+    public AccountArchiveService(AccountRequestRepository accountRequestRepository,
+                                 ArchivedAccountRequestRepository archivedAccountRequestRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.archive.enabled:true}") boolean enabled,
+                                 @Value("${app.archive.archive-after:30d}") Duration archiveAfter,
+                                 @Value("${app.archive.batch-size:500}") int batchSize,
+                                 @Value("${app.archive.pause:200ms}") Duration pause,
+                                 @Value("${app.archive.max-skipped:1000}") int maxSkipped) {
+        this.accountRequestRepository = accountRequestRepository;
+        this.archivedAccountRequestRepository = archivedAccountRequestRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.archiveAfter = archiveAfter;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.maxSkipped = maxSkipped;
+        this.archivedRequests = Counter.builder("account.requests.archived")
+                .description("Submitted requests moved to the archive table")
+                .register(meterRegistry);
+        this.conflicts = Counter.builder("account.requests.archive.conflicts")
+                .description("Submitted requests that could not be moved to the archive")
+                .register(meterRegistry);
+        Gauge.builder("account.requests.archive.skipped", conflictingIds, Set::size)
+                .description("Submitted requests skipped by the archiver since startup")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("account.requests.archive")
+                .description("Duration of an archive run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.archive.interval:PT1H}",
+            initialDelayString = "${app.archive.initial-delay:PT10M}")
+    public void scheduledArchive() {
+        if (enabled) {
+            archiveSubmittedRequests();
+        }
+    }
+
+    @Override
+    public int archiveSubmittedRequests() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(archiveAfter);
+        int archived = runTimer.record(() -> archiveUpdatedBefore(cutoff));
+        if (archived > 0) {
+            log.info("Archived {} submitted requests not updated since {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    private int archiveUpdatedBefore(LocalDateTime cutoff) {
+        int total = 0;
+        while (true) {
+            if (conflictingIds.size() >= maxSkipped) {
+                log.error("Archiving stopped: {} submitted requests cannot be archived (app.archive.max-skipped)",
+                        conflictingIds.size());
+                return total;
+            }
+            // Skipped rows are among the oldest, so select enough to fill a chunk without them
+            int limit = batchSize + conflictingIds.size();
+            List<Long> selected = accountRequestRepository
+                    .findUpdatedBefore(AccountStatus.SUBMITTED, cutoff, Limit.of(limit))
+                    .stream()
+                    .map(StoredDocumentView::getId)
+                    .toList();
+            List<Long> ids = selected.stream()
+                    .filter(id -> !conflictingIds.contains(id))
+                    .limit(batchSize)
+                    .toList();
+            if (ids.isEmpty()) {
+                return total;
+            }
+
+            try {
+                total += moveToArchive(ids);
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Archive chunk of {} requests failed, moving them one by one: {}", ids.size(),
+                        e.getMostSpecificCause().getMessage());
+                total += moveOneByOne(ids);
+            }
+            if (selected.size() < limit) {
+                return total;
+            }
+            try {
+                // Leave room for regular traffic between chunks
+                Thread.sleep(pause.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.info("Archive run interrupted after {} requests", total);
+                return total;
+            }
+        }
+    }
+
+    private int moveOneByOne(List<Long> ids) {
+        int moved = 0;
+        for (Long id : ids) {
+            try {
+                moved += moveToArchive(List.of(id));
+            } catch (DataIntegrityViolationException e) {
+                conflictingIds.add(id);
+                conflicts.increment();
+                log.error("Request with id {} cannot be archived and is skipped: {}", id,
+                        e.getMostSpecificCause().getMessage());
+            }
+        }
+        return moved;
+    }
+
+    private int moveToArchive(List<Long> ids) {
+        Integer moved = transactionTemplate.execute(status -> {
+            int copied = archivedAccountRequestRepository.copySubmitted(ids, LocalDateTime.now());
+            int deleted = accountRequestRepository.deleteByIdInAndStatus(ids, AccountStatus.SUBMITTED);
+            if (copied != deleted) {
+                throw new IllegalStateException("Archived " + copied + " requests but deleted " + deleted);
+            }
+            return deleted;
+        });
+        int count = moved == null ? 0 : moved;
+        archivedRequests.increment(count);
+        return count;
+    }
+}
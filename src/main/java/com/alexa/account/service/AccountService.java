@@ -1,25 +1,59 @@
 package com.alexa.account.service;
 
 import com.alexa.account.dto.*;
+import com.alexa.account.exception.InvalidFieldsException;
 import com.alexa.account.exception.InvalidRequestException;
 import com.alexa.account.exception.ResourceNotFoundException;
+import com.alexa.account.jfr.DraftUpdateEvent;
+import com.alexa.account.jfr.RegistrationEvent;
 import com.alexa.account.mapper.AccountMapper;
+import com.alexa.account.model.AbstractAccountRequest;
 import com.alexa.account.model.AccountRequest;
 import com.alexa.account.model.AccountStatus;
+import com.alexa.account.model.IdDocument;
+import com.alexa.account.repository.AccountCursor;
 import com.alexa.account.repository.AccountRequestRepository;
+import com.alexa.account.util.JsonMergePatch;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class AccountService implements IAccountService {
 
+    static final int MAX_PAGE_SIZE = 100;
+
+    private static final Set<String> DRAFT_FIELDS = Arrays.stream(DraftRequestDTO.class.getRecordComponents())
+            .map(RecordComponent::getName)
+            .collect(Collectors.toUnmodifiableSet());
+    private static final Set<String> DRAFT_MINIMUM_FIELDS = Set.of("name", "dateOfBirth", "address");
+
     private final AccountRequestRepository accountRequestRepository;
     private final AccountMapper accountMapper;
     private final IDocumentService documentService;
     private final RequestIdGeneratorService requestIdGeneratorService;
+    private final IOutboxService outboxService;
+    private final SubmissionSpool submissionSpool;
+    private final IDraftAutosaveService draftAutosaveService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
     /**
      * Register a new account OR submit existing draft.
@@ -30,12 +64,17 @@ public class AccountService implements IAccountService {
     @Override
     public AccountResponseDTO registerOrSubmit(String requestId, AccountRequestDTO requestDTO, MultipartFile idDocument) {
         // Check if requestId is provided
-        if (requestId != null && !requestId.trim().isEmpty()) {
-            // Submit existing draft
-            return submitExistingDraft(requestId, requestDTO, idDocument);
-        } else {
-            // Create new registration
-            return createNewRegistration(requestDTO, idDocument);
+        boolean draftSubmission = requestId != null && !requestId.trim().isEmpty();
+        RegistrationEvent event = registrationEvent(draftSubmission ? "draft-submit" : "new", requestId, idDocument);
+        try {
+            AccountResponseDTO response = draftSubmission
+                    ? submitExistingDraft(requestId, requestDTO, idDocument)
+                    : createNewRegistration(requestDTO, idDocument);
+            event.requestId = response.requestId();
+            event.succeeded = true;
+            return response;
+        } finally {
+            event.commit();
         }
     }
 
@@ -50,23 +89,84 @@ public class AccountService implements IAccountService {
         populateOptionalFields(accountRequest, requestDTO);
         accountRequest.setStatus(AccountStatus.SUBMITTED);
         documentService.processAndSetIdDocument(accountRequest, idDocument);
-        String generatedRequestId = requestIdGeneratorService.generateRequestId(accountRequest.getDateOfBirth());
-        accountRequest.setRequestId(generatedRequestId);
+        accountRequest.setRequestId(generateRequestId(accountRequest));
         AccountRequest saved = accountRequestRepository.save(accountRequest);
 
+        return submitted(saved);
+    }
+
+    /**
+     * Accept a new registration for asynchronous submission.
+     * Only the row and the spooled document are written here; storage and submission happen in
+     * {@link #completeRegistration(String)}.
+     */
+    @Transactional
+    @Override
+    public AccountResponseDTO acceptRegistration(AccountRequestDTO requestDTO, MultipartFile idDocument) {
+        RegistrationEvent event = registrationEvent("async", null, idDocument);
+        try {
+            AccountResponseDTO response = accept(requestDTO, idDocument);
+            event.requestId = response.requestId();
+            event.succeeded = true;
+            return response;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private AccountResponseDTO accept(AccountRequestDTO requestDTO, MultipartFile idDocument) {
+        documentService.validateIdDocument(idDocument);
+
+        AccountRequest accountRequest = new AccountRequest();
+        populateMandatoryFields(accountRequest, requestDTO);
+        populateOptionalFields(accountRequest, requestDTO);
+        accountRequest.setStatus(AccountStatus.PROCESSING);
+        // Metadata of the spooled document; the file path is set once it is stored
+        accountRequest.setIdDocument(new IdDocument(null, idDocument.getOriginalFilename(),
+                idDocument.getContentType(), idDocument.getSize()));
+        accountRequest.setRequestId(generateRequestId(accountRequest));
+        AccountRequest saved = accountRequestRepository.save(accountRequest);
+        submissionSpool.spool(saved.getRequestId(), idDocument);
+
         return accountMapper.accountRequestToResponseDTO(saved);
     }
 
+    /**
+     * Complete an accepted registration. The row is locked, so a registration is completed once
+     * even if it is picked up twice.
+     */
+    @Transactional
+    @Override
+    public boolean completeRegistration(String requestId) {
+        AccountRequest accountRequest = accountRequestRepository.findForUpdateByRequestId(requestId).orElse(null);
+        if (accountRequest == null || accountRequest.getStatus() != AccountStatus.PROCESSING) {
+            return false;
+        }
+
+        IdDocument spooled = accountRequest.getIdDocument();
+        documentService.processAndSetIdDocument(accountRequest,
+                submissionSpool.open(requestId, spooled.getFileName(), spooled.getFileType()));
+        accountRequest.setStatus(AccountStatus.SUBMITTED);
+        submitted(accountRequestRepository.save(accountRequest));
+        return true;
+    }
+
+    @Transactional
+    @Override
+    public void failRegistration(String requestId) {
+        accountRequestRepository.findForUpdateByRequestId(requestId)
+                .filter(accountRequest -> accountRequest.getStatus() == AccountStatus.PROCESSING)
+                .ifPresent(accountRequest -> {
+                    accountRequest.setStatus(AccountStatus.FAILED);
+                    accountRequestRepository.save(accountRequest);
+                });
+    }
+
     /**
      * Submit existing draft (internal method).
      */
     private AccountResponseDTO submitExistingDraft(String requestId, AccountRequestDTO requestDTO, MultipartFile idDocument) {
-        AccountRequest accountRequest = accountRequestRepository.findByRequestId(requestId)
-                .orElseThrow(() -> new ResourceNotFoundException("Account request not found with id: " + requestId));
-
-        if (accountRequest.getStatus() == AccountStatus.SUBMITTED) {
-            throw new InvalidRequestException("Request has already been submitted");
-        }
+        AccountRequest accountRequest = findDraft(requestId, "Request has already been submitted");
 
         // Check if document exists (either previously uploaded or new upload)
         boolean hasExistingDocument = accountRequest.getIdDocument() != null
@@ -87,7 +187,7 @@ public class AccountService implements IAccountService {
         }
 
         AccountRequest saved = accountRequestRepository.save(accountRequest);
-        return accountMapper.accountRequestToResponseDTO(saved);
+        return submitted(saved);
     }
 
     /**
@@ -114,8 +214,7 @@ public class AccountService implements IAccountService {
             documentService.processAndSetIdDocument(accountRequest, idDocument);
         }
 
-        String requestId = requestIdGeneratorService.generateRequestId(accountRequest.getDateOfBirth());
-        accountRequest.setRequestId(requestId);
+        accountRequest.setRequestId(generateRequestId(accountRequest));
         AccountRequest saved = accountRequestRepository.save(accountRequest);
 
         return accountMapper.accountRequestToResponseDTO(saved);
@@ -127,12 +226,18 @@ public class AccountService implements IAccountService {
     @Transactional
     @Override
     public AccountResponseDTO updateDraft(String requestId, AccountRequestDTO requestDTO, MultipartFile idDocument) {
-        AccountRequest accountRequest = accountRequestRepository.findByRequestId(requestId)
-                .orElseThrow(() -> new ResourceNotFoundException("Account request not found with id: " + requestId));
-
-        if (accountRequest.getStatus() == AccountStatus.SUBMITTED) {
-            throw new InvalidRequestException("Cannot update a submitted request");
+        DraftUpdateEvent event = draftUpdateEvent("update", requestId, 0);
+        try {
+            AccountResponseDTO response = update(requestId, requestDTO, idDocument);
+            event.succeeded = true;
+            return response;
+        } finally {
+            event.commit();
         }
+    }
+
+    private AccountResponseDTO update(String requestId, AccountRequestDTO requestDTO, MultipartFile idDocument) {
+        AccountRequest accountRequest = findDraft(requestId, "Cannot update a submitted request");
 
         updateAccountFields(accountRequest, requestDTO);
 
@@ -145,35 +250,52 @@ public class AccountService implements IAccountService {
     }
 
     /**
-     * Submit a draft with full validation.
-     * Reuses document from draft if already uploaded, or accepts new document.
+     * Apply a JSON Merge Patch to a draft.
+     * The patch is merged into the current draft fields; only the patched fields are validated (plus the
+     * draft minimums) and set on the entity, so the dynamic UPDATE touches only the changed columns.
      */
     @Transactional
     @Override
-    public AccountResponseDTO submitDraft(String requestId, AccountRequestDTO requestDTO, MultipartFile idDocument) {
-        AccountRequest accountRequest = accountRequestRepository.findByRequestId(requestId)
-                .orElseThrow(() -> new ResourceNotFoundException("Account request not found with id: " + requestId));
-
-        if (accountRequest.getStatus() == AccountStatus.SUBMITTED) {
-            throw new InvalidRequestException("Request has already been submitted");
+    public AccountResponseDTO patchDraft(String requestId, JsonNode patch) {
+        DraftUpdateEvent event = draftUpdateEvent("patch", requestId, patch.size());
+        try {
+            AccountResponseDTO response = patch(requestId, patch);
+            event.succeeded = true;
+            return response;
+        } finally {
+            event.commit();
         }
+    }
 
-        // Check if document exists (either previously uploaded or new upload)
-        boolean hasExistingDocument = accountRequest.getIdDocument() != null
-                && accountRequest.getIdDocument().getFilePath() != null;
-        boolean hasNewDocument = idDocument != null && !idDocument.isEmpty();
-
-        // ID document is mandatory for submission - either existing or new
-        if (!hasExistingDocument && !hasNewDocument) {
-            throw new InvalidRequestException("ID document is mandatory for submission");
+    private AccountResponseDTO patch(String requestId, JsonNode patch) {
+        if (!patch.isObject()) {
+            throw new InvalidRequestException("Merge patch must be a JSON object");
+        }
+        AccountRequest accountRequest = findDraft(requestId, "Cannot update a submitted request");
+
+        JsonNode current = objectMapper.valueToTree(accountMapper.accountRequestToDraftRequestDTO(accountRequest));
+        DraftRequestDTO patched;
+        try {
+            patched = objectMapper.readerFor(DraftRequestDTO.class)
+                    .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(JsonMergePatch.apply(current, patch));
+        } catch (IOException e) {
+            String reason = e instanceof JsonProcessingException jsonException
+                    ? jsonException.getOriginalMessage()
+                    : e.getMessage();
+            throw new InvalidRequestException("Invalid merge patch: " + reason);
         }
 
-        updateAccountFields(accountRequest, requestDTO);
-        accountRequest.setStatus(AccountStatus.SUBMITTED);
-
-        // Only process new document if provided, otherwise keep existing document
-        if (hasNewDocument) {
-            documentService.validateAndProcess(accountRequest, idDocument);
+        // Unknown members can only be null here (removing them is a no-op), anything else failed to read
+        Set<String> patchedFields = new LinkedHashSet<>();
+        patch.fieldNames().forEachRemaining(field -> {
+            if (DRAFT_FIELDS.contains(field)) {
+                patchedFields.add(field);
+            }
+        });
+        validatePatchedFields(patched, patchedFields);
+        for (String field : patchedFields) {
+            setDraftField(accountRequest, patched, field);
         }
 
         AccountRequest saved = accountRequestRepository.save(accountRequest);
@@ -181,16 +303,162 @@ public class AccountService implements IAccountService {
     }
 
     /**
-     * Get account request by request ID.
+     * Submit a draft with full validation.
+     * Reuses document from draft if already uploaded, or accepts new document.
+     */
+    @Transactional
+    @Override
+    public AccountResponseDTO submitDraft(String requestId, AccountRequestDTO requestDTO, MultipartFile idDocument) {
+        RegistrationEvent event = registrationEvent("draft-submit", requestId, idDocument);
+        try {
+            AccountResponseDTO response = submitExistingDraft(requestId, requestDTO, idDocument);
+            event.succeeded = true;
+            return response;
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Get account request by request ID, including archived requests.
      */
     @Override
     public AccountResponseDTO getByRequestId(String requestId) {
-        AccountRequest accountRequest = accountRequestRepository.findByRequestId(requestId)
+        AbstractAccountRequest accountRequest = accountRequestRepository.findByRequestIdIncludingArchive(requestId)
                 .orElseThrow(() -> new ResourceNotFoundException("Account request not found with id: " + requestId));
 
         return accountMapper.accountRequestToResponseDTO(accountRequest);
     }
 
+    /**
+     * List account requests, newest first, one keyset page at a time.
+     * One extra row is fetched to know whether a next page exists without counting.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public AccountPageDTO<AccountResponseDTO> listAccounts(AccountSearchCriteria criteria, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (criteria.createdFrom() != null && criteria.createdTo() != null
+                && !criteria.createdFrom().isBefore(criteria.createdTo())) {
+            throw new InvalidRequestException("createdFrom must be before createdTo");
+        }
+
+        AccountCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                after = AccountCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("Invalid cursor");
+            }
+        }
+
+        List<AccountRequest> rows = accountRequestRepository.findPage(criteria, after, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<AccountRequest> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? AccountCursor.of(page.get(limit - 1)).encode() : null;
+
+        return new AccountPageDTO<>(page.stream().map(accountMapper::accountRequestToResponseDTO).toList(), nextCursor);
+    }
+
+    /**
+     * Generate a request ID that no active or archived request uses yet.
+     */
+    private String generateRequestId(AccountRequest accountRequest) {
+        return requestIdGeneratorService.generateUniqueRequestId(accountRequest.getDateOfBirth(),
+                accountRequestRepository::existsByRequestIdIncludingArchive);
+    }
+
+    /**
+     * Start a JFR registration event; the caller sets the outcome and commits it.
+     */
+    private static RegistrationEvent registrationEvent(String mode, String requestId, MultipartFile idDocument) {
+        RegistrationEvent event = new RegistrationEvent();
+        event.mode = mode;
+        event.requestId = requestId;
+        event.documentSize = idDocument != null ? idDocument.getSize() : 0;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Start a JFR draft update event; the caller sets the outcome and commits it.
+     */
+    private static DraftUpdateEvent draftUpdateEvent(String operation, String requestId, int fields) {
+        DraftUpdateEvent event = new DraftUpdateEvent();
+        event.operation = operation;
+        event.requestId = requestId;
+        event.fields = fields;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Map a submitted request and record its AccountSubmitted event in the current transaction.
+     */
+    private AccountResponseDTO submitted(AccountRequest saved) {
+        AccountResponseDTO response = accountMapper.accountRequestToResponseDTO(saved);
+        outboxService.recordAccountSubmitted(response);
+        return response;
+    }
+
+    /**
+     * Find a draft to update or submit.
+     * Requests that were submitted, including archived ones, are rejected with the given message;
+     * requests in asynchronous submission are rejected as well. Buffered autosaves are written first.
+     */
+    private AccountRequest findDraft(String requestId, String submittedMessage) {
+        draftAutosaveService.flush(requestId);
+        AbstractAccountRequest found = accountRequestRepository.findByRequestIdIncludingArchive(requestId)
+                .orElseThrow(() -> new ResourceNotFoundException("Account request not found with id: " + requestId));
+
+        if (!(found instanceof AccountRequest accountRequest)
+                || accountRequest.getStatus() == AccountStatus.SUBMITTED) {
+            throw new InvalidRequestException(submittedMessage);
+        }
+        if (accountRequest.getStatus() != AccountStatus.DRAFT) {
+            throw new InvalidRequestException("Request is not a draft (status " + accountRequest.getStatus() + ")");
+        }
+        return accountRequest;
+    }
+
+    /**
+     * Validate the patched fields and the draft minimums. Constraints of fields that were not patched
+     * are not evaluated again; a patched address is validated as a whole.
+     */
+    private void validatePatchedFields(DraftRequestDTO draft, Set<String> patchedFields) {
+        Map<String, String> fieldErrors = new LinkedHashMap<>();
+        Set<String> properties = new LinkedHashSet<>(DRAFT_MINIMUM_FIELDS);
+        properties.addAll(patchedFields);
+        for (String property : properties) {
+            validator.validateProperty(draft, property)
+                    .forEach(violation -> fieldErrors.putIfAbsent(property, violation.getMessage()));
+        }
+        if (patchedFields.contains("address") && draft.address() != null) {
+            validator.validate(draft.address()).forEach(violation ->
+                    fieldErrors.putIfAbsent("address." + violation.getPropertyPath(), violation.getMessage()));
+        }
+        if (!fieldErrors.isEmpty()) {
+            throw new InvalidFieldsException(fieldErrors);
+        }
+    }
+
+    private void setDraftField(AccountRequest accountRequest, DraftRequestDTO draft, String field) {
+        switch (field) {
+            case "name" -> accountRequest.setName(draft.name());
+            case "dateOfBirth" -> accountRequest.setDateOfBirth(draft.dateOfBirth());
+            // Address columns are written together when any of them changes
+            case "address" -> accountRequest.setAddress(accountMapper.addressDtoToAddress(draft.address()));
+            case "accountType" -> accountRequest.setAccountType(draft.accountType());
+            case "startingBalance" -> accountRequest.setStartingBalance(draft.startingBalance());
+            case "email" -> accountRequest.setEmail(draft.email());
+            case "monthlySalary" -> accountRequest.setMonthlySalary(draft.monthlySalary());
+            case "interestedInOtherProducts" -> accountRequest.setInterestedInOtherProducts(draft.interestedInOtherProducts());
+            default -> throw new IllegalArgumentException("Unknown draft field: " + field);
+        }
+    }
+
     /**
      * Populate mandatory fields for new account creation.
      */
@@ -0,0 +1,76 @@
+package com.alexa.account.service;
+
+import com.alexa.account.reference.AddressIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Implementation of the address index service.
+ * Loads the dataset at startup and polls the file for changes, swapping in a freshly
+ * built index without a restart. Lookups always read one immutable snapshot.
+ */
+@Service
+@Slf4j
+public class AddressIndexService implements IAddressIndexService {
+
+    private final Path datasetFile;
+    private volatile AddressIndex index = AddressIndex.EMPTY;
+    private volatile FileTime loadedVersion;
+
+    public AddressIndexService(@Value("${app.address-index.file:}") String datasetFile) {
+        this.datasetFile = datasetFile == null || datasetFile.isBlank()
+                ? null
+                : Paths.get(datasetFile).toAbsolutePath().normalize();
+
+        if (this.datasetFile == null) {
+            log.info("No address index dataset configured, post code existence checks are disabled");
+        } else {
+            reloadIfChanged();
+        }
+    }
+
+    @Override
+    public AddressIndex snapshot() {
+        return index;
+    }
+
+    /**
+     * Poll the dataset file and rebuild the index when its modification time changes.
+     * A failed reload keeps serving the previous index.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${app.address-index.reload-interval:PT1M}",
+            initialDelayString = "${app.address-index.reload-interval:PT1M}")
+    public synchronized void reloadIfChanged() {
+        if (datasetFile == null) {
+            return;
+        }
+        try {
+            if (!Files.isRegularFile(datasetFile)) {
+                log.warn("Address index dataset not found at: {}", datasetFile);
+                return;
+            }
+            FileTime version = Files.getLastModifiedTime(datasetFile);
+            if (version.equals(loadedVersion)) {
+                return;
+            }
+
+            long start = System.nanoTime();
+            AddressIndex loaded = AddressIndex.load(datasetFile);
+            this.index = loaded;
+            this.loadedVersion = version;
+            log.info("Address index loaded from {}: {} post codes, ~{} KB in {} ms", datasetFile, loaded.size(),
+                    loaded.memoryFootprint() / 1024, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            log.error("Failed to load address index from: {}", datasetFile, e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.alexa.account.service;
+
+import com.alexa.account.exception.InvalidRequestException;
+import com.alexa.account.reference.SuggestionIndex;
+import com.alexa.account.validation.FieldRule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Implementation of the address suggestion service.
+ * Builds the suggestion index once at startup; lookups only read the immutable index.
+ */
+@Service
+@Slf4j
+public class AddressSuggestionService implements IAddressSuggestionService {
+
+    private final SuggestionIndex index;
+
+    public AddressSuggestionService(@Value("${app.address-suggest.file:}") String referenceFile) {
+        this.index = load(referenceFile);
+    }
+
+    @Override
+    public List<String> suggest(String field, String prefix, int limit) {
+        FieldRule rule = FieldRule.forFieldName(field);
+        if (!SuggestionIndex.isSupported(rule)) {
+            throw new InvalidRequestException("Unknown field: " + field + ". Supported fields: city, streetName");
+        }
+        if (limit < 1 || limit > SuggestionIndex.MAX_SUGGESTIONS) {
+            throw new InvalidRequestException("Limit must be between 1 and " + SuggestionIndex.MAX_SUGGESTIONS);
+        }
+        return index.suggest(rule, prefix, limit);
+    }
+
+    private static SuggestionIndex load(String referenceFile) {
+        if (referenceFile == null || referenceFile.isBlank()) {
+            log.info("No address suggestion file configured, suggestions are disabled");
+            return SuggestionIndex.EMPTY;
+        }
+        Path file = Paths.get(referenceFile).toAbsolutePath().normalize();
+        if (!Files.isRegularFile(file)) {
+            log.warn("Address suggestion file not found at: {}", file);
+            return SuggestionIndex.EMPTY;
+        }
+        try {
+            long start = System.nanoTime();
+            SuggestionIndex loaded = SuggestionIndex.load(file);
+            log.info("Address suggestions loaded from {}: {} cities, {} street names in {} ms", file,
+                    loaded.size(FieldRule.CITY), loaded.size(FieldRule.STREET_NAME),
+                    (System.nanoTime() - start) / 1_000_000);
+            return loaded;
+        } catch (IOException e) {
+            log.error("Failed to load address suggestions from: {}", file, e);
+            return SuggestionIndex.EMPTY;
+        }
+    }
+}
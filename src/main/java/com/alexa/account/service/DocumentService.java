@@ -3,6 +3,7 @@ package com.alexa.account.service;
 import com.alexa.account.exception.InvalidRequestException;
 import com.alexa.account.model.AccountRequest;
 import com.alexa.account.model.IdDocument;
+import com.alexa.account.util.RequestTiming;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -46,13 +47,18 @@ public class DocumentService implements IDocumentService {
      */
     @Override
     public void validateIdDocument(MultipartFile idDocument) {
-        if (idDocument == null || idDocument.isEmpty()) {
-            throw new InvalidRequestException("ID document is mandatory");
-        }
+        long start = RequestTiming.begin();
+        try {
+            if (idDocument == null || idDocument.isEmpty()) {
+                throw new InvalidRequestException("ID document is mandatory");
+            }
 
-        String contentType = idDocument.getContentType();
-        if (contentType == null || (!contentType.startsWith("image/") && !contentType.equals("application/pdf"))) {
-            throw new InvalidRequestException("ID document must be an image (JPG, PNG) or PDF");
+            String contentType = idDocument.getContentType();
+            if (contentType == null || (!contentType.startsWith("image/") && !contentType.equals("application/pdf"))) {
+                throw new InvalidRequestException("ID document must be an image (JPG, PNG) or PDF");
+            }
+        } finally {
+            RequestTiming.end(RequestTiming.Stage.DOCUMENT_VALIDATION, start);
         }
     }
 
@@ -0,0 +1,205 @@
+package com.alexa.account.service;
+
+import com.alexa.account.dto.DraftRequestDTO;
+import com.alexa.account.exception.ResourceNotFoundException;
+import com.alexa.account.model.AccountStatus;
+import com.alexa.account.repository.AccountRequestRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of buffered draft autosaves (write-behind).
+ *
+ * The latest state of each autosaved draft is kept in memory, replacing earlier states, and all
+ * buffered drafts are written every flush interval in JDBC batches of batch-size conditional UPDATEs.
+ * However often a draft is autosaved, its row is written at most once per interval. The buffer is
+ * bounded by max-drafts; beyond that an autosave is written directly. Explicit draft updates and
+ * submissions call {@link #flush(String)} first, and the buffer is flushed on shutdown.
+ *
+ * A draft is taken out of the buffer and written under its (striped) lock, held until the batch has
+ * committed, so an explicit update never commits between the two and is then overwritten by the batch.
+ */
+@Service
+@Slf4j
+public class DraftAutosaveService implements IDraftAutosaveService {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final AccountRequestRepository accountRequestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxDrafts;
+    private final int batchSize;
+    private final Map<String, DraftRequestDTO> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private final Counter received;
+    private final Counter written;
+    private final Counter writtenDirectly;
+    private final Timer flushTimer;
+
+    public DraftAutosaveService(AccountRequestRepository accountRequestRepository,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.draft-autosave.max-drafts:10000}") int maxDrafts,
+                                @Value("${app.draft-autosave.batch-size:200}") int batchSize) {
+        this.accountRequestRepository = accountRequestRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxDrafts = maxDrafts;
+        this.batchSize = batchSize;
+        Arrays.setAll(locks, i -> new ReentrantLock());
+        Gauge.builder("account.drafts.autosave.buffered", pending, Map::size)
+                .description("Autosaved drafts waiting to be written")
+                .register(meterRegistry);
+        this.received = Counter.builder("account.drafts.autosave.received")
+                .description("Draft autosaves received")
+                .register(meterRegistry);
+        this.written = Counter.builder("account.drafts.autosave.written")
+                .description("Autosaved drafts written to the database")
+                .register(meterRegistry);
+        this.writtenDirectly = Counter.builder("account.drafts.autosave.direct")
+                .description("Draft autosaves written directly because the buffer was full")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("account.drafts.autosave.flush")
+                .description("Duration of a draft autosave flush")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void autosave(String requestId, DraftRequestDTO draft) {
+        received.increment();
+        // Only the first autosave of a draft since the last flush reads the database
+        if (pending.replace(requestId, draft) != null) {
+            return;
+        }
+        if (!accountRequestRepository.existsByRequestIdAndStatus(requestId, AccountStatus.DRAFT)) {
+            throw new ResourceNotFoundException("Draft not found with id: " + requestId);
+        }
+        if (pending.size() >= maxDrafts) {
+            writtenDirectly.increment();
+            write(Map.of(requestId, draft));
+            return;
+        }
+        pending.put(requestId, draft);
+    }
+
+    @Override
+    public void flush(String requestId) {
+        // Waits for a batch holding this draft to commit, so the caller's update is written after it
+        ReentrantLock lock = locks[stripe(requestId)];
+        lock.lock();
+        DraftRequestDTO draft;
+        try {
+            draft = pending.remove(requestId);
+            if (draft == null) {
+                return;
+            }
+            accountRequestRepository.updateDrafts(Map.of(requestId, draft), LocalDateTime.now());
+        } finally {
+            lock.unlock();
+        }
+        written.increment();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Keep the autosaved state if the update or submission it belongs to is rolled back
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        pending.putIfAbsent(requestId, draft);
+                    }
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.draft-autosave.flush-interval:PT5S}")
+    @Override
+    public int flushAll() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        return flushTimer.record(this::flushPending);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flushAll();
+        if (flushed > 0) {
+            log.info("Flushed {} autosaved drafts on shutdown", flushed);
+        }
+    }
+
+    private int flushPending() {
+        int flushed = 0;
+        List<String> requestIds = new ArrayList<>(batchSize);
+        for (String requestId : pending.keySet()) {
+            requestIds.add(requestId);
+            if (requestIds.size() == batchSize) {
+                flushed += flushBatch(requestIds);
+                requestIds.clear();
+            }
+        }
+        if (!requestIds.isEmpty()) {
+            flushed += flushBatch(requestIds);
+        }
+        return flushed;
+    }
+
+    private int flushBatch(List<String> requestIds) {
+        // Locked in ascending stripe order, so concurrent batches (shutdown flush) cannot deadlock
+        int[] stripes = requestIds.stream().mapToInt(DraftAutosaveService::stripe).distinct().sorted().toArray();
+        for (int stripe : stripes) {
+            locks[stripe].lock();
+        }
+        Map<String, DraftRequestDTO> batch = new LinkedHashMap<>();
+        try {
+            for (String requestId : requestIds) {
+                DraftRequestDTO draft = pending.remove(requestId);
+                if (draft != null) {
+                    batch.put(requestId, draft);
+                }
+            }
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            write(batch);
+            return batch.size();
+        } catch (RuntimeException e) {
+            // Put the drafts back unless a newer autosave arrived meanwhile; the next flush retries
+            batch.forEach(pending::putIfAbsent);
+            log.error("Failed to flush {} autosaved drafts", batch.size(), e);
+            return 0;
+        } finally {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                locks[stripes[i]].unlock();
+            }
+        }
+    }
+
+    private static int stripe(String requestId) {
+        return Math.floorMod(requestId.hashCode(), LOCK_STRIPES);
+    }
+
+    private void write(Map<String, DraftRequestDTO> drafts) {
+        transactionTemplate.executeWithoutResult(
+                status -> accountRequestRepository.updateDrafts(drafts, LocalDateTime.now()));
+        written.increment(drafts.size());
+    }
+}
@@ -0,0 +1,137 @@
+package com.alexa.account.service;
+
+import com.alexa.account.model.AccountStatus;
+import com.alexa.account.repository.AccountRequestRepository;
+import com.alexa.account.repository.StoredDocumentView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementation of the draft purge.
+ *
+ * Each chunk selects up to batch-size expired drafts by the (status, updated_at) index, then deletes
+ * them by primary key in a short transaction of its own, so locks on account_requests are held for one
+ * small statement at a time. The delete re-checks status and updatedAt: a draft resumed after it was
+ * selected is kept, and so is its document. Documents are deleted after the rows are committed; a crash
+ * in between leaves an orphaned file rather than a request pointing to a missing document.
+ */
+@Service
+@Slf4j
+public class DraftPurgeService implements IDraftPurgeService {
+
+    private final AccountRequestRepository accountRequestRepository;
+    private final IFileStorageService fileStorageService;
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final int batchSize;
+    private final Duration pause;
+    private final Counter purgedDrafts;
+    private final Counter deletedDocuments;
+    private final Timer runTimer;
+    private final Timer chunkTimer;
+
+    public DraftPurgeService(AccountRequestRepository accountRequestRepository,
+                             IFileStorageService fileStorageService,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.draft-purge.enabled:true}") boolean enabled,
+                             @Value("${app.draft-purge.max-age:30d}") Duration maxAge,
+                             @Value("${app.draft-purge.batch-size:500}") int batchSize,
+                             @Value("${app.draft-purge.pause:200ms}") Duration pause) {
+        this.accountRequestRepository = accountRequestRepository;
+        this.fileStorageService = fileStorageService;
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.purgedDrafts = Counter.builder("account.drafts.purged")
+                .description("Expired drafts deleted")
+                .register(meterRegistry);
+        this.deletedDocuments = Counter.builder("account.drafts.purge.documents")
+                .description("ID documents of expired drafts deleted")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("account.drafts.purge")
+                .description("Duration of a draft purge run")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("account.drafts.purge.chunk")
+                .description("Duration of one draft purge chunk")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.draft-purge.interval:PT1H}",
+            initialDelayString = "${app.draft-purge.initial-delay:PT5M}")
+    public void scheduledPurge() {
+        if (enabled) {
+            purgeExpiredDrafts();
+        }
+    }
+
+    @Override
+    public int purgeExpiredDrafts() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(maxAge);
+        int purged = runTimer.record(() -> purgeUpdatedBefore(cutoff));
+        if (purged > 0) {
+            log.info("Purged {} drafts not updated since {}", purged, cutoff);
+        }
+        return purged;
+    }
+
+    private int purgeUpdatedBefore(LocalDateTime cutoff) {
+        int total = 0;
+        while (true) {
+            Chunk chunk = chunkTimer.record(() -> purgeChunk(cutoff));
+            total += chunk.deleted();
+            if (chunk.selected() < batchSize) {
+                return total;
+            }
+            try {
+                // Leave room for regular traffic between chunks
+                Thread.sleep(pause.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.info("Draft purge interrupted after {} drafts", total);
+                return total;
+            }
+        }
+    }
+
+    private Chunk purgeChunk(LocalDateTime cutoff) {
+        List<StoredDocumentView> expired =
+                accountRequestRepository.findUpdatedBefore(AccountStatus.DRAFT, cutoff, Limit.of(batchSize));
+        if (expired.isEmpty()) {
+            return new Chunk(0, 0);
+        }
+
+        List<Long> ids = expired.stream().map(StoredDocumentView::getId).toList();
+        int deleted = accountRequestRepository.deleteUpdatedBefore(ids, AccountStatus.DRAFT, cutoff);
+        Set<Long> kept = deleted == ids.size()
+                ? Set.of()
+                : new HashSet<>(accountRequestRepository.findExistingIds(ids));
+
+        int documents = 0;
+        for (StoredDocumentView draft : expired) {
+            if (draft.getFilePath() != null && !kept.contains(draft.getId())) {
+                fileStorageService.deleteFile(draft.getFilePath());
+                documents++;
+            }
+        }
+
+        purgedDrafts.increment(deleted);
+        deletedDocuments.increment(documents);
+        return new Chunk(expired.size(), deleted);
+    }
+
+    private record Chunk(int selected, int deleted) {
+    }
+}
@@ -1,114 +1,76 @@
 package com.alexa.account.service;
 
+import com.alexa.account.dto.AddressDTO;
 import com.alexa.account.dto.FieldValidationRequest;
 import com.alexa.account.dto.FieldValidationResponse;
-import com.alexa.account.util.YesNoBoolean;
+import com.alexa.account.reference.AddressIndex;
+import com.alexa.account.validation.FieldRule;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.regex.Pattern;
-
+/**
+ * Real-time field validation backed by the shared {@link FieldRule} catalogue.
+ * The same rules drive Bean Validation on the DTOs via {@link com.alexa.account.validation.ValidField}.
+ * When an address dataset is loaded, post codes are also checked for existence.
+ */
 @Service
+@RequiredArgsConstructor
 public class FieldValidationService implements IFieldValidationService {
 
-    private static final Pattern POSTCODE_PATTERN = Pattern.compile("^[0-9]{4}\\s[A-Za-z]{2}$");
-    private static final Pattern HOUSE_NUMBER_PATTERN = Pattern.compile("^[1-9][0-9]{0,4}([A-Za-z])?(-[A-Za-z0-9]+)?$");
-    private static final DateTimeFormatter DOB_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final FieldValidationResponse UNKNOWN_POST_CODE =
+            new FieldValidationResponse(false, "Post code does not exist");
+
+    private final IAddressIndexService addressIndexService;
 
     /**
      * Validate a single field for frontend real-time validation.
      */
     @Override
     public FieldValidationResponse validateField(FieldValidationRequest request) {
-        String fieldName = request.fieldName();
-        String fieldValue = request.fieldValue();
-
-        return switch (fieldName.toLowerCase()) {
-            case "name" -> validateName(fieldValue);
-            case "dateofbirth" -> validateDateOfBirth(fieldValue);
-            case "streetname" -> validateStreetName(fieldValue);
-            case "housenumber" -> validateHouseNumber(fieldValue);
-            case "postcode" -> validatePostCode(fieldValue);
-            case "city" -> validateCity(fieldValue);
-            case "accounttype" -> validateAccountType(fieldValue);
-            case "interestedinotherprodcts" -> validateInterestedInOtherProducts(fieldValue);
-            default -> new FieldValidationResponse(false, "Unknown field: " + fieldName);
-        };
+        FieldRule rule = FieldRule.forFieldName(request.fieldName());
+        if (rule == null) {
+            return new FieldValidationResponse(false, "Unknown field: " + request.fieldName());
+        }
+        if (rule == FieldRule.POST_CODE) {
+            return validatePostCode(request.fieldValue());
+        }
+        return rule.validate(request.fieldValue());
     }
 
     @Override
     public FieldValidationResponse validateName(String value) {
-        if (value == null || value.isBlank()) {
-            return new FieldValidationResponse(false, "Name is mandatory");
-        }
-        return new FieldValidationResponse(true, "Valid");
+        return FieldRule.NAME.validate(value);
     }
 
     @Override
     public FieldValidationResponse validateDateOfBirth(String value) {
-        if (value == null || value.isBlank()) {
-            return new FieldValidationResponse(false, "Date of birth is mandatory");
-        }
-        try {
-            LocalDate dob = LocalDate.parse(value, DOB_FORMATTER);
-            if (!dob.isBefore(LocalDate.now())) {
-                return new FieldValidationResponse(false, "Date of birth must be in the past");
-            }
-            return new FieldValidationResponse(true, "Valid");
-        } catch (Exception e) {
-            return new FieldValidationResponse(false, "Invalid date format. Use DD-MM-YYYY (e.g., 15-05-1990)");
-        }
+        return FieldRule.DATE_OF_BIRTH.validate(value);
     }
 
     @Override
     public FieldValidationResponse validateStreetName(String value) {
-        if (value == null || value.isBlank()) {
-            return new FieldValidationResponse(false, "Street name is mandatory");
-        }
-        return new FieldValidationResponse(true, "Valid");
+        return FieldRule.STREET_NAME.validate(value);
     }
 
     @Override
     public FieldValidationResponse validateHouseNumber(String value) {
-        if (value == null || value.isBlank()) {
-            return new FieldValidationResponse(false, "House number is mandatory");
-        }
-        if (!HOUSE_NUMBER_PATTERN.matcher(value).matches()) {
-            return new FieldValidationResponse(false, "House number must be a valid Dutch house number (e.g., 123, 45A, 7-1, 123-bis)");
-        }
-        return new FieldValidationResponse(true, "Valid");
+        return FieldRule.HOUSE_NUMBER.validate(value);
     }
 
     @Override
     public FieldValidationResponse validatePostCode(String value) {
-        if (value == null || value.isBlank()) {
-            return new FieldValidationResponse(false, "Post code is mandatory");
-        }
-        if (!POSTCODE_PATTERN.matcher(value).matches()) {
-            return new FieldValidationResponse(false, "Post code must be 4 digits followed by space and 2 alphabets (e.g., 1234 AB)");
-        }
-        return new FieldValidationResponse(true, "Valid");
+        return validatePostCode(value, addressIndexService.snapshot());
     }
 
     @Override
     public FieldValidationResponse validateCity(String value) {
-        if (value == null || value.isBlank()) {
-            return new FieldValidationResponse(false, "City is mandatory");
-        }
-        return new FieldValidationResponse(true, "Valid");
+        return FieldRule.CITY.validate(value);
     }
 
     @Override
     public FieldValidationResponse validateAccountType(String value) {
-        if (value == null || value.isBlank()) {
-            return new FieldValidationResponse(false, "Account type is mandatory");
-        }
-        if (!isValidAccountType(value)) {
-            return new FieldValidationResponse(false, "Account type must be one of: Savings, Current, Investment");
-        }
-        return new FieldValidationResponse(true, "Valid");
+        return FieldRule.ACCOUNT_TYPE.validate(value);
     }
 
     @Override
@@ -127,28 +89,56 @@ public class FieldValidationService implements IFieldValidationService {
             return new FieldValidationResponse(false, "ID document must be less than 10MB");
         }
 
-        return new FieldValidationResponse(true, "Valid");
-    }
-
-    /**
-     * Validate if the account type is one of the allowed types.
-     */
-    private boolean isValidAccountType(String accountType) {
-        return accountType != null && (accountType.equalsIgnoreCase("Savings") ||
-                                       accountType.equalsIgnoreCase("Current") ||
-                                       accountType.equalsIgnoreCase("Investment"));
+        return FieldRule.VALID;
     }
 
     @Override
     public FieldValidationResponse validateInterestedInOtherProducts(String value) {
         // Optional field
-        if (value == null || value.isBlank()) {
-            return new FieldValidationResponse(true, "Valid");
+        return FieldRule.INTERESTED_IN_OTHER_PRODUCTS.validate(value);
+    }
+
+    @Override
+    public FieldValidationResponse validateAddress(AddressDTO address) {
+        if (address == null) {
+            return new FieldValidationResponse(false, "Address is mandatory");
+        }
+
+        FieldValidationResponse streetName = validateStreetName(address.streetName());
+        if (!streetName.valid()) {
+            return streetName;
         }
+        FieldValidationResponse houseNumber = validateHouseNumber(address.houseNumber());
+        if (!houseNumber.valid()) {
+            return houseNumber;
+        }
+        // One snapshot for all checks, so a reload in between cannot make them disagree
+        AddressIndex index = addressIndexService.snapshot();
+        FieldValidationResponse postCode = validatePostCode(address.postCode(), index);
+        if (!postCode.valid()) {
+            return postCode;
+        }
+        FieldValidationResponse city = validateCity(address.city());
+        if (!city.valid() || index.size() == 0) {
+            return city;
+        }
+
+        if (!index.containsHouseNumber(address.postCode(), address.houseNumber())) {
+            return new FieldValidationResponse(false, "House number " + address.houseNumber()
+                    + " does not exist for post code " + address.postCode());
+        }
+        if (!index.cityMatches(address.postCode(), address.city())) {
+            return new FieldValidationResponse(false, "City does not match post code " + address.postCode()
+                    + " (expected " + index.cityOf(address.postCode()) + ")");
+        }
+        return FieldRule.VALID;
+    }
 
-        if (!YesNoBoolean.isValidYesNoValue(value)) {
-            return new FieldValidationResponse(false, "Value must be Y or N (case-insensitive)");
+    private static FieldValidationResponse validatePostCode(String value, AddressIndex index) {
+        FieldValidationResponse format = FieldRule.POST_CODE.validate(value);
+        if (format.valid() && index.size() > 0 && !index.containsPostCode(value)) {
+            return UNKNOWN_POST_CODE;
         }
-        return new FieldValidationResponse(true, "Valid");
+        return format;
     }
 }
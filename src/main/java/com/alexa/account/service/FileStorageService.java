@@ -2,6 +2,9 @@ package com.alexa.account.service;
 
 import com.alexa.account.exception.InvalidRequestException;
 import com.alexa.account.exception.ResourceNotFoundException;
+import com.alexa.account.exception.StorageException;
+import com.alexa.account.jfr.DocumentStoreEvent;
+import com.alexa.account.util.RequestTiming;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
@@ -39,36 +42,51 @@ public class FileStorageService implements IFileStorageService {
             Files.createDirectories(this.uploadLocation);
             log.info("Upload directory created/verified at: {}", this.uploadLocation);
         } catch (IOException e) {
-            throw new InvalidRequestException("Could not create upload directory: " + e.getMessage());
+            throw new StorageException("Could not create upload directory", e);
         }
     }
 
     @Override
     public String storeFile(MultipartFile file, String category) {
+        long start = RequestTiming.begin();
+        DocumentStoreEvent event = new DocumentStoreEvent();
+        event.begin();
+        try {
+            return store(file, category, event);
+        } finally {
+            event.commit();
+            RequestTiming.end(RequestTiming.Stage.STORAGE, start);
+        }
+    }
+
+    private String store(MultipartFile file, String category, DocumentStoreEvent event) {
         if (file == null || file.isEmpty()) {
             throw new InvalidRequestException("Cannot store empty file");
         }
 
         // Generate secure filename
         String filename = generateSecureFilename(file.getOriginalFilename());
+        event.path = category + "/" + filename;
 
         // Create category subdirectory
         Path categoryPath = this.uploadLocation.resolve(category);
         try {
             Files.createDirectories(categoryPath);
         } catch (IOException e) {
-            throw new InvalidRequestException("Could not create category directory: " + e.getMessage());
+            throw new StorageException("Could not create category directory", e);
         }
 
         Path targetLocation = categoryPath.resolve(filename);
 
         try (InputStream inputStream = file.getInputStream()) {
             // Stream file directly to disk - no memory loading
-            Files.copy(inputStream, targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            long bytes = Files.copy(inputStream, targetLocation, StandardCopyOption.REPLACE_EXISTING);
             log.info("File stored successfully: {}", targetLocation);
-            return category + "/" + filename;
+            event.bytes = bytes;
+            event.succeeded = true;
+            return event.path;
         } catch (IOException e) {
-            throw new InvalidRequestException("Failed to store file: " + e.getMessage());
+            throw new StorageException("Failed to store file", e);
         }
     }
 
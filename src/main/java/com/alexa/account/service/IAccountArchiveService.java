@@ -0,0 +1,15 @@
+package com.alexa.account.service;
+
+/**
+ * Service interface for moving old submitted requests out of the active table.
+ */
+public interface IAccountArchiveService {
+
+    /**
+     * Move submitted requests not updated within the configured age to the archive table.
+     * Works in chunks of a bounded number of rows, each copied and deleted in one short transaction.
+     *
+     * @return the number of requests archived
+     */
+    int archiveSubmittedRequests();
+}
@@ -1,8 +1,11 @@
 package com.alexa.account.service;
 
+import com.alexa.account.dto.AccountPageDTO;
 import com.alexa.account.dto.AccountRequestDTO;
 import com.alexa.account.dto.AccountResponseDTO;
+import com.alexa.account.dto.AccountSearchCriteria;
 import com.alexa.account.dto.DraftRequestDTO;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
@@ -23,6 +26,32 @@ public interface IAccountService {
      */
     AccountResponseDTO registerOrSubmit(String requestId, AccountRequestDTO requestDTO, MultipartFile idDocument);
 
+    /**
+     * Accept a new registration for asynchronous submission.
+     * Validates the request, stores it with status PROCESSING and spools the ID document;
+     * {@link #completeRegistration(String)} submits it later.
+     *
+     * @param requestDTO the account request data
+     * @param idDocument the ID document file (mandatory)
+     * @return AccountResponseDTO with status PROCESSING
+     */
+    AccountResponseDTO acceptRegistration(AccountRequestDTO requestDTO, MultipartFile idDocument);
+
+    /**
+     * Complete an accepted registration: store the spooled ID document and submit the request.
+     *
+     * @param requestId the request ID returned by {@link #acceptRegistration}
+     * @return true if the request was submitted, false if it was no longer PROCESSING
+     */
+    boolean completeRegistration(String requestId);
+
+    /**
+     * Mark an accepted registration that could not be completed as FAILED.
+     *
+     * @param requestId the request ID returned by {@link #acceptRegistration}
+     */
+    void failRegistration(String requestId);
+
     /**
      * Save registration as draft (pause registration).
      * Only name, dateOfBirth, and address are mandatory.
@@ -44,6 +73,17 @@ public interface IAccountService {
      */
     AccountResponseDTO updateDraft(String requestId, AccountRequestDTO requestDTO, MultipartFile idDocument);
 
+    /**
+     * Apply a JSON Merge Patch (RFC 7396) to a draft.
+     * Only the fields present in the patch are changed and validated, together with the draft minimums
+     * (name, date of birth and address).
+     *
+     * @param requestId the request ID of the draft
+     * @param patch the merge patch, a JSON object with DraftRequestDTO fields
+     * @return AccountResponseDTO with the patched draft
+     */
+    AccountResponseDTO patchDraft(String requestId, JsonNode patch);
+
     /**
      * Submit a draft with full validation.
      * Complete the registration process.
@@ -62,4 +102,14 @@ public interface IAccountService {
      * @return AccountResponseDTO with account details
      */
     AccountResponseDTO getByRequestId(String requestId);
+
+    /**
+     * List account requests matching the criteria, newest first.
+     *
+     * @param criteria the filters
+     * @param cursor the nextCursor of the previous page, or null for the first page
+     * @param limit the page size (1 to 100)
+     * @return the page with the cursor of the next page
+     */
+    AccountPageDTO<AccountResponseDTO> listAccounts(AccountSearchCriteria criteria, String cursor, int limit);
 }
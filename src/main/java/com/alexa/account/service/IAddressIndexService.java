@@ -0,0 +1,24 @@
+package com.alexa.account.service;
+
+import com.alexa.account.reference.AddressIndex;
+
+/**
+ * Service interface for the offline Dutch address index.
+ * Holds the index built from local reference data; post code, house number and city checks
+ * run against a {@link #snapshot()}.
+ */
+public interface IAddressIndexService {
+
+    /**
+     * Get the currently loaded index. A reload swaps in a new index, so checks that must agree
+     * with each other (house number and city of one address) should run against one snapshot.
+     *
+     * @return the current index, empty if no dataset is loaded
+     */
+    AddressIndex snapshot();
+
+    /**
+     * Reload the dataset if the file changed since it was last loaded.
+     */
+    void reloadIfChanged();
+}
@@ -0,0 +1,20 @@
+package com.alexa.account.service;
+
+import java.util.List;
+
+/**
+ * Service interface for type-ahead suggestions of address fields.
+ * Answers from local reference data, without database access.
+ */
+public interface IAddressSuggestionService {
+
+    /**
+     * Get suggestions for an address field.
+     *
+     * @param field the field name (city or streetName)
+     * @param prefix the typed prefix, matched ignoring case and diacritics
+     * @param limit the maximum number of suggestions
+     * @return names starting with the prefix, most common first
+     */
+    List<String> suggest(String field, String prefix, int limit);
+}
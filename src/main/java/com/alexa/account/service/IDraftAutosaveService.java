@@ -0,0 +1,33 @@
+package com.alexa.account.service;
+
+import com.alexa.account.dto.DraftRequestDTO;
+
+/**
+ * Service interface for buffered draft autosaves.
+ */
+public interface IDraftAutosaveService {
+
+    /**
+     * Buffer the latest state of a draft. Buffered drafts are written to the database at most once
+     * per flush interval, however often they are autosaved.
+     *
+     * @param requestId the request ID of an existing draft
+     * @param draft the draft state
+     */
+    void autosave(String requestId, DraftRequestDTO draft);
+
+    /**
+     * Write the buffered state of one draft in the current transaction, if there is any.
+     * Called before a draft is updated or submitted, so it works on the latest autosaved state.
+     *
+     * @param requestId the request ID
+     */
+    void flush(String requestId);
+
+    /**
+     * Write all buffered drafts.
+     *
+     * @return the number of drafts written
+     */
+    int flushAll();
+}
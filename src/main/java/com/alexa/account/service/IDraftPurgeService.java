@@ -0,0 +1,15 @@
+package com.alexa.account.service;
+
+/**
+ * Service interface for expiring abandoned drafts.
+ */
+public interface IDraftPurgeService {
+
+    /**
+     * Delete drafts not updated within the configured maximum age, together with their ID documents.
+     * Works in chunks of a bounded number of rows, pausing between chunks.
+     *
+     * @return the number of drafts deleted
+     */
+    int purgeExpiredDrafts();
+}
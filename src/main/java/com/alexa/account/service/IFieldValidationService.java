@@ -1,5 +1,6 @@
 package com.alexa.account.service;
 
+import com.alexa.account.dto.AddressDTO;
 import com.alexa.account.dto.FieldValidationRequest;
 import com.alexa.account.dto.FieldValidationResponse;
 import org.springframework.web.multipart.MultipartFile;
@@ -52,6 +53,7 @@ public interface IFieldValidationService {
 
     /**
      * Validate post code field.
+     * Checks the format and, when an address dataset is loaded, that the post code exists.
      *
      * @param value the post code value to validate
      * @return FieldValidationResponse with validation result
@@ -89,5 +91,14 @@ public interface IFieldValidationService {
      * @return FieldValidationResponse with validation result
      */
     FieldValidationResponse validateInterestedInOtherProducts(String value);
-}
 
+    /**
+     * Validate a complete address against the address index.
+     * Checks the field formats, that the house number exists within the post code
+     * and that the city matches the post code. Without a loaded dataset only formats are checked.
+     *
+     * @param address the address to validate
+     * @return FieldValidationResponse with validation result
+     */
+    FieldValidationResponse validateAddress(AddressDTO address);
+}
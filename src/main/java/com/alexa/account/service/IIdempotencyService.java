@@ -0,0 +1,30 @@
+package com.alexa.account.service;
+
+import com.alexa.account.dto.IdempotentResponse;
+
+import java.util.function.Supplier;
+
+/**
+ * Service interface for Idempotency-Key handling of account creation requests.
+ */
+public interface IIdempotencyService {
+
+    /**
+     * Execute a request at most once per idempotency key.
+     * - If the key was used before: the stored response is replayed without executing the action
+     * - If a request with the key is in flight: waits for it and replays its response
+     * - Otherwise: executes the action and stores its response in the same transaction
+     * Failed executions are not stored, so a retry executes the action again.
+     *
+     * @param idempotencyKey the client supplied key
+     * @param fingerprint fingerprint of the request, see {@link IdempotencyService#fingerprint(Object...)}
+     * @param action the request to execute
+     * @return the response, marked as replayed when it was not executed by this call
+     */
+    IdempotentResponse execute(String idempotencyKey, String fingerprint, Supplier<IdempotentResponse> action);
+
+    /**
+     * Delete stored responses older than the retention period.
+     */
+    void purgeExpired();
+}
@@ -0,0 +1,18 @@
+package com.alexa.account.service;
+
+import com.alexa.account.dto.AccountResponseDTO;
+
+/**
+ * Service interface for writing events to the transactional outbox.
+ */
+public interface IOutboxService {
+
+    /**
+     * Record an AccountSubmitted event for the submitted request.
+     * Must be called in the transaction that submits the request, so the event is stored if and only if
+     * the submission is committed.
+     *
+     * @param account the submitted request
+     */
+    void recordAccountSubmitted(AccountResponseDTO account);
+}
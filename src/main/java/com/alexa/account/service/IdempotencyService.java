@@ -0,0 +1,279 @@
+package com.alexa.account.service;
+
+import com.alexa.account.dto.AccountResponseDTO;
+import com.alexa.account.dto.IdempotentResponse;
+import com.alexa.account.exception.ConflictException;
+import com.alexa.account.exception.InvalidRequestException;
+import com.alexa.account.exception.UnprocessableRequestException;
+import com.alexa.account.model.IdempotencyRecord;
+import com.alexa.account.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of the idempotency service.
+ *
+ * Stored responses live in the idempotency_keys table, written in the same transaction as the
+ * request itself, with an LRU cache in front so retries are answered from memory. Duplicates
+ * arriving while the first execution is in flight wait for its result. Across instances the
+ * primary key on the table decides which execution wins.
+ */
+@Service
+@Slf4j
+public class IdempotencyService implements IIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration retention;
+    private final Duration waitTimeout;
+    private final Map<String, CachedResponse> cache;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              TransactionTemplate transactionTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${app.idempotency.retention:24h}") Duration retention,
+                              @Value("${app.idempotency.wait-timeout:30s}") Duration waitTimeout,
+                              @Value("${app.idempotency.cache-size:10000}") int cacheSize) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.retention = retention;
+        this.waitTimeout = waitTimeout;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Fingerprint of a request: SHA-256 over the operation and the request parts.
+     * Parts must have a stable toString (records, strings, numbers).
+     */
+    public static String fingerprint(Object... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object part : parts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * SHA-256 of an uploaded file's content, so a retry with a different document of the same size is
+     * recognized as a different request.
+     */
+    public static String contentDigest(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read uploaded file", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @Override
+    public IdempotentResponse execute(String idempotencyKey, String fingerprint, Supplier<IdempotentResponse> action) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+
+        IdempotentResponse stored = findStored(idempotencyKey, fingerprint);
+        if (stored != null) {
+            return stored;
+        }
+
+        InFlight execution = new InFlight(fingerprint, new CompletableFuture<>());
+        InFlight existing = inFlight.putIfAbsent(idempotencyKey, execution);
+        if (existing != null) {
+            return awaitInFlight(existing, fingerprint);
+        }
+
+        try {
+            // The previous execution may have finished between the lookup and registering this one. It caches
+            // its response before leaving the in-flight map, so the cache is enough here
+            IdempotentResponse response = findCached(idempotencyKey, fingerprint);
+            if (response == null) {
+                response = executeAndStore(idempotencyKey, fingerprint, action);
+            }
+            execution.result.complete(response.asReplay());
+            return response;
+        } catch (RuntimeException e) {
+            execution.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(idempotencyKey, execution);
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:PT1H}")
+    public void purgeExpired() {
+        int deleted = idempotencyRecordRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    private IdempotentResponse executeAndStore(String idempotencyKey, String fingerprint,
+                                               Supplier<IdempotentResponse> action) {
+        IdempotentResponse response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                IdempotentResponse executed = action.get();
+                idempotencyRecordRepository.saveAndFlush(new IdempotencyRecord(idempotencyKey, fingerprint,
+                        executed.status(), toJson(executed.body())));
+                return executed;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another instance stored the key first and this execution was rolled back: its response wins
+            IdempotentResponse stored = findStored(idempotencyKey, fingerprint);
+            if (stored == null) {
+                throw e;
+            }
+            return stored;
+        }
+
+        cache(idempotencyKey, new CachedResponse(fingerprint, response.status(), response.body(), LocalDateTime.now()));
+        return response;
+    }
+
+    /**
+     * Look up a stored response, in the cache first and then in the database.
+     *
+     * @return the response marked as replayed, or null if the key was not used (or has expired)
+     */
+    private IdempotentResponse findStored(String idempotencyKey, String fingerprint) {
+        CachedResponse cached = cached(idempotencyKey);
+        if (cached == null) {
+            IdempotencyRecord record = idempotencyRecordRepository.findById(idempotencyKey).orElse(null);
+            if (record == null) {
+                return null;
+            }
+            cached = new CachedResponse(record.getFingerprint(), record.getStatusCode(),
+                    fromJson(record.getResponseBody()), record.getCreatedAt());
+            cache(idempotencyKey, cached);
+        }
+        return replay(idempotencyKey, cached, fingerprint);
+    }
+
+    /**
+     * Look up a stored response in the cache only.
+     *
+     * @return the response marked as replayed, or null if the key is not cached (or has expired)
+     */
+    private IdempotentResponse findCached(String idempotencyKey, String fingerprint) {
+        CachedResponse cached = cached(idempotencyKey);
+        return cached == null ? null : replay(idempotencyKey, cached, fingerprint);
+    }
+
+    private IdempotentResponse replay(String idempotencyKey, CachedResponse cached, String fingerprint) {
+        if (cached.storedAt().isBefore(LocalDateTime.now().minus(retention))) {
+            synchronized (cache) {
+                cache.remove(idempotencyKey);
+            }
+            idempotencyRecordRepository.deleteById(idempotencyKey);
+            return null;
+        }
+        checkFingerprint(cached.fingerprint(), fingerprint);
+        return new IdempotentResponse(cached.status(), cached.body(), true);
+    }
+
+    private IdempotentResponse awaitInFlight(InFlight execution, String fingerprint) {
+        checkFingerprint(execution.fingerprint, fingerprint);
+        try {
+            return execution.result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // The first execution failed and stored nothing; report the same failure
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new ConflictException("A request with this Idempotency-Key is still being processed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a request with the same Idempotency-Key", e);
+        }
+    }
+
+    private static void checkFingerprint(String stored, String fingerprint) {
+        if (!stored.equals(fingerprint)) {
+            throw new UnprocessableRequestException("Idempotency-Key has already been used for a different request");
+        }
+    }
+
+    private CachedResponse cached(String idempotencyKey) {
+        synchronized (cache) {
+            return cache.get(idempotencyKey);
+        }
+    }
+
+    private void cache(String idempotencyKey, CachedResponse response) {
+        synchronized (cache) {
+            cache.put(idempotencyKey, response);
+        }
+    }
+
+    private String toJson(AccountResponseDTO body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response for idempotency key", e);
+        }
+    }
+
+    private AccountResponseDTO fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, AccountResponseDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read stored response for idempotency key", e);
+        }
+    }
+
+    private record CachedResponse(String fingerprint, int status, AccountResponseDTO body, LocalDateTime storedAt) {
+    }
+
+    private record InFlight(String fingerprint, CompletableFuture<IdempotentResponse> result) {
+    }
+}
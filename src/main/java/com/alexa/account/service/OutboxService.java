@@ -0,0 +1,41 @@
+package com.alexa.account.service;
+
+import com.alexa.account.dto.AccountResponseDTO;
+import com.alexa.account.dto.AccountSubmittedEvent;
+import com.alexa.account.model.OutboxEvent;
+import com.alexa.account.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Implementation of the outbox writer. Events are published later by the
+ * {@link com.alexa.account.outbox.OutboxRelay}.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService implements IOutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void recordAccountSubmitted(AccountResponseDTO account) {
+        AccountSubmittedEvent event = new AccountSubmittedEvent(account.requestId(), LocalDateTime.now(), account);
+        outboxEventRepository.save(new OutboxEvent(AccountSubmittedEvent.TYPE, account.requestId(), toJson(event)));
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox event", e);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.alexa.account.service;
 
+import com.alexa.account.jfr.RequestIdGenerationEvent;
+import com.alexa.account.util.RequestTiming;
 import org.springframework.stereotype.Service;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Random;
+import java.util.function.Predicate;
 
 /**
  * Service for generating memorable and secure request IDs.
@@ -28,22 +31,64 @@ public class RequestIdGeneratorService {
     private static final Random RANDOM = new Random();
 
     /**
-     * Generate a memorable request ID for customer reference.
+     * 32^4 random parts per birth month: a handful of attempts is plenty even for a popular month.
+     */
+    static final int MAX_ATTEMPTS = 10;
+
+    /**
+     * Generate a memorable request ID for customer reference, recorded in a {@link RequestIdGenerationEvent}.
      *
      * @param dateOfBirth customer's date of birth
      * @return generated request ID in format XXXX-YYYY
      */
     public String generateRequestId(LocalDate dateOfBirth) {
-        // Generate 4 random readable characters
-        String randomPart = generateRandomCharacters(4);
+        return generateUniqueRequestId(dateOfBirth, requestId -> false);
+    }
+
+    /**
+     * Generate a request ID that is not in use yet, retrying on collisions.
+     * The attempts are recorded in one {@link RequestIdGenerationEvent}.
+     *
+     * @param dateOfBirth customer's date of birth
+     * @param inUse whether a generated ID is already taken
+     * @return generated request ID in format XXXX-YYYY
+     * @throws IllegalStateException if all MAX_ATTEMPTS generated IDs are in use
+     */
+    public String generateUniqueRequestId(LocalDate dateOfBirth, Predicate<String> inUse) {
+        RequestIdGenerationEvent event = new RequestIdGenerationEvent();
+        event.begin();
+        try {
+            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                String requestId = randomRequestId(dateOfBirth);
+                if (!inUse.test(requestId)) {
+                    event.requestId = requestId;
+                    event.retries = attempt;
+                    return requestId;
+                }
+            }
+            event.retries = MAX_ATTEMPTS;
+            throw new IllegalStateException("No unused request ID after " + MAX_ATTEMPTS + " attempts");
+        } finally {
+            event.commit();
+        }
+    }
+
+    private String randomRequestId(LocalDate dateOfBirth) {
+        long start = RequestTiming.begin();
+        try {
+            // Generate 4 random readable characters
+            String randomPart = generateRandomCharacters(4);
 
-        // Get DOB in MMYY format
-        String dobPart = (dateOfBirth != null)
-            ? dateOfBirth.format(DOB_MMYY_FORMATTER)
-            : "0000";
+            // Get DOB in MMYY format
+            String dobPart = (dateOfBirth != null)
+                ? dateOfBirth.format(DOB_MMYY_FORMATTER)
+                : "0000";
 
-        // Combine in readable format: XXXX-YYYY
-        return String.format("%s-%s", randomPart, dobPart);
+            // Combine in readable format: XXXX-YYYY
+            return String.format("%s-%s", randomPart, dobPart);
+        } finally {
+            RequestTiming.end(RequestTiming.Stage.ID_GENERATION, start);
+        }
     }
 
     /**
@@ -0,0 +1,136 @@
+package com.alexa.account.service;
+
+import com.alexa.account.exception.StorageException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Durable holding area for ID documents of asynchronously submitted registrations, keyed by request ID.
+ * Documents are written to a temporary file, fsynced and then renamed, so a spooled document is always complete.
+ */
+@Component
+@Slf4j
+public class SubmissionSpool {
+
+    private final Path spoolLocation;
+
+    public SubmissionSpool(@Value("${app.async-submission.spool-dir:./spool}") String spoolDir) {
+        this.spoolLocation = Paths.get(spoolDir).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.spoolLocation);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not create spool directory: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Spool the document of a request.
+     */
+    public void spool(String requestId, MultipartFile file) {
+        Path target = path(requestId);
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (InputStream inputStream = file.getInputStream()) {
+            Files.copy(inputStream, temporary, StandardCopyOption.REPLACE_EXISTING);
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new StorageException("Failed to spool document", e);
+        }
+    }
+
+    /**
+     * Open the spooled document of a request.
+     *
+     * @throws IllegalStateException if no document is spooled for the request
+     */
+    public MultipartFile open(String requestId, String originalFilename, String contentType) {
+        Path path = path(requestId);
+        if (!Files.isRegularFile(path)) {
+            throw new IllegalStateException("No spooled document for request " + requestId);
+        }
+        return new SpooledFile(path, originalFilename, contentType);
+    }
+
+    /**
+     * Delete the spooled document of a request, if any.
+     */
+    public void delete(String requestId) {
+        try {
+            Files.deleteIfExists(path(requestId));
+        } catch (IOException e) {
+            log.warn("Failed to delete spooled document of request {}: {}", requestId, e.getMessage());
+        }
+    }
+
+    private Path path(String requestId) {
+        Path path = spoolLocation.resolve(requestId).normalize();
+        if (!path.getParent().equals(spoolLocation)) {
+            throw new IllegalArgumentException("Invalid request ID: " + requestId);
+        }
+        return path;
+    }
+
+    /**
+     * Spooled document presented as an upload, so it is stored exactly like a synchronous upload.
+     */
+    private record SpooledFile(Path path, String originalFilename, String contentType) implements MultipartFile {
+
+        @Override
+        public String getName() {
+            return "idDocument";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return originalFilename;
+        }
+
+        @Override
+        public String getContentType() {
+            return contentType;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            try {
+                return Files.size(path);
+            } catch (IOException e) {
+                return 0;
+            }
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            return Files.readAllBytes(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.copy(path, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.alexa.account.service;
+
+import com.alexa.account.model.AccountStatus;
+import com.alexa.account.repository.AccountRequestRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Worker pool completing registrations accepted with {@code Prefer: respond-async}.
+ *
+ * The durable part of the queue is the PROCESSING row plus its spooled document; the in-memory queue
+ * only holds request IDs and is bounded, so a full queue is reported through {@link #isAvailable()}
+ * and the controller falls back to synchronous submission. Requests lost from memory (full queue
+ * after commit, restart) are picked up again by {@link #recoverStalled()}.
+ */
+@Component
+@Slf4j
+public class SubmissionWorker {
+
+    private final IAccountService accountService;
+    private final AccountRequestRepository accountRequestRepository;
+    private final SubmissionSpool submissionSpool;
+    private final boolean enabled;
+    private final Duration staleAfter;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+    private final Counter completed;
+    private final Counter failed;
+    private final Timer latency;
+
+    public SubmissionWorker(IAccountService accountService,
+                            AccountRequestRepository accountRequestRepository,
+                            SubmissionSpool submissionSpool,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.async-submission.enabled:true}") boolean enabled,
+                            @Value("${app.async-submission.workers:4}") int workers,
+                            @Value("${app.async-submission.queue-capacity:200}") int queueCapacity,
+                            @Value("${app.async-submission.stale-after:10m}") Duration staleAfter) {
+        this.accountService = accountService;
+        this.accountRequestRepository = accountRequestRepository;
+        this.submissionSpool = submissionSpool;
+        this.enabled = enabled;
+        this.staleAfter = staleAfter;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("submission-"));
+
+        Gauge.builder("submission.queue.depth", executor, e -> e.getQueue().size())
+                .description("Accepted submissions waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("submission.queue.remaining", executor, e -> e.getQueue().remainingCapacity())
+                .description("Free slots in the submission queue")
+                .register(meterRegistry);
+        Gauge.builder("submission.workers.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Workers completing a submission")
+                .register(meterRegistry);
+        this.completed = Counter.builder("submission.jobs")
+                .tag("result", "completed")
+                .description("Asynchronous submissions processed")
+                .register(meterRegistry);
+        this.failed = Counter.builder("submission.jobs")
+                .tag("result", "failed")
+                .description("Asynchronous submissions processed")
+                .register(meterRegistry);
+        this.latency = Timer.builder("submission.latency")
+                .description("Time to complete an asynchronous submission")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Check whether a new submission can be accepted asynchronously.
+     */
+    public boolean isAvailable() {
+        return enabled && !executor.isShutdown() && executor.getQueue().remainingCapacity() > 0;
+    }
+
+    /**
+     * Check whether the worker pool is accepting work (false once shut down).
+     */
+    public boolean isRunning() {
+        return !executor.isShutdown();
+    }
+
+    /**
+     * Number of accepted submissions waiting for a worker.
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Queue an accepted request. Inside a transaction the request is queued after commit, so workers
+     * never see a row that is not there yet.
+     */
+    public void submit(String requestId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(requestId);
+                }
+            });
+        } else {
+            enqueue(requestId);
+        }
+    }
+
+    /**
+     * Queue PROCESSING requests that have not been completed within stale-after, oldest first.
+     */
+    @Scheduled(fixedDelayString = "${app.async-submission.recovery-interval:PT1M}",
+            initialDelayString = "${app.async-submission.recovery-initial-delay:PT10S}")
+    public void recoverStalled() {
+        if (!enabled) {
+            return;
+        }
+        int capacity = executor.getQueue().remainingCapacity();
+        if (capacity == 0) {
+            return;
+        }
+        List<String> stalled = accountRequestRepository.findRequestIdsUpdatedBefore(AccountStatus.PROCESSING,
+                LocalDateTime.now().minus(staleAfter), Limit.of(capacity));
+        if (!stalled.isEmpty()) {
+            log.info("Re-queuing {} stalled submissions", stalled.size());
+            stalled.forEach(this::enqueue);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            // Unfinished requests stay PROCESSING and are recovered after restart
+            executor.shutdownNow();
+        }
+    }
+
+    private void enqueue(String requestId) {
+        if (!queued.add(requestId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> process(requestId));
+        } catch (RejectedExecutionException e) {
+            queued.remove(requestId);
+            log.warn("Submission queue full, request {} is left for recovery", requestId);
+        }
+    }
+
+    private void process(String requestId) {
+        long start = System.nanoTime();
+        try {
+            if (accountService.completeRegistration(requestId)) {
+                completed.increment();
+                latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            submissionSpool.delete(requestId);
+        } catch (RuntimeException e) {
+            log.error("Failed to complete submission {}", requestId, e);
+            fail(requestId);
+        } finally {
+            queued.remove(requestId);
+        }
+    }
+
+    private void fail(String requestId) {
+        try {
+            accountService.failRegistration(requestId);
+            failed.increment();
+            submissionSpool.delete(requestId);
+        } catch (RuntimeException e) {
+            // Still PROCESSING: the spooled document is kept so recovery can retry
+            log.error("Failed to mark submission {} as failed", requestId, e);
+        }
+    }
+}
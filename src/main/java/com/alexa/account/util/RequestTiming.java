@@ -0,0 +1,118 @@
+package com.alexa.account.util;
+
+import java.util.Arrays;
+
+/**
+ * Per-request stage timer, reported by ServerTimingFilter as a Server-Timing header and a log line.
+ *
+ * Each thread keeps one preallocated set of counters, so timing a stage costs two System.nanoTime() calls,
+ * a ThreadLocal lookup and an array update, without allocation. Outside a request (background workers,
+ * scheduled jobs) the counters are inactive and stages are not recorded.
+ *
+ * <pre>
+ * long start = RequestTiming.begin();
+ * try {
+ *     ...
+ * } finally {
+ *     RequestTiming.end(RequestTiming.Stage.STORAGE, start);
+ * }
+ * </pre>
+ */
+public final class RequestTiming {
+
+    public enum Stage {
+        MULTIPART("multipart"),
+        DOCUMENT_VALIDATION("doc-validate"),
+        STORAGE("storage"),
+        ID_GENERATION("id"),
+        DB("db"),
+        MAPPING("map");
+
+        private final String metricName;
+
+        Stage(String metricName) {
+            this.metricName = metricName;
+        }
+
+        /**
+         * Name used in the Server-Timing header and the log line.
+         */
+        public String metricName() {
+            return metricName;
+        }
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+    private static final ThreadLocal<Timings> CURRENT = ThreadLocal.withInitial(Timings::new);
+
+    private RequestTiming() {
+    }
+
+    /**
+     * Start timing a request on the current thread, clearing the previous request's stages.
+     */
+    public static void start() {
+        Timings timings = CURRENT.get();
+        Arrays.fill(timings.nanos, 0L);
+        Arrays.fill(timings.counts, 0);
+        timings.start = System.nanoTime();
+        timings.active = true;
+    }
+
+    /**
+     * Stop recording stages on the current thread.
+     */
+    public static void stop() {
+        CURRENT.get().active = false;
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get().active;
+    }
+
+    /**
+     * Start of a stage; pass the result to {@link #end(Stage, long)}.
+     */
+    public static long begin() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Add the time since begin to a stage of the current request.
+     */
+    public static void end(Stage stage, long begin) {
+        Timings timings = CURRENT.get();
+        if (timings.active) {
+            timings.nanos[stage.ordinal()] += System.nanoTime() - begin;
+            timings.counts[stage.ordinal()]++;
+        }
+    }
+
+    /**
+     * Total time of a stage in the current request.
+     */
+    public static long nanos(Stage stage) {
+        return CURRENT.get().nanos[stage.ordinal()];
+    }
+
+    /**
+     * Number of times a stage was recorded in the current request.
+     */
+    public static int count(Stage stage) {
+        return CURRENT.get().counts[stage.ordinal()];
+    }
+
+    /**
+     * Time since {@link #start()}.
+     */
+    public static long elapsedNanos() {
+        return System.nanoTime() - CURRENT.get().start;
+    }
+
+    private static final class Timings {
+        private final long[] nanos = new long[STAGES.length];
+        private final int[] counts = new int[STAGES.length];
+        private long start;
+        private boolean active;
+    }
+}
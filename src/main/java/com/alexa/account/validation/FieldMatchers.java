@@ -0,0 +1,195 @@
+package com.alexa.account.validation;
+
+import com.alexa.account.model.AccountType;
+
+import java.time.LocalDate;
+
+/**
+ * Hand-written matchers used by the {@link FieldRule} catalogue.
+ * Replaces the regular expressions that used to be declared on the DTOs and in the
+ * validation service. None of the matchers allocate or throw, so invalid input
+ * (the common case for per-keystroke validation) is as cheap as valid input.
+ */
+public final class FieldMatchers {
+
+    private static final String[] YES_NO_VALUES = {"Y", "YES", "TRUE", "1", "ON", "N", "NO", "FALSE", "0", "OFF"};
+
+    private FieldMatchers() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * Dutch post code: 4 digits, one whitespace character and 2 letters (e.g., 1234 AB).
+     * Equivalent to {@code ^[0-9]{4}\s[A-Za-z]{2}$}.
+     */
+    public static boolean isPostCode(String value) {
+        if (value == null || value.length() != 7) {
+            return false;
+        }
+        return isDigit(value.charAt(0))
+                && isDigit(value.charAt(1))
+                && isDigit(value.charAt(2))
+                && isDigit(value.charAt(3))
+                && isRegexWhitespace(value.charAt(4))
+                && isAsciiLetter(value.charAt(5))
+                && isAsciiLetter(value.charAt(6));
+    }
+
+    /**
+     * Dutch house number (e.g., 123, 45A, 7-1, 123-bis).
+     * Equivalent to {@code ^[1-9][0-9]{0,4}([A-Za-z])?(-[A-Za-z0-9]+)?$}.
+     */
+    public static boolean isHouseNumber(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        int length = value.length();
+        char first = value.charAt(0);
+        if (first < '1' || first > '9') {
+            return false;
+        }
+
+        int i = 1;
+        while (i < length && i < 5 && isDigit(value.charAt(i))) {
+            i++;
+        }
+        if (i < length && isAsciiLetter(value.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return true;
+        }
+        if (value.charAt(i) != '-' || i == length - 1) {
+            return false;
+        }
+        for (i++; i < length; i++) {
+            char c = value.charAt(i);
+            if (!isDigit(c) && !isAsciiLetter(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether the value is one of the account types, ignoring case.
+     */
+    public static boolean isAccountType(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (AccountType type : AccountType.values()) {
+            if (type.name().equalsIgnoreCase(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether the value is a Y/N value accepted by {@link com.alexa.account.util.YesNoBoolean},
+     * ignoring case and surrounding whitespace.
+     */
+    public static boolean isYesNo(String value) {
+        if (value == null) {
+            return false;
+        }
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int length = end - start;
+        for (String candidate : YES_NO_VALUES) {
+            if (candidate.length() == length && value.regionMatches(true, start, candidate, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether the value is a date in DD-MM-YYYY format.
+     */
+    public static boolean isDate(String value) {
+        return parseDate(value) != null;
+    }
+
+    /**
+     * Check whether the value is a date in DD-MM-YYYY format that lies in the past.
+     */
+    public static boolean isPastDate(String value) {
+        LocalDate date = parseDate(value);
+        return date != null && date.isBefore(LocalDate.now());
+    }
+
+    /**
+     * Parse a date in DD-MM-YYYY format without throwing.
+     * Mirrors the lenient (smart) resolution of {@code DateTimeFormatter.ofPattern("dd-MM-yyyy")},
+     * which Jackson uses for the DTOs: a day past the end of the month is moved to the last valid day.
+     *
+     * @param value the date string
+     * @return the parsed date, or null if the value is not a DD-MM-YYYY date
+     */
+    public static LocalDate parseDate(String value) {
+        if (value == null || value.length() != 10 || value.charAt(2) != '-' || value.charAt(5) != '-') {
+            return null;
+        }
+        int day = twoDigits(value, 0);
+        int month = twoDigits(value, 3);
+        int year = fourDigits(value, 6);
+        if (day < 1 || day > 31 || month < 1 || month > 12 || year < 1) {
+            return null;
+        }
+        int lastDay = lengthOfMonth(year, month);
+        return LocalDate.of(year, month, Math.min(day, lastDay));
+    }
+
+    private static int twoDigits(String value, int offset) {
+        char tens = value.charAt(offset);
+        char units = value.charAt(offset + 1);
+        if (!isDigit(tens) || !isDigit(units)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (units - '0');
+    }
+
+    private static int fourDigits(String value, int offset) {
+        int high = twoDigits(value, offset);
+        int low = twoDigits(value, offset + 2);
+        if (high < 0 || low < 0) {
+            return -1;
+        }
+        return high * 100 + low;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    /**
+     * Whitespace as defined by the regex class {@code \s}: [ \t\n\x0B\f\r].
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,109 @@
+package com.alexa.account.validation;
+
+import com.alexa.account.dto.FieldValidationResponse;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Catalogue of field validation rules.
+ * Single source of truth for both Bean Validation ({@link ValidField}) and the
+ * real-time validation endpoints, so formats and messages are declared once.
+ *
+ * Every response is prebuilt, so validating a field does not allocate.
+ */
+public enum FieldRule {
+
+    NAME("name", "Name is mandatory"),
+
+    DATE_OF_BIRTH("dateOfBirth", "Date of birth is mandatory",
+            new Check(FieldMatchers::isDate, "Invalid date format. Use DD-MM-YYYY (e.g., 15-05-1990)"),
+            new Check(FieldMatchers::isPastDate, "Date of birth must be in the past")),
+
+    STREET_NAME("streetName", "Street name is mandatory"),
+
+    HOUSE_NUMBER("houseNumber", "House number is mandatory",
+            new Check(FieldMatchers::isHouseNumber, "House number must be a valid Dutch house number (e.g., 123, 45A, 7-1, 123-bis)")),
+
+    POST_CODE("postCode", "Post code is mandatory",
+            new Check(FieldMatchers::isPostCode, "Post code must be 4 digits followed by space and 2 alphabets (e.g., 1234 AB)")),
+
+    CITY("city", "City is mandatory"),
+
+    ACCOUNT_TYPE("accountType", "Account type is mandatory",
+            new Check(FieldMatchers::isAccountType, "Account type must be one of: Savings, Current, Investment")),
+
+    INTERESTED_IN_OTHER_PRODUCTS("interestedInOtherProducts", null,
+            new Check(FieldMatchers::isYesNo, "Value must be Y or N (case-insensitive)"));
+
+    public static final FieldValidationResponse VALID = new FieldValidationResponse(true, "Valid");
+
+    /**
+     * Field names are matched case-insensitively without lower-casing the input on every call.
+     */
+    private static final Map<String, FieldRule> BY_FIELD_NAME = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        for (FieldRule rule : values()) {
+            BY_FIELD_NAME.put(rule.fieldName, rule);
+        }
+        // Misspelled name accepted by earlier versions of the API
+        BY_FIELD_NAME.put("interestedInOtherProdcts", INTERESTED_IN_OTHER_PRODUCTS);
+    }
+
+    private final String fieldName;
+    private final FieldValidationResponse missing;
+    private final Check[] checks;
+
+    FieldRule(String fieldName, String mandatoryMessage, Check... checks) {
+        this.fieldName = fieldName;
+        // Optional fields have no mandatory response: a missing value is valid
+        this.missing = mandatoryMessage != null ? new FieldValidationResponse(false, mandatoryMessage) : null;
+        this.checks = checks;
+    }
+
+    /**
+     * Look up a rule by field name, ignoring case.
+     *
+     * @param fieldName the field name (e.g., "postCode")
+     * @return the rule, or null if the field is unknown
+     */
+    public static FieldRule forFieldName(String fieldName) {
+        return fieldName == null ? null : BY_FIELD_NAME.get(fieldName);
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Validate a raw field value: mandatory check followed by the format checks in order.
+     */
+    public FieldValidationResponse validate(String value) {
+        if (value == null || value.isBlank()) {
+            return missing != null ? missing : VALID;
+        }
+        return checkFormat(value);
+    }
+
+    /**
+     * Run only the format checks (used by Bean Validation, where presence is checked by @NotBlank).
+     *
+     * @return {@link #VALID} or the response of the first failing check
+     */
+    public FieldValidationResponse checkFormat(String value) {
+        for (Check check : checks) {
+            if (!check.matcher().test(value)) {
+                return check.failure();
+            }
+        }
+        return VALID;
+    }
+
+    private record Check(Predicate<String> matcher, FieldValidationResponse failure) {
+        Check(Predicate<String> matcher, String message) {
+            this(matcher, new FieldValidationResponse(false, message));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.alexa.account.validation;
+
+import com.alexa.account.dto.FieldValidationResponse;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validator for {@link ValidField}, delegating to the shared {@link FieldRule} catalogue.
+ */
+public class FieldRuleValidator implements ConstraintValidator<ValidField, String> {
+
+    private FieldRule rule;
+    private boolean ownMessage;
+
+    @Override
+    public void initialize(ValidField constraintAnnotation) {
+        this.rule = constraintAnnotation.value();
+        this.ownMessage = !constraintAnnotation.message().isEmpty();
+    }
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+
+        FieldValidationResponse result = rule.checkFormat(value);
+        if (result.valid()) {
+            return true;
+        }
+        if (ownMessage) {
+            return false;
+        }
+
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(result.message()).addConstraintViolation();
+        return false;
+    }
+}
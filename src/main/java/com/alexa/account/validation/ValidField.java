@@ -0,0 +1,30 @@
+package com.alexa.account.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Bean Validation constraint backed by a {@link FieldRule} from the rule catalogue.
+ * Only the format checks are applied; null values are valid (combine with @NotBlank).
+ * The violation message is taken from the failing rule check, unless message is set.
+ */
+@Documented
+@Constraint(validatedBy = FieldRuleValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidField {
+
+    FieldRule value();
+
+    String message() default "";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,111 @@
+package com.alexa.account;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.mock.web.MockPart;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * End-to-end checks of the paths that depend on reflection and resources: JPA entities and converters,
+ * MapStruct, the custom Jackson (de)serializers, bean validation and the static OpenAPI document.
+ * Runs with the regular suite and, through mvn -PnativeTest test, inside a native image.
+ */
+@DisplayName("Smoke Tests")
+class AccountSmokeTest extends BaseIntegrationTest {
+
+    private static final String REQUEST = """
+            {"name":"Priya","dateOfBirth":"15-05-1990",
+             "address":{"streetName":"Hoofdstraat","houseNumber":"123A","postCode":"1234 AB","city":"Amsterdam"},
+             "accountType":"SAVINGS","startingBalance":1000.00,"interestedInOtherProducts":"Y"}""";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should report health and list the account types")
+    void testHealthAndAccountTypes_Return200() throws Exception {
+        mockMvc.perform(get("/api/v1/health"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("UP"));
+        mockMvc.perform(get("/api/v1/account-types"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("SAVINGS")));
+    }
+
+    @Test
+    @DisplayName("Should serve the static OpenAPI document")
+    void testOpenApiDocument_Returns200() throws Exception {
+        mockMvc.perform(get("/openapi.yaml"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("openapi: 3.1.0")));
+    }
+
+    @Test
+    @DisplayName("Should register an account and read it back")
+    void testRegisterAndGet_RoundTrip() throws Exception {
+        MvcResult result = mockMvc.perform(multipart("/api/v1/accounts/register")
+                .file(new MockMultipartFile("idDocument", "passport.jpg", "image/jpeg", "scan".getBytes()))
+                .part(new MockPart("request", REQUEST.getBytes()))
+                .contentType(MediaType.MULTIPART_FORM_DATA))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.requestId", notNullValue()))
+            .andReturn();
+        String requestId = objectMapper.readTree(result.getResponse().getContentAsString()).get("requestId").asText();
+
+        mockMvc.perform(get("/api/v1/accounts/{requestId}", requestId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.dateOfBirth").value("15-05-1990"))
+            .andExpect(jsonPath("$.address.postCode").value("1234 AB"))
+            .andExpect(jsonPath("$.idDocument.documentName").value("passport.jpg"))
+            .andExpect(jsonPath("$.interestedInOtherProducts").value("Y"))
+            .andExpect(jsonPath("$.status").value("SUBMITTED"));
+    }
+
+    @Test
+    @DisplayName("Should save a draft and apply a merge patch")
+    void testSaveDraftAndPatch_UpdatesDraft() throws Exception {
+        MvcResult result = mockMvc.perform(multipart("/api/v1/accounts/draft")
+                .part(new MockPart("request", REQUEST.getBytes()))
+                .contentType(MediaType.MULTIPART_FORM_DATA))
+            .andExpect(status().isCreated())
+            .andReturn();
+        String requestId = objectMapper.readTree(result.getResponse().getContentAsString()).get("requestId").asText();
+
+        mockMvc.perform(patch("/api/v1/accounts/{requestId}", requestId)
+                .contentType("application/merge-patch+json")
+                .content("{\"email\":\"priya@example.com\",\"interestedInOtherProducts\":\"N\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.email").value("priya@example.com"))
+            .andExpect(jsonPath("$.interestedInOtherProducts").value("N"))
+            .andExpect(jsonPath("$.status").value("DRAFT"));
+    }
+
+    @Test
+    @DisplayName("Should report validation errors per field")
+    void testValidation_InvalidInput_ReportsErrors() throws Exception {
+        mockMvc.perform(post("/api/v1/validation/postCode")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"fieldName\":\"postCode\",\"fieldValue\":\"12345\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.valid").value(false));
+
+        mockMvc.perform(multipart("/api/v1/accounts/register")
+                .part(new MockPart("request", "{\"name\":\"\"}".getBytes()))
+                .contentType(MediaType.MULTIPART_FORM_DATA))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.fieldErrors.name", notNullValue()));
+    }
+}
@@ -2,6 +2,7 @@ package com.alexa.account;
 
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 /**
@@ -12,10 +13,12 @@ import org.springframework.test.context.ActiveProfiles;
  * - Auto-configured MockMvc for testing REST endpoints
  * - H2 in-memory database for data persistence tests
  * - Automatic test database cleanup after each test
+ * - SQL statement counting per thread ({@link SqlStatementCount})
  */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
+@Import(SqlStatementCount.Config.class)
 public abstract class BaseIntegrationTest {
     // Base class for all integration tests
 }
@@ -0,0 +1,76 @@
+package com.alexa.account;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Counts the SQL statements executed on the current thread, per type, so tests can lock in the statement
+ * budget of a flow. A JDBC batch counts as one statement.
+ *
+ * The application DataSource is wrapped by {@link Config}, which {@link BaseIntegrationTest} imports.
+ * Counts are per thread: scheduled jobs and workers do not affect a test calling a service or MockMvc.
+ *
+ * <pre>
+ * SqlStatementCount.reset();
+ * accountService.saveDraft(draft, null);
+ * SqlStatementCount.assertStatements(1, 1, 0, 0);
+ * </pre>
+ */
+public final class SqlStatementCount {
+
+    static final String DATA_SOURCE_NAME = "account";
+
+    private SqlStatementCount() {
+    }
+
+    /**
+     * Start counting from zero on the current thread.
+     */
+    public static void reset() {
+        QueryCountHolder.clear();
+    }
+
+    /**
+     * Assert the statements executed on the current thread since {@link #reset()}, and that no other
+     * statement types were executed.
+     */
+    public static void assertStatements(int select, int insert, int update, int delete) {
+        QueryCount count = QueryCountHolder.get(DATA_SOURCE_NAME);
+        QueryCount actual = count != null ? count : new QueryCount();
+        assertAll("SQL statements",
+                () -> assertEquals(select, actual.getSelect(), "SELECT statements"),
+                () -> assertEquals(insert, actual.getInsert(), "INSERT statements"),
+                () -> assertEquals(update, actual.getUpdate(), "UPDATE statements"),
+                () -> assertEquals(delete, actual.getDelete(), "DELETE statements"),
+                () -> assertEquals(0, actual.getOther(), "other statements"));
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    public static class Config {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .name(DATA_SOURCE_NAME)
+                                .countQuery()
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.alexa.account.benchmark;
+
+import com.alexa.account.config.AccountJsonModule;
+import com.alexa.account.dto.AccountResponseDTO;
+import com.alexa.account.dto.AddressDTO;
+import com.alexa.account.dto.IdDocumentResponseDTO;
+import com.alexa.account.model.AccountStatus;
+import com.alexa.account.model.AccountType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encode and decode time of an account response in JSON, CBOR and Smile, all with the
+ * precompiled serializers as configured by BinaryContentConfig. Payload sizes are printed at setup.
+ *
+ * Run with: mvn -Pbenchmark -DskipTests test -Dbenchmark.includes=AccountCodecBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountCodecBenchmark {
+
+    private static final AccountResponseDTO RESPONSE = new AccountResponseDTO("AB2K-0590", "Priya",
+            LocalDate.of(1990, 5, 15), new IdDocumentResponseDTO("passport.jpg", "image/jpeg", 245_760L),
+            new AddressDTO("Hoofdstraat", "123A", "1234 AB", "Amsterdam"),
+            AccountType.SAVINGS, new BigDecimal("1000.00"), "priya@example.com", new BigDecimal("5000.00"),
+            true, AccountStatus.SUBMITTED);
+
+    @Param({"json", "cbor", "smile"})
+    private String encoding;
+
+    private ObjectMapper mapper;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new AccountJsonModule());
+        mapper = switch (encoding) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+        payload = mapper.writeValueAsBytes(RESPONSE);
+        System.out.printf("%n%s payload: %d bytes%n", encoding, payload.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(RESPONSE);
+    }
+
+    @Benchmark
+    public AccountResponseDTO decode() throws IOException {
+        return mapper.readValue(payload, AccountResponseDTO.class);
+    }
+}
@@ -0,0 +1,67 @@
+package com.alexa.account.benchmark;
+
+import com.alexa.account.config.AccountJsonModule;
+import com.alexa.account.dto.AccountRequestDTO;
+import com.alexa.account.dto.AccountResponseDTO;
+import com.alexa.account.dto.AddressDTO;
+import com.alexa.account.dto.IdDocumentResponseDTO;
+import com.alexa.account.model.AccountStatus;
+import com.alexa.account.model.AccountType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the precompiled account serializers against the reflective bean serializer
+ * (with YesNoSerializer and the @JsonFormat date formatter) for a full response and a request.
+ *
+ * Run with: mvn -Pbenchmark -DskipTests test -Dbenchmark.includes=AccountJsonBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountJsonBenchmark {
+
+    private static final AddressDTO ADDRESS = new AddressDTO("Hoofdstraat", "123A", "1234 AB", "Amsterdam");
+
+    private static final AccountResponseDTO RESPONSE = new AccountResponseDTO("AB2K-0590", "Priya",
+            LocalDate.of(1990, 5, 15), new IdDocumentResponseDTO("passport.jpg", "image/jpeg", 245_760L), ADDRESS,
+            AccountType.SAVINGS, new BigDecimal("1000.00"), "priya@example.com", new BigDecimal("5000.00"),
+            true, AccountStatus.SUBMITTED);
+
+    private static final AccountRequestDTO REQUEST = new AccountRequestDTO("Priya", LocalDate.of(1990, 5, 15),
+            ADDRESS, AccountType.SAVINGS, new BigDecimal("1000.00"), "priya@example.com", null, false);
+
+    private final ObjectMapper reflective = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper precompiled = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(new AccountJsonModule())
+            .build();
+
+    @Benchmark
+    public byte[] responseReflective() throws JsonProcessingException {
+        return reflective.writeValueAsBytes(RESPONSE);
+    }
+
+    @Benchmark
+    public byte[] responsePrecompiled() throws JsonProcessingException {
+        return precompiled.writeValueAsBytes(RESPONSE);
+    }
+
+    @Benchmark
+    public byte[] requestReflective() throws JsonProcessingException {
+        return reflective.writeValueAsBytes(REQUEST);
+    }
+
+    @Benchmark
+    public byte[] requestPrecompiled() throws JsonProcessingException {
+        return precompiled.writeValueAsBytes(REQUEST);
+    }
+}
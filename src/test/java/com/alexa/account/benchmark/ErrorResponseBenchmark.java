@@ -0,0 +1,83 @@
+package com.alexa.account.benchmark;
+
+import com.alexa.account.exception.GlobalExceptionHandler;
+import com.alexa.account.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a 404 response: throwing the exception at a given call depth, building the body and serializing it.
+ * The baseline is the previous exception with a stack trace and the timestamped map body; problem uses the
+ * stackless exception and the problem templates of GlobalExceptionHandler.
+ *
+ * A request reaches the controllers about 100 frames deep (filters, DispatcherServlet, proxies).
+ *
+ * Run with: mvn -Pbenchmark -DskipTests test -Dbenchmark.includes=ErrorResponseBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorResponseBenchmark {
+
+    private static final String MESSAGE = "Account request not found with id: AB2K-0590";
+
+    @Param({"20", "100"})
+    private int depth;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(new SimpleMeterRegistry());
+
+    @Benchmark
+    public byte[] baseline() throws JsonProcessingException {
+        try {
+            throwAt(depth, false);
+            throw new AssertionError();
+        } catch (StackTraceNotFoundException ex) {
+            Map<String, Object> body = new HashMap<>();
+            body.put("timestamp", LocalDateTime.now());
+            body.put("status", HttpStatus.NOT_FOUND.value());
+            body.put("error", "Not Found");
+            body.put("message", ex.getMessage());
+            return objectMapper.writeValueAsBytes(body);
+        }
+    }
+
+    @Benchmark
+    public byte[] problem() throws JsonProcessingException {
+        try {
+            throwAt(depth, true);
+            throw new AssertionError();
+        } catch (ResourceNotFoundException ex) {
+            return objectMapper.writeValueAsBytes(handler.handleResourceNotFoundException(ex).getBody());
+        }
+    }
+
+    private static void throwAt(int depth, boolean stackless) {
+        if (depth > 0) {
+            throwAt(depth - 1, stackless);
+            return;
+        }
+        throw stackless ? new ResourceNotFoundException(MESSAGE) : new StackTraceNotFoundException(MESSAGE);
+    }
+
+    /**
+     * ResourceNotFoundException as it was before, filling in its stack trace.
+     */
+    private static final class StackTraceNotFoundException extends RuntimeException {
+        private StackTraceNotFoundException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.alexa.account.benchmark;
+
+import com.alexa.account.dto.FieldValidationRequest;
+import com.alexa.account.dto.FieldValidationResponse;
+import com.alexa.account.service.AddressIndexService;
+import com.alexa.account.service.FieldValidationService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the rule catalogue against the previous regex/exception based validation.
+ * The input mix is invalid-heavy (80%), like per-keystroke traffic from the frontend.
+ *
+ * Run with: mvn -Pbenchmark -DskipTests test -Dbenchmark.includes=FieldValidationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FieldValidationBenchmark {
+
+    private static final FieldValidationRequest[] REQUESTS = {
+            new FieldValidationRequest("postCode", "1234 AB"),
+            new FieldValidationRequest("postCode", "1234A"),
+            new FieldValidationRequest("postCode", "12345 AB"),
+            new FieldValidationRequest("houseNumber", "45A"),
+            new FieldValidationRequest("houseNumber", "0123"),
+            new FieldValidationRequest("houseNumber", "12-"),
+            new FieldValidationRequest("dateOfBirth", "15-05-1990"),
+            new FieldValidationRequest("dateOfBirth", "15-05-19"),
+            new FieldValidationRequest("dateOfBirth", "1990-05-15"),
+            new FieldValidationRequest("dateOfBirth", "15/05/1990"),
+    };
+
+    private final FieldValidationService catalogue = new FieldValidationService(new AddressIndexService(""));
+    private final LegacyFieldValidation legacy = new LegacyFieldValidation();
+
+    @Benchmark
+    @OperationsPerInvocation(10)
+    public void ruleCatalogue(Blackhole blackhole) {
+        for (FieldValidationRequest request : REQUESTS) {
+            blackhole.consume(catalogue.validateField(request));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(10)
+    public void legacyRegex(Blackhole blackhole) {
+        for (FieldValidationRequest request : REQUESTS) {
+            blackhole.consume(legacy.validateField(request));
+        }
+    }
+
+    /**
+     * Baseline: the validation as implemented before the rule catalogue.
+     */
+    static final class LegacyFieldValidation {
+
+        private static final Pattern POSTCODE_PATTERN = Pattern.compile("^[0-9]{4}\\s[A-Za-z]{2}$");
+        private static final Pattern HOUSE_NUMBER_PATTERN = Pattern.compile("^[1-9][0-9]{0,4}([A-Za-z])?(-[A-Za-z0-9]+)?$");
+        private static final DateTimeFormatter DOB_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+        FieldValidationResponse validateField(FieldValidationRequest request) {
+            return switch (request.fieldName().toLowerCase()) {
+                case "dateofbirth" -> validateDateOfBirth(request.fieldValue());
+                case "housenumber" -> validatePattern(request.fieldValue(), HOUSE_NUMBER_PATTERN, "House number");
+                case "postcode" -> validatePattern(request.fieldValue(), POSTCODE_PATTERN, "Post code");
+                default -> new FieldValidationResponse(false, "Unknown field: " + request.fieldName());
+            };
+        }
+
+        private FieldValidationResponse validatePattern(String value, Pattern pattern, String label) {
+            if (value == null || value.isBlank()) {
+                return new FieldValidationResponse(false, label + " is mandatory");
+            }
+            if (!pattern.matcher(value).matches()) {
+                return new FieldValidationResponse(false, label + " is invalid");
+            }
+            return new FieldValidationResponse(true, "Valid");
+        }
+
+        private FieldValidationResponse validateDateOfBirth(String value) {
+            if (value == null || value.isBlank()) {
+                return new FieldValidationResponse(false, "Date of birth is mandatory");
+            }
+            try {
+                LocalDate dob = LocalDate.parse(value, DOB_FORMATTER);
+                if (!dob.isBefore(LocalDate.now())) {
+                    return new FieldValidationResponse(false, "Date of birth must be in the past");
+                }
+                return new FieldValidationResponse(true, "Valid");
+            } catch (Exception e) {
+                return new FieldValidationResponse(false, "Invalid date format. Use DD-MM-YYYY (e.g., 15-05-1990)");
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.alexa.account.benchmark;
+
+import com.alexa.account.util.RequestTiming;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of timing one stage with RequestTiming inside a request (active) and outside one (inactive),
+ * against the two bare System.nanoTime() calls it is built on.
+ *
+ * Run with: mvn -Pbenchmark -DskipTests test -Dbenchmark.includes=RequestTimingBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RequestTimingBenchmark {
+
+    @Param({"true", "false"})
+    private boolean active;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        RequestTiming.start();
+        if (!active) {
+            RequestTiming.stop();
+        }
+    }
+
+    @Benchmark
+    public long nanoTimePair() {
+        long start = System.nanoTime();
+        return System.nanoTime() - start;
+    }
+
+    @Benchmark
+    public long stage() {
+        long start = RequestTiming.begin();
+        RequestTiming.end(RequestTiming.Stage.DB, start);
+        return start;
+    }
+}
@@ -0,0 +1,97 @@
+package com.alexa.account.config;
+
+import com.alexa.account.dto.AccountRequestDTO;
+import com.alexa.account.dto.AccountResponseDTO;
+import com.alexa.account.dto.AddressDTO;
+import com.alexa.account.dto.DraftRequestDTO;
+import com.alexa.account.dto.IdDocumentResponseDTO;
+import com.alexa.account.model.AccountStatus;
+import com.alexa.account.model.AccountType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that the precompiled serializers write exactly the bytes of the reflective bean serializer.
+ */
+@DisplayName("AccountJsonModule Tests")
+class AccountJsonModuleTest {
+
+    private static final ObjectMapper REFERENCE = Jackson2ObjectMapperBuilder.json().build();
+    private static final ObjectMapper OPTIMISED = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(new AccountJsonModule())
+            .build();
+
+    static Stream<Object> dtos() {
+        AddressDTO address = new AddressDTO("Hoofdstraat", "123A", "1234 AB", "Amsterdam");
+        AddressDTO escaped = new AddressDTO("\"Quoted\" \\ street\n", "1-bis", "1234 AB", "Ĳsselstein €");
+        IdDocumentResponseDTO document = new IdDocumentResponseDTO("passport.jpg", "image/jpeg", 1_048_576L);
+        return Stream.of(
+                new AccountResponseDTO("AB2K-0590", "Priya", LocalDate.of(1990, 5, 15), document, address,
+                        AccountType.SAVINGS, new BigDecimal("1000.00"), "priya@example.com", new BigDecimal("5E+3"),
+                        true, AccountStatus.SUBMITTED),
+                new AccountResponseDTO("AB2K-0590", "Priya", LocalDate.of(1990, 5, 15), null, null,
+                        null, null, null, null, null, null),
+                new AccountResponseDTO(null, "O'Brien \"Jr\"", LocalDate.of(7, 1, 1), document, escaped,
+                        AccountType.INVESTMENT, BigDecimal.ZERO, null, new BigDecimal("0.000001"),
+                        false, AccountStatus.PROCESSING),
+                new AccountResponseDTO("XY12-1299", "Future", LocalDate.of(12_345, 12, 31), null, address,
+                        AccountType.CURRENT, null, null, null, null, AccountStatus.FAILED),
+                new AccountResponseDTO("XY12-1299", "Before Christ", LocalDate.of(-44, 3, 15), null, address,
+                        AccountType.CURRENT, null, null, null, null, AccountStatus.DRAFT),
+                new AccountRequestDTO("Priya", LocalDate.of(1990, 5, 15), address, AccountType.SAVINGS,
+                        new BigDecimal("1000.00"), "priya@example.com", null, false),
+                new AccountRequestDTO(null, null, null, null, null, null, null, null),
+                new DraftRequestDTO("Priya", LocalDate.of(2001, 10, 9), escaped, null,
+                        null, null, new BigDecimal("123456789012345678901234567890.5"), true),
+                new DraftRequestDTO(null, null, null, null, null, null, null, null),
+                address
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("dtos")
+    @DisplayName("Should write the same bytes as the reflective serializer")
+    void testSerialize_SameBytesAsBeanSerializer(Object dto) throws Exception {
+        assertArrayEquals(REFERENCE.writeValueAsBytes(dto), OPTIMISED.writeValueAsBytes(dto),
+                () -> "Expected " + new String(writeUnchecked(REFERENCE, dto)));
+    }
+
+    @Test
+    @DisplayName("Should write the same bytes inside collections and pretty printed")
+    void testSerialize_NestedAndPrettyPrinted_SameOutput() throws Exception {
+        List<Object> all = dtos().toList();
+
+        assertEquals(REFERENCE.writeValueAsString(all), OPTIMISED.writeValueAsString(all));
+        assertEquals(REFERENCE.writerWithDefaultPrettyPrinter().writeValueAsString(all),
+                OPTIMISED.writerWithDefaultPrettyPrinter().writeValueAsString(all));
+    }
+
+    @Test
+    @DisplayName("Should read back what it writes")
+    void testSerialize_RoundTrip() throws Exception {
+        AccountResponseDTO response = (AccountResponseDTO) dtos().findFirst().orElseThrow();
+
+        AccountResponseDTO read = OPTIMISED.readValue(OPTIMISED.writeValueAsBytes(response), AccountResponseDTO.class);
+
+        assertEquals(response, read);
+    }
+
+    private static byte[] writeUnchecked(ObjectMapper mapper, Object value) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.alexa.account.config;
+
+import com.alexa.account.grpc.v1.Account;
+import com.alexa.account.model.AccountRequest;
+import com.alexa.account.model.YesNoConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("AccountRuntimeHints Tests")
+class AccountRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new AccountRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should include the static OpenAPI document")
+    void testRegisterHints_OpenApiResource() {
+        assertTrue(RuntimeHintsPredicates.resource().forResource("static/openapi.yaml").test(hints));
+    }
+
+    @Test
+    @DisplayName("Should register entities, converter, mapper and serializers for reflection")
+    void testRegisterHints_ReflectiveTypes() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(AccountRequest.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(YesNoConverter.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(YesNoSerializer.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("com.alexa.account.mapper.AccountMapperImpl")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Account.Builder.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS).test(hints));
+    }
+}
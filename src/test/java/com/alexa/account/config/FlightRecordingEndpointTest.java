@@ -0,0 +1,86 @@
+package com.alexa.account.config;
+
+import com.alexa.account.jfr.RequestIdGenerationEvent;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FlightRecordingEndpoint Tests")
+class FlightRecordingEndpointTest {
+
+    private final FlightRecordingEndpoint endpoint =
+            new FlightRecordingEndpoint(Duration.ofMillis(500), Duration.ofSeconds(2));
+
+    @Test
+    @DisplayName("Should return a recording with the account events committed while it ran")
+    void testRecord_ShortRecording_ReturnsJfrWithAccountEvents(@TempDir Path tempDir) throws Exception {
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                return;
+            }
+            RequestIdGenerationEvent event = new RequestIdGenerationEvent();
+            event.begin();
+            event.requestId = "AB2K-0590";
+            event.retries = 1;
+            event.commit();
+        });
+        producer.start();
+
+        WebEndpointResponse<Resource> response = endpoint.record(null, null);
+        producer.join();
+
+        assertEquals(WebEndpointResponse.STATUS_OK, response.getStatus());
+        Path file = tempDir.resolve("recording.jfr");
+        try (InputStream body = response.getBody().getInputStream()) {
+            Files.copy(body, file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.alexa.account.RequestIdGeneration"))
+                .toList();
+        assertEquals(1, events.size());
+        assertEquals("AB2K-0590", events.get(0).getString("requestId"));
+        assertEquals(1, events.get(0).getInt("retries"));
+    }
+
+    @Test
+    @DisplayName("Should leave environment variables, system properties and JVM arguments out of the recording")
+    void testRecord_ShortRecording_ExcludesEnvironmentEvents(@TempDir Path tempDir) throws Exception {
+        WebEndpointResponse<Resource> response = endpoint.record(null, "profile");
+
+        assertEquals(WebEndpointResponse.STATUS_OK, response.getStatus());
+        Path file = tempDir.resolve("recording.jfr");
+        try (InputStream body = response.getBody().getInputStream()) {
+            Files.copy(body, file);
+        }
+        List<String> environmentEvents = RecordingFile.readAllEvents(file).stream()
+                .map(event -> event.getEventType().getName())
+                .filter(FlightRecordingEndpoint.ENVIRONMENT_EVENTS::contains)
+                .toList();
+        assertEquals(List.of(), environmentEvents);
+    }
+
+    @Test
+    @DisplayName("Should reject a duration above the maximum or unknown settings with 400")
+    void testRecord_InvalidArguments_Returns400() {
+        assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST,
+                endpoint.record(Duration.ofMinutes(1), null).getStatus());
+        assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST,
+                endpoint.record(Duration.ZERO, null).getStatus());
+        assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST,
+                endpoint.record(null, "custom").getStatus());
+    }
+}
@@ -0,0 +1,71 @@
+package com.alexa.account.config;
+
+import com.alexa.account.dto.StartupReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("StartupReportEndpoint Tests")
+class StartupReportEndpointTest {
+
+    @Test
+    @DisplayName("Should rank beans by self time, excluding nested bean creation")
+    void testReport_NestedBeans_RanksBySelfTime() throws InterruptedException {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+        StartupStep refresh = startup.start("spring.context.refresh");
+        StartupStep outer = startup.start(StartupReportEndpoint.BEAN_INSTANTIATE).tag("beanName", "accountService");
+        StartupStep inner = startup.start(StartupReportEndpoint.BEAN_INSTANTIATE).tag("beanName", "fileStorageService");
+        Thread.sleep(50);
+        inner.end();
+        outer.end();
+        refresh.end();
+
+        StartupReport report = StartupReportEndpoint.report(startup.getBufferedTimeline(), 10);
+
+        assertEquals(3, report.recordedSteps());
+        assertTrue(report.totalMs() >= 50);
+        List<StartupReport.Step> beans = report.slowestBeans();
+        assertEquals("fileStorageService", beans.get(0).beanName());
+        assertTrue(beans.get(0).selfMs() >= 50);
+        assertEquals("accountService", beans.get(1).beanName());
+        assertTrue(beans.get(1).durationMs() >= 50);
+        assertTrue(beans.get(1).selfMs() < beans.get(0).selfMs());
+        assertEquals(List.of("spring.context.refresh"),
+                report.slowestPhases().stream().map(StartupReport.Step::name).toList());
+    }
+
+    @Test
+    @DisplayName("Should limit the report to the top entries")
+    void testReport_ManyBeans_ReturnsTop() {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+        for (int i = 0; i < 5; i++) {
+            startup.start(StartupReportEndpoint.BEAN_INSTANTIATE).tag("beanName", "bean" + i).end();
+        }
+
+        StartupReport report = StartupReportEndpoint.report(startup.getBufferedTimeline(), 2);
+
+        assertEquals(5, report.recordedSteps());
+        assertEquals(2, report.slowestBeans().size());
+    }
+
+    @Test
+    @DisplayName("Should return an empty report when startup steps are not recorded")
+    void testReport_DefaultStartup_ReturnsEmptyReport() {
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        when(context.getApplicationStartup()).thenReturn(ApplicationStartup.DEFAULT);
+
+        StartupReport report = new StartupReportEndpoint(context, 10).report();
+
+        assertEquals(0, report.recordedSteps());
+        assertTrue(report.slowestBeans().isEmpty());
+    }
+}
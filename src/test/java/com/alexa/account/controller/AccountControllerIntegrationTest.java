@@ -5,18 +5,34 @@ import com.alexa.account.dto.AccountRequestDTO;
 import com.alexa.account.dto.AddressDTO;
 import com.alexa.account.dto.DraftRequestDTO;
 import com.alexa.account.model.AccountType;
+import com.alexa.account.repository.AccountRequestRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.mock.web.MockPart;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 import java.time.LocalDate;
-
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -29,6 +45,9 @@ class AccountControllerIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private AccountRequestRepository accountRequestRepository;
+
     private MockMultipartFile createMockFile() {
         return new MockMultipartFile(
             "idDocument",
@@ -79,6 +98,19 @@ class AccountControllerIntegrationTest extends BaseIntegrationTest {
             .andExpect(jsonPath("$.name").value("Haripriya"));
     }
 
+    @Test
+    @DisplayName("Should report the stage timings of a registration in Server-Timing")
+    void testRegister_ValidRequest_ReturnsServerTiming() throws Exception {
+        mockMvc.perform(multipart("/api/v1/accounts/register")
+                .file(createMockFile())
+                .part(new MockPart("request", objectMapper.writeValueAsString(createValidAccountRequest()).getBytes()))
+                .contentType("multipart/form-data"))
+            .andExpect(status().isCreated())
+            .andExpect(header().string("Server-Timing", allOf(containsString("doc-validate;dur="),
+                    containsString("storage;dur="), containsString("id;dur="), containsString("db;dur="),
+                    containsString("map;dur="), containsString("total;dur="))));
+    }
+
     @Test
     @DisplayName("Should save draft successfully with HTTP 201")
     void testSaveDraft_ValidRequest_Returns201AndResponse() throws Exception {
@@ -300,5 +332,331 @@ class AccountControllerIntegrationTest extends BaseIntegrationTest {
                 .contentType("multipart/form-data"))
             .andExpect(status().isBadRequest());
     }
-}
 
+    @Test
+    @DisplayName("Should replay a retried registration with the same Idempotency-Key")
+    void testRegister_SameIdempotencyKey_ReplaysResponse() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+        byte[] request = objectMapper.writeValueAsString(createValidAccountRequest()).getBytes();
+        long countBefore = accountRequestRepository.count();
+
+        MvcResult first = mockMvc.perform(multipart("/api/v1/accounts/register")
+                .file(createMockFile())
+                .part(new MockPart("request", request))
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType("multipart/form-data"))
+            .andExpect(status().isCreated())
+            .andExpect(header().doesNotExist("Idempotent-Replayed"))
+            .andReturn();
+        String requestId = objectMapper.readTree(first.getResponse().getContentAsString()).get("requestId").asText();
+
+        mockMvc.perform(multipart("/api/v1/accounts/register")
+                .file(createMockFile())
+                .part(new MockPart("request", request))
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType("multipart/form-data"))
+            .andExpect(status().isCreated())
+            .andExpect(header().string("Idempotent-Replayed", "true"))
+            .andExpect(jsonPath("$.requestId").value(requestId))
+            .andExpect(jsonPath("$.name").value("Haripriya"));
+
+        assertEquals(countBefore + 1, accountRequestRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should reject a retry with the same Idempotency-Key and a different document of the same size")
+    void testRegister_SameIdempotencyKeyDifferentDocument_Returns422() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+        byte[] request = objectMapper.writeValueAsString(createValidAccountRequest()).getBytes();
+
+        mockMvc.perform(multipart("/api/v1/accounts/register")
+                .file(createMockFile())
+                .part(new MockPart("request", request))
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType("multipart/form-data"))
+            .andExpect(status().isCreated());
+
+        mockMvc.perform(multipart("/api/v1/accounts/register")
+                .file(new MockMultipartFile("idDocument", "passport.jpg", "image/jpeg", "fake content".getBytes()))
+                .part(new MockPart("request", request))
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType("multipart/form-data"))
+            .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    @DisplayName("Should accept a registration with Prefer: respond-async and submit it in the background")
+    void testRegister_RespondAsync_Returns202AndCompletes() throws Exception {
+        MvcResult accepted = mockMvc.perform(multipart("/api/v1/accounts/register")
+                .file(createMockFile())
+                .part(new MockPart("request", objectMapper.writeValueAsString(createValidAccountRequest()).getBytes()))
+                .header("Prefer", "respond-async")
+                .contentType("multipart/form-data"))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Preference-Applied", "respond-async"))
+            .andExpect(jsonPath("$.requestId", notNullValue()))
+            .andReturn();
+        String requestId = objectMapper.readTree(accepted.getResponse().getContentAsString()).get("requestId").asText();
+        assertEquals("/api/v1/accounts/" + requestId, accepted.getResponse().getHeader("Location"));
+
+        String status = null;
+        for (int attempt = 0; attempt < 100 && !"SUBMITTED".equals(status); attempt++) {
+            Thread.sleep(50);
+            MvcResult poll = mockMvc.perform(get("/api/v1/accounts/{requestId}", requestId))
+                .andExpect(status().isOk())
+                .andReturn();
+            status = objectMapper.readTree(poll.getResponse().getContentAsString()).get("status").asText();
+        }
+
+        assertEquals("SUBMITTED", status);
+        assertNotNull(accountRequestRepository.findByRequestId(requestId).orElseThrow().getIdDocument().getFilePath());
+    }
+
+    @Test
+    @DisplayName("Should replay a retried draft with the same Idempotency-Key")
+    void testSaveDraft_SameIdempotencyKey_ReplaysResponse() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+        byte[] request = objectMapper.writeValueAsString(createValidDraftRequest()).getBytes();
+
+        MvcResult first = mockMvc.perform(multipart("/api/v1/accounts/draft")
+                .part(new MockPart("request", request))
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType("multipart/form-data"))
+            .andExpect(status().isCreated())
+            .andReturn();
+        String requestId = objectMapper.readTree(first.getResponse().getContentAsString()).get("requestId").asText();
+
+        mockMvc.perform(multipart("/api/v1/accounts/draft")
+                .part(new MockPart("request", request))
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType("multipart/form-data"))
+            .andExpect(status().isCreated())
+            .andExpect(header().string("Idempotent-Replayed", "true"))
+            .andExpect(jsonPath("$.requestId").value(requestId))
+            .andExpect(jsonPath("$.status").value("DRAFT"));
+    }
+
+    @Test
+    @DisplayName("Should reject an Idempotency-Key reused for a different request with HTTP 422")
+    void testSaveDraft_IdempotencyKeyReusedForDifferentRequest_Returns422() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        mockMvc.perform(multipart("/api/v1/accounts/draft")
+                .part(new MockPart("request", objectMapper.writeValueAsString(createValidDraftRequest()).getBytes()))
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType("multipart/form-data"))
+            .andExpect(status().isCreated());
+
+        mockMvc.perform(multipart("/api/v1/accounts/register")
+                .file(createMockFile())
+                .part(new MockPart("request", objectMapper.writeValueAsString(createValidAccountRequest()).getBytes()))
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType("multipart/form-data"))
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.detail").value("Idempotency-Key has already been used for a different request"));
+    }
+
+    @Test
+    @DisplayName("Should page through account requests newest first without gaps or duplicates")
+    void testListAccounts_KeysetPages_ReturnsAllRequestsNewestFirst() throws Exception {
+        String createdFrom = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS).toString();
+        List<String> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(0, saveDraft());
+        }
+
+        List<String> listed = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/v1/accounts")
+                    .param("createdFrom", createdFrom)
+                    .param("limit", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            MvcResult result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+            JsonNode page = objectMapper.readTree(result.getResponse().getContentAsString());
+            page.get("items").forEach(item -> listed.add(item.get("requestId").asText()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(created, listed);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    @DisplayName("Should filter account requests by status")
+    void testListAccounts_StatusFilter_ReturnsOnlyMatchingRequests() throws Exception {
+        String createdFrom = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS).toString();
+        saveDraft();
+        MvcResult registered = mockMvc.perform(multipart("/api/v1/accounts/register")
+                .file(createMockFile())
+                .part(new MockPart("request", objectMapper.writeValueAsString(createValidAccountRequest()).getBytes()))
+                .contentType("multipart/form-data"))
+            .andExpect(status().isCreated())
+            .andReturn();
+        String requestId = objectMapper.readTree(registered.getResponse().getContentAsString()).get("requestId").asText();
+
+        mockMvc.perform(get("/api/v1/accounts")
+                .param("status", "SUBMITTED")
+                .param("accountType", "SAVINGS")
+                .param("createdFrom", createdFrom))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(1)))
+            .andExpect(jsonPath("$.items[0].requestId").value(requestId))
+            .andExpect(jsonPath("$.items[0].status").value("SUBMITTED"))
+            .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    @DisplayName("Should return only the selected fields and the request ID")
+    void testListAccounts_SparseFields_ReturnsSelectedFieldsOnly() throws Exception {
+        String createdFrom = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS).toString();
+        String requestId = saveDraft();
+
+        mockMvc.perform(get("/api/v1/accounts")
+                .param("createdFrom", createdFrom)
+                .param("fields", "name,status"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].requestId").value(requestId))
+            .andExpect(jsonPath("$.items[0].name").value(notNullValue()))
+            .andExpect(jsonPath("$.items[0].status").value("DRAFT"))
+            .andExpect(jsonPath("$.items[0].address").doesNotExist())
+            .andExpect(jsonPath("$.items[0].dateOfBirth").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid listing parameters with HTTP 400")
+    void testListAccounts_InvalidParameters_Returns400() throws Exception {
+        mockMvc.perform(get("/api/v1/accounts").param("cursor", "not-a-cursor"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.detail").value("Invalid cursor"));
+        mockMvc.perform(get("/api/v1/accounts").param("fields", "password"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/accounts").param("status", "APPROVED"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/accounts").param("limit", "101"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should change only the patched fields of a draft")
+    void testPatchDraft_MergePatch_ChangesOnlyPatchedFields() throws Exception {
+        String requestId = saveDraft();
+
+        mockMvc.perform(patch("/api/v1/accounts/{requestId}", requestId)
+                .contentType("application/merge-patch+json")
+                .content("{\"email\":\"priya@example.com\",\"address\":{\"houseNumber\":\"47\"}}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("DRAFT"))
+            .andExpect(jsonPath("$.email").value("priya@example.com"))
+            .andExpect(jsonPath("$.name").value("Haripriya"))
+            .andExpect(jsonPath("$.address.houseNumber").value("47"))
+            .andExpect(jsonPath("$.address.streetName").value("Keizersgracht"));
+
+        mockMvc.perform(patch("/api/v1/accounts/{requestId}", requestId)
+                .contentType("application/merge-patch+json")
+                .content("{\"email\":null}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.email", nullValue()))
+            .andExpect(jsonPath("$.address.houseNumber").value("47"));
+    }
+
+    @Test
+    @DisplayName("Should reject a patch with invalid fields or removing a draft minimum")
+    void testPatchDraft_InvalidPatch_Returns400() throws Exception {
+        String requestId = saveDraft();
+
+        mockMvc.perform(patch("/api/v1/accounts/{requestId}", requestId)
+                .contentType("application/merge-patch+json")
+                .content("{\"email\":\"not-an-email\",\"name\":null}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.fieldErrors.email").value("Email must be valid"))
+            .andExpect(jsonPath("$.fieldErrors.name").value("Name is mandatory"));
+
+        mockMvc.perform(patch("/api/v1/accounts/{requestId}", requestId)
+                .contentType("application/merge-patch+json")
+                .content("{\"nickname\":\"Pri\"}"))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/accounts/{requestId}", requestId))
+            .andExpect(jsonPath("$.email", nullValue()))
+            .andExpect(jsonPath("$.name").value("Haripriya"));
+    }
+
+    @Test
+    @DisplayName("Should submit a draft with its latest autosaved state")
+    void testAutosave_ThenSubmit_SubmitsAutosavedState() throws Exception {
+        String requestId = saveDraft();
+
+        // Autosaves replace each other in the buffer; the submission must see the last one
+        for (String email : List.of("first@example.com", "latest@example.com")) {
+            DraftRequestDTO autosave = new DraftRequestDTO("Haripriya", LocalDate.of(1985, 8, 20),
+                    new AddressDTO("Keizersgracht", "45B", "1015 AB", "Amsterdam"),
+                    AccountType.SAVINGS, null, email, null, null);
+            mockMvc.perform(put("/api/v1/accounts/{requestId}/autosave", requestId)
+                    .contentType("application/json")
+                    .content(objectMapper.writeValueAsString(autosave)))
+                .andExpect(status().isAccepted());
+        }
+
+        mockMvc.perform(multipart("/api/v1/accounts/register")
+                .file(createMockFile())
+                .part(new MockPart("request", objectMapper.writeValueAsString(createValidAccountRequest()).getBytes()))
+                .param("requestId", requestId)
+                .contentType("multipart/form-data"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("SUBMITTED"))
+            .andExpect(jsonPath("$.email").value("latest@example.com"))
+            .andExpect(jsonPath("$.address.streetName").value("Main Street"));
+    }
+
+    @Test
+    @DisplayName("Should reject an autosave for an unknown draft with HTTP 404")
+    void testAutosave_UnknownDraft_Returns404() throws Exception {
+        mockMvc.perform(put("/api/v1/accounts/{requestId}/autosave", "NONEXISTENT")
+                .contentType("application/json")
+                .content(objectMapper.writeValueAsString(createValidDraftRequest())))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should negotiate CBOR for internal callers and keep JSON as default")
+    void testGetByRequestId_AcceptCbor_ReturnsCbor() throws Exception {
+        String requestId = saveDraft();
+        ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+
+        mockMvc.perform(put("/api/v1/accounts/{requestId}/autosave", requestId)
+                .contentType(MediaType.APPLICATION_CBOR)
+                .content(cborMapper.writeValueAsBytes(createValidDraftRequest())))
+            .andExpect(status().isAccepted());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/accounts/{requestId}", requestId)
+                .accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn();
+        JsonNode account = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(requestId, account.get("requestId").asText());
+        assertEquals("20-08-1985", account.get("dateOfBirth").asText());
+        assertEquals("DRAFT", account.get("status").asText());
+
+        mockMvc.perform(get("/api/v1/accounts/{requestId}", requestId).accept(MediaType.ALL))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.requestId").value(requestId));
+    }
+
+    private String saveDraft() throws Exception {
+        MvcResult result = mockMvc.perform(multipart("/api/v1/accounts/draft")
+                .part(new MockPart("request", objectMapper.writeValueAsString(createValidDraftRequest()).getBytes()))
+                .contentType("multipart/form-data"))
+            .andExpect(status().isCreated())
+            .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("requestId").asText();
+    }
+}
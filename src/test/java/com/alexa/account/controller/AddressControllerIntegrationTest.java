@@ -0,0 +1,56 @@
+package com.alexa.account.controller;
+
+import com.alexa.account.BaseIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("AddressController Integration Tests")
+class AddressControllerIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should return an empty, cacheable list when no reference file is configured")
+    void testSuggest_NoReferenceFile_ReturnsEmptyList() throws Exception {
+        mockMvc.perform(get("/api/v1/address/suggest")
+                        .param("field", "city")
+                        .param("prefix", "ams"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Cache-Control", containsString("max-age=3600")))
+            .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an unsupported field")
+    void testSuggest_UnsupportedField_Returns400() throws Exception {
+        mockMvc.perform(get("/api/v1/address/suggest")
+                        .param("field", "postCode")
+                        .param("prefix", "10"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.detail", is("Unknown field: postCode. Supported fields: city, streetName")));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the field is missing")
+    void testSuggest_MissingField_Returns400() throws Exception {
+        mockMvc.perform(get("/api/v1/address/suggest").param("prefix", "ams"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a limit out of range")
+    void testSuggest_InvalidLimit_Returns400() throws Exception {
+        mockMvc.perform(get("/api/v1/address/suggest")
+                        .param("field", "city")
+                        .param("prefix", "ams")
+                        .param("limit", "50"))
+            .andExpect(status().isBadRequest());
+    }
+}
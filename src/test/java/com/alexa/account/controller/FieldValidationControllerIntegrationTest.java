@@ -1,6 +1,7 @@
 package com.alexa.account.controller;
 
 import com.alexa.account.BaseIntegrationTest;
+import com.alexa.account.dto.AddressDTO;
 import com.alexa.account.dto.FieldValidationRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -144,5 +145,15 @@ class FieldValidationControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.message", containsString("DD-MM-YYYY")));
     }
 
-}
+    @Test
+    @DisplayName("Should validate address endpoint with HTTP 200")
+    void testValidateAddress_ValidInput_Returns200() throws Exception {
+        AddressDTO address = new AddressDTO("Main Street", "123", "1234 AB", "Amsterdam");
 
+        mockMvc.perform(post("/api/v1/validation/address")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(address)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.valid").value(true));
+    }
+}
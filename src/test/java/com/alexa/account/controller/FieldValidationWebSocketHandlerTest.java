@@ -0,0 +1,153 @@
+package com.alexa.account.controller;
+
+import com.alexa.account.dto.FieldValidationRequest;
+import com.alexa.account.dto.FieldValidationUpdate;
+import com.alexa.account.service.AddressIndexService;
+import com.alexa.account.service.FieldValidationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("FieldValidationWebSocketHandler Tests")
+@ExtendWith(MockitoExtension.class)
+class FieldValidationWebSocketHandlerTest {
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private WebSocketSession session;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private FieldValidationWebSocketHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new FieldValidationWebSocketHandler(new FieldValidationService(new AddressIndexService("")),
+                objectMapper, taskScheduler, Duration.ofMillis(150));
+        lenient().when(session.getId()).thenReturn("session-1");
+        lenient().when(session.isOpen()).thenReturn(true);
+        handler.afterConnectionEstablished(session);
+    }
+
+    @Test
+    @DisplayName("Should coalesce rapid updates for a field and validate only the latest value")
+    void testRapidUpdates_SameField_OnlyLatestValidated() throws Exception {
+        handler.handleTextMessage(session, message("postCode", "1"));
+        handler.handleTextMessage(session, message("postCode", "1234"));
+        handler.handleTextMessage(session, message("postCode", "1234 AB"));
+
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+        verify(session, never()).sendMessage(any());
+
+        runScheduledFlush();
+
+        List<FieldValidationUpdate> updates = sentUpdates(1);
+        assertEquals("postCode", updates.get(0).fieldName());
+        assertEquals("1234 AB", updates.get(0).fieldValue());
+        assertTrue(updates.get(0).result().valid());
+    }
+
+    @Test
+    @DisplayName("Should send one result per updated field")
+    void testUpdates_DifferentFields_OneResultEach() throws Exception {
+        handler.handleTextMessage(session, message("postCode", "1234"));
+        handler.handleTextMessage(session, message("houseNumber", "12"));
+        handler.handleTextMessage(session, message("HOUSENUMBER", "0"));
+
+        runScheduledFlush();
+
+        List<FieldValidationUpdate> updates = sentUpdates(2);
+        FieldValidationUpdate postCode = updates.stream().filter(u -> u.fieldName().equals("postCode")).findFirst().orElseThrow();
+        FieldValidationUpdate houseNumber = updates.stream().filter(u -> u.fieldName().equals("houseNumber")).findFirst().orElseThrow();
+        assertFalse(postCode.result().valid());
+        assertEquals("0", houseNumber.fieldValue());
+        assertFalse(houseNumber.result().valid());
+    }
+
+    @Test
+    @DisplayName("Should schedule a new flush for updates after the previous flush")
+    void testUpdateAfterFlush_SchedulesAgain() throws Exception {
+        handler.handleTextMessage(session, message("city", "Amsterdam"));
+        runScheduledFlush();
+        handler.handleTextMessage(session, message("city", ""));
+
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Should answer unknown fields immediately")
+    void testUnknownField_AnsweredImmediately() throws Exception {
+        handler.handleTextMessage(session, message("nickname", "Pri"));
+
+        verifyNoInteractions(taskScheduler);
+        FieldValidationUpdate update = sentUpdates(1).get(0);
+        assertEquals("nickname", update.fieldName());
+        assertEquals("Unknown field: nickname", update.result().message());
+    }
+
+    @Test
+    @DisplayName("Should answer malformed messages with an error result")
+    void testMalformedMessage_ReturnsError() throws Exception {
+        handler.handleTextMessage(session, new TextMessage("not json"));
+
+        FieldValidationUpdate update = sentUpdates(1).get(0);
+        assertNull(update.fieldName());
+        assertFalse(update.result().valid());
+    }
+
+    @Test
+    @DisplayName("Should drop pending updates when the session is closed")
+    void testSessionClosed_PendingDropped() throws Exception {
+        handler.handleTextMessage(session, message("postCode", "1234 AB"));
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        runScheduledFlush();
+
+        verify(session, never()).sendMessage(any());
+        assertEquals(0, handler.activeSessions());
+    }
+
+    private TextMessage message(String fieldName, String fieldValue) throws Exception {
+        return new TextMessage(objectMapper.writeValueAsString(
+                new FieldValidationRequest(fieldName, fieldValue)));
+    }
+
+    private void runScheduledFlush() {
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, atLeastOnce()).schedule(flush.capture(), any(Instant.class));
+        flush.getValue().run();
+    }
+
+    private List<FieldValidationUpdate> sentUpdates(int expected) throws Exception {
+        ArgumentCaptor<TextMessage> sent = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, times(expected)).sendMessage(sent.capture());
+        return sent.getAllValues().stream()
+                .map(message -> {
+                    try {
+                        return objectMapper.readValue(message.getPayload(), FieldValidationUpdate.class);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,84 @@
+package com.alexa.account.controller;
+
+import com.alexa.account.BaseIntegrationTest;
+import com.alexa.account.dto.FieldValidationUpdate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Field Validation WebSocket Integration Tests")
+class FieldValidationWebSocketIntegrationTest extends BaseIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    private WebSocketSession session;
+
+    @BeforeEach
+    void connect() throws Exception {
+        TextWebSocketHandler client = new TextWebSocketHandler() {
+            @Override
+            protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+                received.add(message.getPayload());
+            }
+        };
+        session = new StandardWebSocketClient()
+                .execute(client, "ws://localhost:" + port + "/ws/v1/validation")
+                .get(5, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void disconnect() throws Exception {
+        session.close();
+    }
+
+    @Test
+    @DisplayName("Should push the validation result of the latest value of a field")
+    void testLiveValidation_ReturnsLatestResult() throws Exception {
+        session.sendMessage(new TextMessage("{\"fieldName\":\"postCode\",\"fieldValue\":\"1234\"}"));
+        session.sendMessage(new TextMessage("{\"fieldName\":\"postCode\",\"fieldValue\":\"1234 AB\"}"));
+
+        // Intermediate values may or may not be coalesced depending on timing, the latest always arrives
+        FieldValidationUpdate update;
+        do {
+            String payload = received.poll(5, TimeUnit.SECONDS);
+            assertNotNull(payload, "No validation result received");
+            update = objectMapper.readValue(payload, FieldValidationUpdate.class);
+        } while (!"1234 AB".equals(update.fieldValue()));
+
+        assertEquals("postCode", update.fieldName());
+        assertTrue(update.result().valid());
+        assertEquals("Valid", update.result().message());
+    }
+
+    @Test
+    @DisplayName("Should push an invalid result with the rule message")
+    void testLiveValidation_InvalidValue() throws Exception {
+        session.sendMessage(new TextMessage("{\"fieldName\":\"dateOfBirth\",\"fieldValue\":\"1990-05-15\"}"));
+
+        String payload = received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(payload, "No validation result received");
+        FieldValidationUpdate update = objectMapper.readValue(payload, FieldValidationUpdate.class);
+        assertEquals("dateOfBirth", update.fieldName());
+        assertFalse(update.result().valid());
+        assertEquals("Invalid date format. Use DD-MM-YYYY (e.g., 15-05-1990)", update.result().message());
+    }
+}
@@ -61,5 +61,15 @@ class HealthControllerIntegrationTest extends BaseIntegrationTest {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.status").value("UP"));
     }
-}
 
+    @Test
+    @DisplayName("Should expose liveness and readiness probes")
+    void testProbes_ReturnUp() throws Exception {
+        mockMvc.perform(get("/actuator/health/liveness"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("UP"));
+        mockMvc.perform(get("/actuator/health/readiness"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("UP"));
+    }
+}
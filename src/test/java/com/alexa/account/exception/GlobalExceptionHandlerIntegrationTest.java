@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.mock.web.MockPart;
 import org.springframework.test.web.servlet.MockMvc;
@@ -35,9 +36,8 @@ class GlobalExceptionHandlerIntegrationTest extends BaseIntegrationTest {
         mockMvc.perform(get("/api/v1/accounts/NONEXISTENT"))
             .andExpect(status().isNotFound())
             .andExpect(jsonPath("$.status").value(404))
-            .andExpect(jsonPath("$.error").value("Not Found"))
-            .andExpect(jsonPath("$.message", notNullValue()))
-            .andExpect(jsonPath("$.timestamp", notNullValue()));
+            .andExpect(jsonPath("$.title").value("Not Found"))
+            .andExpect(jsonPath("$.detail", notNullValue()));
     }
 
     @Test
@@ -67,7 +67,7 @@ class GlobalExceptionHandlerIntegrationTest extends BaseIntegrationTest {
                 .part(new MockPart("request", objectMapper.writeValueAsString(invalidDTO).getBytes())))
             .andExpect(status().isBadRequest())
             .andExpect(jsonPath("$.status").value(400))
-            .andExpect(jsonPath("$.error").value("Validation Failed"))
+            .andExpect(jsonPath("$.title").value("Validation Failed"))
             .andExpect(jsonPath("$.fieldErrors", notNullValue()));
     }
 
@@ -78,33 +78,35 @@ class GlobalExceptionHandlerIntegrationTest extends BaseIntegrationTest {
         mockMvc.perform(get("/api/v1/accounts/NONEXISTENT"))
             .andExpect(status().isNotFound())
             .andExpect(jsonPath("$.status").value(404))
-            .andExpect(jsonPath("$.error").value("Not Found"));
+            .andExpect(jsonPath("$.title").value("Not Found"));
     }
 
     @Test
-    @DisplayName("Should include timestamp in error response")
-    void testErrorResponse_IncludesTimestamp() throws Exception {
+    @DisplayName("Should return errors as RFC 7807 problem details")
+    void testErrorResponse_IsProblemDetail() throws Exception {
         mockMvc.perform(get("/api/v1/accounts/INVALID"))
             .andExpect(status().isNotFound())
-            .andExpect(jsonPath("$.timestamp", notNullValue()));
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+            .andExpect(jsonPath("$.type", is("about:blank")))
+            .andExpect(jsonPath("$.instance", is("/api/v1/accounts/INVALID")));
     }
 
     @Test
-    @DisplayName("Should include error type in error response")
-    void testErrorResponse_IncludesErrorType() throws Exception {
+    @DisplayName("Should include title in error response")
+    void testErrorResponse_IncludesTitle() throws Exception {
         mockMvc.perform(get("/api/v1/accounts/INVALID"))
             .andExpect(status().isNotFound())
-            .andExpect(jsonPath("$.error", notNullValue()))
-            .andExpect(jsonPath("$.error", not(emptyString())));
+            .andExpect(jsonPath("$.title", notNullValue()))
+            .andExpect(jsonPath("$.title", not(emptyString())));
     }
 
     @Test
-    @DisplayName("Should include message in error response")
-    void testErrorResponse_IncludesMessage() throws Exception {
+    @DisplayName("Should include detail in error response")
+    void testErrorResponse_IncludesDetail() throws Exception {
         mockMvc.perform(get("/api/v1/accounts/INVALID"))
             .andExpect(status().isNotFound())
-            .andExpect(jsonPath("$.message", notNullValue()))
-            .andExpect(jsonPath("$.message", not(emptyString())));
+            .andExpect(jsonPath("$.detail", notNullValue()))
+            .andExpect(jsonPath("$.detail", not(emptyString())));
     }
 
     @Test
@@ -191,11 +193,10 @@ class GlobalExceptionHandlerIntegrationTest extends BaseIntegrationTest {
         mockMvc.perform(get("/api/v1/accounts/NONEXISTENT-ID-12345"))
             .andExpect(status().isNotFound())
             .andExpect(jsonPath("$", notNullValue()))
-            .andExpect(jsonPath("$.timestamp", notNullValue()))
             .andExpect(jsonPath("$.status", is(404)))
-            .andExpect(jsonPath("$.error", is("Not Found")))
-            .andExpect(jsonPath("$.message", notNullValue()))
-            .andExpect(jsonPath("$.message", containsString("not found")));
+            .andExpect(jsonPath("$.title", is("Not Found")))
+            .andExpect(jsonPath("$.detail", notNullValue()))
+            .andExpect(jsonPath("$.detail", containsString("not found")));
     }
 
     @Test
@@ -224,9 +225,8 @@ class GlobalExceptionHandlerIntegrationTest extends BaseIntegrationTest {
                 .part(new MockPart("request", objectMapper.writeValueAsString(invalidDTO).getBytes())))
             .andExpect(status().isBadRequest())
             .andExpect(jsonPath("$", notNullValue()))
-            .andExpect(jsonPath("$.timestamp", notNullValue()))
             .andExpect(jsonPath("$.status", is(400)))
-            .andExpect(jsonPath("$.error", is("Validation Failed")))
+            .andExpect(jsonPath("$.title", is("Validation Failed")))
             .andExpect(jsonPath("$.fieldErrors", notNullValue()))
             .andExpect(jsonPath("$.fieldErrors", isA(Map.class)));
     }
@@ -316,12 +316,12 @@ class GlobalExceptionHandlerIntegrationTest extends BaseIntegrationTest {
     }
 
     @Test
-    @DisplayName("Should include timestamp in all error responses")
-    void testErrorResponses_AlwaysIncludeTimestamp() throws Exception {
+    @DisplayName("Should return problem details for all error responses")
+    void testErrorResponses_AlwaysProblemDetail() throws Exception {
         // Test with ResourceNotFoundException
         mockMvc.perform(get("/api/v1/accounts/INVALID"))
             .andExpect(status().isNotFound())
-            .andExpect(jsonPath("$.timestamp", notNullValue()));
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON));
 
         // Test with ValidationException
         AccountRequestDTO invalidDTO = new AccountRequestDTO(
@@ -346,7 +346,7 @@ class GlobalExceptionHandlerIntegrationTest extends BaseIntegrationTest {
                 .file(idDocument)
                 .part(new MockPart("request", objectMapper.writeValueAsString(invalidDTO).getBytes())))
             .andExpect(status().isBadRequest())
-            .andExpect(jsonPath("$.timestamp", notNullValue()));
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON));
     }
 
     @Test
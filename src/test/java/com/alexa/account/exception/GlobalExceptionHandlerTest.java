@@ -1,17 +1,23 @@
 package com.alexa.account.exception;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -19,11 +25,14 @@ import static org.mockito.Mockito.*;
 @DisplayName("GlobalExceptionHandler Unit Tests")
 class GlobalExceptionHandlerTest {
 
+    private SimpleMeterRegistry meterRegistry;
+
     private GlobalExceptionHandler handler;
 
     @BeforeEach
     void setUp() {
-        handler = new GlobalExceptionHandler();
+        meterRegistry = new SimpleMeterRegistry();
+        handler = new GlobalExceptionHandler(meterRegistry);
     }
 
     @Test
@@ -34,16 +43,15 @@ class GlobalExceptionHandlerTest {
         ResourceNotFoundException exception = new ResourceNotFoundException(errorMessage);
 
         // Act
-        ResponseEntity<Map<String, Object>> response = handler.handleResourceNotFoundException(exception);
+        ResponseEntity<ProblemDetail> response = handler.handleResourceNotFoundException(exception);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals(404, response.getBody().get("status"));
-        assertEquals("Not Found", response.getBody().get("error"));
-        assertEquals(errorMessage, response.getBody().get("message"));
-        assertNotNull(response.getBody().get("timestamp"));
+        assertEquals(404, response.getBody().getStatus());
+        assertEquals("Not Found", response.getBody().getTitle());
+        assertEquals(errorMessage, response.getBody().getDetail());
     }
 
     @Test
@@ -54,16 +62,15 @@ class GlobalExceptionHandlerTest {
         InvalidRequestException exception = new InvalidRequestException(errorMessage);
 
         // Act
-        ResponseEntity<Map<String, Object>> response = handler.handleInvalidRequestException(exception);
+        ResponseEntity<ProblemDetail> response = handler.handleInvalidRequestException(exception);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals(400, response.getBody().get("status"));
-        assertEquals("Bad Request", response.getBody().get("error"));
-        assertEquals(errorMessage, response.getBody().get("message"));
-        assertNotNull(response.getBody().get("timestamp"));
+        assertEquals(400, response.getBody().getStatus());
+        assertEquals("Bad Request", response.getBody().getTitle());
+        assertEquals(errorMessage, response.getBody().getDetail());
     }
 
     @Test
@@ -74,16 +81,15 @@ class GlobalExceptionHandlerTest {
         Exception exception = new Exception(errorMessage);
 
         // Act
-        ResponseEntity<Map<String, Object>> response = handler.handleGenericException(exception);
+        ResponseEntity<ProblemDetail> response = handler.handleGenericException(exception);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals(500, response.getBody().get("status"));
-        assertEquals("Internal Server Error", response.getBody().get("error"));
-        assertEquals(errorMessage, response.getBody().get("message"));
-        assertNotNull(response.getBody().get("timestamp"));
+        assertEquals(500, response.getBody().getStatus());
+        assertEquals("Internal Server Error", response.getBody().getTitle());
+        assertEquals(errorMessage, response.getBody().getDetail());
     }
 
     @Test
@@ -102,19 +108,18 @@ class GlobalExceptionHandlerTest {
         when(bindingResult.getFieldErrors()).thenReturn(fieldErrors);
 
         // Act
-        ResponseEntity<Map<String, Object>> response = handler.handleValidationExceptions(exception);
+        ResponseEntity<ProblemDetail> response = handler.handleValidationExceptions(exception);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals(400, response.getBody().get("status"));
-        assertEquals("Validation Failed", response.getBody().get("error"));
-        assertNotNull(response.getBody().get("timestamp"));
-        assertNotNull(response.getBody().get("fieldErrors"));
+        assertEquals(400, response.getBody().getStatus());
+        assertEquals("Validation Failed", response.getBody().getTitle());
+        assertNotNull(response.getBody().getProperties().get("fieldErrors"));
 
         @SuppressWarnings("unchecked")
-        Map<String, String> errors = (Map<String, String>) response.getBody().get("fieldErrors");
+        Map<String, String> errors = (Map<String, String>) response.getBody().getProperties().get("fieldErrors");
         assertEquals(2, errors.size());
         assertEquals("Name is mandatory", errors.get("name"));
         assertEquals("Date of birth is mandatory", errors.get("dateOfBirth"));
@@ -134,14 +139,14 @@ class GlobalExceptionHandlerTest {
         when(bindingResult.getFieldErrors()).thenReturn(fieldErrors);
 
         // Act
-        ResponseEntity<Map<String, Object>> response = handler.handleValidationExceptions(exception);
+        ResponseEntity<ProblemDetail> response = handler.handleValidationExceptions(exception);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
 
         @SuppressWarnings("unchecked")
-        Map<String, String> errors = (Map<String, String>) response.getBody().get("fieldErrors");
+        Map<String, String> errors = (Map<String, String>) response.getBody().getProperties().get("fieldErrors");
         assertEquals(1, errors.size());
         assertEquals("Email must be valid", errors.get("email"));
     }
@@ -157,14 +162,14 @@ class GlobalExceptionHandlerTest {
         when(bindingResult.getFieldErrors()).thenReturn(Arrays.asList());
 
         // Act
-        ResponseEntity<Map<String, Object>> response = handler.handleValidationExceptions(exception);
+        ResponseEntity<ProblemDetail> response = handler.handleValidationExceptions(exception);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
 
         @SuppressWarnings("unchecked")
-        Map<String, String> errors = (Map<String, String>) response.getBody().get("fieldErrors");
+        Map<String, String> errors = (Map<String, String>) response.getBody().getProperties().get("fieldErrors");
         assertTrue(errors.isEmpty());
     }
 
@@ -184,12 +189,12 @@ class GlobalExceptionHandlerTest {
         when(bindingResult.getFieldErrors()).thenReturn(fieldErrors);
 
         // Act
-        ResponseEntity<Map<String, Object>> response = handler.handleValidationExceptions(exception);
+        ResponseEntity<ProblemDetail> response = handler.handleValidationExceptions(exception);
 
         // Assert
         assertNotNull(response);
         @SuppressWarnings("unchecked")
-        Map<String, String> errors = (Map<String, String>) response.getBody().get("fieldErrors");
+        Map<String, String> errors = (Map<String, String>) response.getBody().getProperties().get("fieldErrors");
         assertEquals(1, errors.size());
         assertTrue(errors.containsKey("email"));
     }
@@ -201,16 +206,15 @@ class GlobalExceptionHandlerTest {
         ResourceNotFoundException exception = new ResourceNotFoundException("Resource not found");
 
         // Act
-        ResponseEntity<Map<String, Object>> response = handler.handleResourceNotFoundException(exception);
+        ResponseEntity<ProblemDetail> response = handler.handleResourceNotFoundException(exception);
 
         // Assert
-        Map<String, Object> body = response.getBody();
+        ProblemDetail body = response.getBody();
         assertNotNull(body);
-        assertTrue(body.containsKey("timestamp"));
-        assertTrue(body.containsKey("status"));
-        assertTrue(body.containsKey("error"));
-        assertTrue(body.containsKey("message"));
-        assertEquals(4, body.size());
+        assertNotNull(body.getTitle());
+        assertNotNull(body.getDetail());
+        assertEquals(response.getStatusCode().value(), body.getStatus());
+        assertNull(body.getProperties());
     }
 
     @Test
@@ -220,16 +224,15 @@ class GlobalExceptionHandlerTest {
         InvalidRequestException exception = new InvalidRequestException("Invalid request");
 
         // Act
-        ResponseEntity<Map<String, Object>> response = handler.handleInvalidRequestException(exception);
+        ResponseEntity<ProblemDetail> response = handler.handleInvalidRequestException(exception);
 
         // Assert
-        Map<String, Object> body = response.getBody();
+        ProblemDetail body = response.getBody();
         assertNotNull(body);
-        assertTrue(body.containsKey("timestamp"));
-        assertTrue(body.containsKey("status"));
-        assertTrue(body.containsKey("error"));
-        assertTrue(body.containsKey("message"));
-        assertEquals(4, body.size());
+        assertNotNull(body.getTitle());
+        assertNotNull(body.getDetail());
+        assertEquals(response.getStatusCode().value(), body.getStatus());
+        assertNull(body.getProperties());
     }
 
     @Test
@@ -239,16 +242,15 @@ class GlobalExceptionHandlerTest {
         Exception exception = new Exception("Generic error");
 
         // Act
-        ResponseEntity<Map<String, Object>> response = handler.handleGenericException(exception);
+        ResponseEntity<ProblemDetail> response = handler.handleGenericException(exception);
 
         // Assert
-        Map<String, Object> body = response.getBody();
+        ProblemDetail body = response.getBody();
         assertNotNull(body);
-        assertTrue(body.containsKey("timestamp"));
-        assertTrue(body.containsKey("status"));
-        assertTrue(body.containsKey("error"));
-        assertTrue(body.containsKey("message"));
-        assertEquals(4, body.size());
+        assertNotNull(body.getTitle());
+        assertNotNull(body.getDetail());
+        assertEquals(response.getStatusCode().value(), body.getStatus());
+        assertNull(body.getProperties());
     }
 
     @Test
@@ -262,16 +264,15 @@ class GlobalExceptionHandlerTest {
         when(bindingResult.getFieldErrors()).thenReturn(Arrays.asList());
 
         // Act
-        ResponseEntity<Map<String, Object>> response = handler.handleValidationExceptions(exception);
+        ResponseEntity<ProblemDetail> response = handler.handleValidationExceptions(exception);
 
         // Assert
-        Map<String, Object> body = response.getBody();
+        ProblemDetail body = response.getBody();
         assertNotNull(body);
-        assertTrue(body.containsKey("timestamp"));
-        assertTrue(body.containsKey("status"));
-        assertTrue(body.containsKey("error"));
-        assertTrue(body.containsKey("fieldErrors"));
-        assertEquals(4, body.size());
+        assertEquals(400, body.getStatus());
+        assertEquals("Validation Failed", body.getTitle());
+        assertNull(body.getDetail());
+        assertEquals(Set.of("fieldErrors"), body.getProperties().keySet());
     }
 
     @Test
@@ -281,12 +282,12 @@ class GlobalExceptionHandlerTest {
         RuntimeException exception = new RuntimeException("Runtime error");
 
         // Act
-        ResponseEntity<Map<String, Object>> response = handler.handleGenericException(exception);
+        ResponseEntity<ProblemDetail> response = handler.handleGenericException(exception);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-        assertEquals("Runtime error", response.getBody().get("message"));
+        assertEquals("Runtime error", response.getBody().getDetail());
     }
 
     @Test
@@ -296,12 +297,12 @@ class GlobalExceptionHandlerTest {
         NullPointerException exception = new NullPointerException("Null pointer");
 
         // Act
-        ResponseEntity<Map<String, Object>> response = handler.handleGenericException(exception);
+        ResponseEntity<ProblemDetail> response = handler.handleGenericException(exception);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-        assertEquals(500, response.getBody().get("status"));
+        assertEquals(500, response.getBody().getStatus());
     }
 
     @Test
@@ -311,12 +312,12 @@ class GlobalExceptionHandlerTest {
         Exception exception = new Exception((String) null);
 
         // Act
-        ResponseEntity<Map<String, Object>> response = handler.handleGenericException(exception);
+        ResponseEntity<ProblemDetail> response = handler.handleGenericException(exception);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-        assertNull(response.getBody().get("message"));
+        assertNull(response.getBody().getDetail());
     }
 
     @Test
@@ -326,12 +327,12 @@ class GlobalExceptionHandlerTest {
         ResourceNotFoundException exception = new ResourceNotFoundException("");
 
         // Act
-        ResponseEntity<Map<String, Object>> response = handler.handleResourceNotFoundException(exception);
+        ResponseEntity<ProblemDetail> response = handler.handleResourceNotFoundException(exception);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-        assertEquals("", response.getBody().get("message"));
+        assertEquals("", response.getBody().getDetail());
     }
 
     @Test
@@ -342,11 +343,119 @@ class GlobalExceptionHandlerTest {
         InvalidRequestException exception = new InvalidRequestException(specialMessage);
 
         // Act
-        ResponseEntity<Map<String, Object>> response = handler.handleInvalidRequestException(exception);
+        ResponseEntity<ProblemDetail> response = handler.handleInvalidRequestException(exception);
 
         // Assert
         assertNotNull(response);
-        assertEquals(specialMessage, response.getBody().get("message"));
+        assertEquals(specialMessage, response.getBody().getDetail());
     }
-}
 
+    @Test
+    @DisplayName("Should handle MethodArgumentTypeMismatchException with 400 status")
+    void testHandleTypeMismatchException_Returns400() {
+        // Arrange
+        MethodArgumentTypeMismatchException exception = mock(MethodArgumentTypeMismatchException.class);
+        when(exception.getValue()).thenReturn("APPROVED");
+        when(exception.getName()).thenReturn("status");
+
+        // Act
+        ResponseEntity<ProblemDetail> response = handler.handleTypeMismatchException(exception);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(400, response.getBody().getStatus());
+        assertEquals("Invalid value 'APPROVED' for parameter status", response.getBody().getDetail());
+    }
+
+    @Test
+    @DisplayName("Should handle InvalidFieldsException like a failed request body validation")
+    void testHandleInvalidFieldsException_Returns400WithFieldErrors() {
+        // Arrange
+        InvalidFieldsException exception = new InvalidFieldsException(Map.of("email", "Email must be valid"));
+
+        // Act
+        ResponseEntity<ProblemDetail> response = handler.handleInvalidFieldsException(exception);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Validation Failed", response.getBody().getTitle());
+        assertEquals(Map.of("email", "Email must be valid"), response.getBody().getProperties().get("fieldErrors"));
+    }
+
+    @Test
+    @DisplayName("Should handle an unreadable request body with 400 status")
+    void testHandleMessageNotReadableException_Returns400() {
+        // Arrange
+        HttpMessageNotReadableException exception = mock(HttpMessageNotReadableException.class);
+
+        // Act
+        ResponseEntity<ProblemDetail> response = handler.handleMessageNotReadableException(exception);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Malformed request body", response.getBody().getDetail());
+    }
+
+    @Test
+    @DisplayName("Should count error responses per error type")
+    void testHandle_CountsErrorsPerType() {
+        // Act
+        handler.handleResourceNotFoundException(new ResourceNotFoundException("Account request not found"));
+        handler.handleResourceNotFoundException(new ResourceNotFoundException("Account request not found"));
+        handler.handleInvalidRequestException(new InvalidRequestException("ID document is mandatory"));
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get("api.errors").tag("type", "not_found").counter().count());
+        assertEquals(1.0, meterRegistry.get("api.errors").tag("type", "bad_request").counter().count());
+        assertEquals(0.0, meterRegistry.get("api.errors").tag("type", "internal_error").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should return a new problem body for every error")
+    void testHandle_ReturnsNewProblemPerResponse() {
+        // Act
+        ProblemDetail first = handler.handleResourceNotFoundException(new ResourceNotFoundException("first")).getBody();
+        ProblemDetail second = handler.handleResourceNotFoundException(new ResourceNotFoundException("second")).getBody();
+
+        // Assert
+        assertNotSame(first, second);
+        assertEquals("first", first.getDetail());
+        assertEquals("second", second.getDetail());
+    }
+
+    @Test
+    @DisplayName("Should handle ConflictException with 409 and UnprocessableRequestException with 422")
+    void testHandleConflictAndUnprocessable_Returns409And422() {
+        ResponseEntity<ProblemDetail> conflict = handler.handleConflictException(
+                new ConflictException("A request with this Idempotency-Key is still being processed"));
+        ResponseEntity<ProblemDetail> unprocessable = handler.handleUnprocessableRequestException(
+                new UnprocessableRequestException("Idempotency-Key has already been used for a different request"));
+
+        assertEquals(HttpStatus.CONFLICT, conflict.getStatusCode());
+        assertEquals("Conflict", conflict.getBody().getTitle());
+        assertEquals("A request with this Idempotency-Key is still being processed", conflict.getBody().getDetail());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, unprocessable.getStatusCode());
+        assertEquals("Unprocessable Entity", unprocessable.getBody().getTitle());
+    }
+
+    @Test
+    @DisplayName("Should handle StorageException with 500 and keep its cause")
+    void testHandleStorageException_Returns500() {
+        StorageException ex = new StorageException("Failed to store file", new IOException("No space left on device"));
+
+        ResponseEntity<ProblemDetail> response = handler.handleStorageException(ex);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertEquals("Failed to store file", response.getBody().getDetail());
+        assertInstanceOf(IOException.class, ex.getCause());
+        assertTrue(ex.getStackTrace().length > 0);
+    }
+
+    @Test
+    @DisplayName("Should create domain exceptions without a stack trace")
+    void testDomainExceptions_AreStackless() {
+        assertEquals(0, new ResourceNotFoundException("Account request not found").getStackTrace().length);
+        assertEquals(0, new InvalidRequestException("ID document is mandatory").getStackTrace().length);
+        assertEquals(0, new InvalidFieldsException(Map.of("email", "Email must be valid")).getStackTrace().length);
+    }
+}
@@ -0,0 +1,94 @@
+package com.alexa.account.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AdaptiveConcurrencyLimit Tests")
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long TEN_MS = 10_000_000L;
+
+    private void saturate(AdaptiveConcurrencyLimit limit, int samples, long rttNanos) {
+        for (int i = 0; i < samples; i++) {
+            int inFlight = limit.tryAcquire();
+            limit.release(rttNanos, Math.max(inFlight, limit.getLimit()), false);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject requests once the limit is in flight")
+    void testTryAcquire_RejectsAtLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10);
+
+        assertEquals(1, limit.tryAcquire());
+        assertEquals(2, limit.tryAcquire());
+        assertEquals(0, limit.tryAcquire());
+
+        limit.release(TEN_MS, 2, false);
+        assertEquals(2, limit.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Should grow the limit while it is used and latency is stable")
+    void testStableLatency_LimitGrows() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 200);
+
+        saturate(limit, 1000, TEN_MS);
+
+        assertEquals(200, limit.getLimit());
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit when latency rises and grow again when it recovers")
+    void testRisingLatency_LimitShrinks() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 200);
+        saturate(limit, 1000, TEN_MS);
+
+        saturate(limit, 300, 4 * TEN_MS);
+        int shrunk = limit.getLimit();
+        assertTrue(shrunk < 50, "limit " + shrunk);
+
+        saturate(limit, 3000, TEN_MS);
+        assertTrue(limit.getLimit() > shrunk);
+    }
+
+    @Test
+    @DisplayName("Should not grow the limit when the service is mostly idle")
+    void testIdle_LimitUnchanged() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 200);
+
+        for (int i = 0; i < 1000; i++) {
+            limit.tryAcquire();
+            limit.release(TEN_MS, 1, false);
+        }
+
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should back off on failures, but not below the minimum")
+    void testFailures_BackOffToMinimum() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 200);
+
+        limit.tryAcquire();
+        limit.release(TEN_MS, 1, true);
+        assertEquals(18, limit.getLimit());
+
+        for (int i = 0; i < 100; i++) {
+            limit.tryAcquire();
+            limit.release(TEN_MS, 1, true);
+        }
+        assertEquals(4, limit.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should reject inconsistent limits")
+    void testInvalidLimits_Throw() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(5, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(20, 4, 10));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(2, 4, 10));
+    }
+}
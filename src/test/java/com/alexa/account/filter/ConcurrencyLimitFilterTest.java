@@ -0,0 +1,156 @@
+package com.alexa.account.filter;
+
+import com.alexa.account.config.ConcurrencyLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.Part;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConcurrencyLimitFilter Tests")
+class ConcurrencyLimitFilterTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConcurrencyLimitFilter filter(boolean enabled) throws Exception {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties(enabled, Duration.ofSeconds(2),
+                new ConcurrencyLimitProperties.Budget(1, 1, 1),
+                new ConcurrencyLimitProperties.Budget(1, 1, 1));
+        return new ConcurrencyLimitFilter(properties, objectMapper, meterRegistry);
+    }
+
+    /**
+     * Performs the outer request and, while it is in flight, the inner request.
+     *
+     * @return the response of the inner request
+     */
+    private MockHttpServletResponse performWhileInFlight(ConcurrencyLimitFilter filter,
+                                                         MockHttpServletRequest outer,
+                                                         MockHttpServletRequest inner) throws Exception {
+        AtomicReference<MockHttpServletResponse> innerResponse = new AtomicReference<>();
+        FilterChain chain = (request, response) -> {
+            MockHttpServletResponse response2 = new MockHttpServletResponse();
+            filter.doFilter(inner, response2, new MockFilterChain());
+            innerResponse.set(response2);
+        };
+        filter.doFilter(outer, new MockHttpServletResponse(), chain);
+        return innerResponse.get();
+    }
+
+    @Test
+    @DisplayName("Should shed writes beyond the limit with 503 and Retry-After")
+    void testWriteLimitReached_Returns503() throws Exception {
+        ConcurrencyLimitFilter filter = filter(true);
+
+        MockHttpServletResponse shed = performWhileInFlight(filter,
+                new MockHttpServletRequest("POST", "/api/v1/accounts/register"),
+                new MockHttpServletRequest("POST", "/api/v1/accounts/draft"));
+
+        assertEquals(503, shed.getStatus());
+        assertEquals("2", shed.getHeader("Retry-After"));
+        Map<?, ?> body = objectMapper.readValue(shed.getContentAsString(), Map.class);
+        assertEquals(503, body.get("status"));
+        assertEquals("Service Unavailable", body.get("title"));
+        assertEquals("Server is busy. Retry after 2 seconds", body.get("detail"));
+        assertEquals(1.0, meterRegistry.get("api.errors").tag("type", "overloaded").counter().count());
+        assertEquals(0, filter.getWriteLimit().getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should keep reads and validation in a separate budget from writes")
+    void testWritesSaturated_ReadsAllowed() throws Exception {
+        ConcurrencyLimitFilter filter = filter(true);
+
+        MockHttpServletResponse read = performWhileInFlight(filter,
+                new MockHttpServletRequest("PUT", "/api/v1/accounts/AB2K-0590"),
+                new MockHttpServletRequest("GET", "/api/v1/accounts/AB2K-0590"));
+        MockHttpServletResponse validation = performWhileInFlight(filter,
+                new MockHttpServletRequest("POST", "/api/v1/accounts/register"),
+                new MockHttpServletRequest("POST", "/api/v1/validation/postCode"));
+
+        assertEquals(200, read.getStatus());
+        assertEquals(200, validation.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should shed reads beyond the read limit")
+    void testReadLimitReached_Returns503() throws Exception {
+        ConcurrencyLimitFilter filter = filter(true);
+
+        MockHttpServletResponse shed = performWhileInFlight(filter,
+                new MockHttpServletRequest("GET", "/api/v1/accounts/AB2K-0590"),
+                new MockHttpServletRequest("POST", "/api/v1/validation/name"));
+
+        assertEquals(503, shed.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should never shed health checks")
+    void testHealth_NotLimited() throws Exception {
+        ConcurrencyLimitFilter filter = filter(true);
+
+        MockHttpServletResponse health = performWhileInFlight(filter,
+                new MockHttpServletRequest("GET", "/api/v1/account-types"),
+                new MockHttpServletRequest("GET", "/api/v1/health"));
+
+        assertEquals(200, health.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should not shed anything when disabled")
+    void testDisabled_NotLimited() throws Exception {
+        ConcurrencyLimitFilter filter = filter(false);
+
+        MockHttpServletResponse response = performWhileInFlight(filter,
+                new MockHttpServletRequest("POST", "/api/v1/accounts/register"),
+                new MockHttpServletRequest("POST", "/api/v1/accounts/register"));
+
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should leave the multipart upload time out of the write latency sample")
+    void testMultipartWrite_UploadTimeMeasuredSeparately() throws Exception {
+        ConcurrencyLimitFilter filter = filter(true);
+        MockHttpServletRequest slowUpload = new MockHttpServletRequest("POST", "/api/v1/accounts/register") {
+            @Override
+            public Collection<Part> getParts() throws IOException, ServletException {
+                long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(20);
+                while (System.nanoTime() < until) {
+                    Thread.onSpinWait();
+                }
+                return super.getParts();
+            }
+        };
+        slowUpload.setContentType("multipart/form-data; boundary=abc");
+        AtomicReference<ServletRequest> seen = new AtomicReference<>();
+
+        filter.doFilter(slowUpload, new MockHttpServletResponse(), (request, response) -> {
+            seen.set(request);
+            ((HttpServletRequest) request).getParts();
+        });
+
+        ConcurrencyLimitFilter.UploadTimedRequest timed =
+                assertInstanceOf(ConcurrencyLimitFilter.UploadTimedRequest.class, seen.get());
+        assertTrue(timed.getUploadNanos() >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertEquals(0, filter.getWriteLimit().getInFlight());
+    }
+}
@@ -0,0 +1,124 @@
+package com.alexa.account.filter;
+
+import com.alexa.account.config.RateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RateLimitFilter Tests")
+class RateLimitFilterTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RateLimitFilter filter(boolean enabled) {
+        RateLimitProperties properties = new RateLimitProperties(enabled, 1000, Duration.ofMinutes(10), "X-API-Key",
+                List.of("partner-key"),
+                List.of(
+                        new RateLimitProperties.Route("validation", "/api/v1/validation/**", List.of("post"), 2, Duration.ofSeconds(30)),
+                        new RateLimitProperties.Route("account-lookup", "/api/v1/accounts/{requestId}", List.of("GET"), 1, Duration.ofMinutes(1)),
+                        new RateLimitProperties.Route("account-listing", "/api/v1/accounts", List.of("GET"), 1, Duration.ofSeconds(12))
+                ));
+        return new RateLimitFilter(properties, objectMapper, meterRegistry);
+    }
+
+    private MockHttpServletResponse perform(RateLimitFilter filter, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletRequest request(String method, String uri, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    @Test
+    @DisplayName("Should return 429 with Retry-After once the client exceeds the route limit")
+    void testLimitExceeded_Returns429() throws Exception {
+        RateLimitFilter filter = filter(true);
+
+        assertEquals(200, perform(filter, request("POST", "/api/v1/validation/postCode", "10.0.0.1")).getStatus());
+        assertEquals(200, perform(filter, request("POST", "/api/v1/validation/name", "10.0.0.1")).getStatus());
+        MockHttpServletResponse limited = perform(filter, request("POST", "/api/v1/validation/city", "10.0.0.1"));
+
+        assertEquals(429, limited.getStatus());
+        assertEquals("30", limited.getHeader("Retry-After"));
+        assertEquals("application/problem+json", limited.getContentType());
+        Map<?, ?> body = objectMapper.readValue(limited.getContentAsString(), Map.class);
+        assertEquals(429, body.get("status"));
+        assertEquals("Too Many Requests", body.get("title"));
+        assertEquals("Rate limit exceeded. Retry after 30 seconds", body.get("detail"));
+        assertEquals(1.0, meterRegistry.get("api.errors").tag("type", "rate_limited").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should limit each client separately")
+    void testLimit_PerClient() throws Exception {
+        RateLimitFilter filter = filter(true);
+
+        assertEquals(200, perform(filter, request("GET", "/api/v1/accounts/AB2K-0590", "10.0.0.1")).getStatus());
+        assertEquals(429, perform(filter, request("GET", "/api/v1/accounts/CD3L-0691", "10.0.0.1")).getStatus());
+        assertEquals(200, perform(filter, request("GET", "/api/v1/accounts/CD3L-0691", "10.0.0.2")).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should limit known API keys per key and ignore unknown keys")
+    void testLimit_PerApiKey() throws Exception {
+        RateLimitFilter filter = filter(true);
+        MockHttpServletRequest partner = request("GET", "/api/v1/accounts/AB2K-0590", "10.0.0.1");
+        partner.addHeader("X-API-Key", "partner-key");
+        MockHttpServletRequest unknownKey = request("GET", "/api/v1/accounts/AB2K-0590", "10.0.0.1");
+        unknownKey.addHeader("X-API-Key", "made-up-key");
+
+        assertEquals(200, perform(filter, partner).getStatus());
+        assertEquals(200, perform(filter, request("GET", "/api/v1/accounts/AB2K-0590", "10.0.0.1")).getStatus());
+        assertEquals(429, perform(filter, unknownKey).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should limit the account listing with its own bucket, apart from lookups")
+    void testListing_OwnRouteLimit() throws Exception {
+        RateLimitFilter filter = filter(true);
+
+        assertEquals(200, perform(filter, request("GET", "/api/v1/accounts", "10.0.0.1")).getStatus());
+        MockHttpServletResponse limited = perform(filter, request("GET", "/api/v1/accounts", "10.0.0.1"));
+        assertEquals(200, perform(filter, request("GET", "/api/v1/accounts/AB2K-0590", "10.0.0.1")).getStatus());
+
+        assertEquals(429, limited.getStatus());
+        assertEquals("12", limited.getHeader("Retry-After"));
+    }
+
+    @Test
+    @DisplayName("Should not limit requests matching no route")
+    void testUnmatchedRoute_NotLimited() throws Exception {
+        RateLimitFilter filter = filter(true);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, perform(filter, request("GET", "/api/v1/health", "10.0.0.1")).getStatus());
+            assertEquals(200, perform(filter, request("PUT", "/api/v1/accounts/AB2K-0590", "10.0.0.1")).getStatus());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not limit anything when disabled")
+    void testDisabled_NotLimited() throws Exception {
+        RateLimitFilter filter = filter(false);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, perform(filter, request("GET", "/api/v1/accounts/AB2K-0590", "10.0.0.1")).getStatus());
+        }
+    }
+}
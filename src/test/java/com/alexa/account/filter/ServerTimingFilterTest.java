@@ -0,0 +1,63 @@
+package com.alexa.account.filter;
+
+import com.alexa.account.config.ServerTimingProperties;
+import com.alexa.account.util.RequestTiming;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ServerTimingFilter Tests")
+class ServerTimingFilterTest {
+
+    private static final FilterChain WRITING_CHAIN = (request, response) -> {
+        RequestTiming.end(RequestTiming.Stage.STORAGE, RequestTiming.begin() - 1_500_000);
+        RequestTiming.end(RequestTiming.Stage.DB, RequestTiming.begin() - 250_000);
+        response.getWriter().write("{}");
+        response.flushBuffer();
+    };
+
+    @Test
+    @DisplayName("Should send the recorded stages and the total before the response is committed")
+    void testApiRequest_WritesBody_AddsServerTiming() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(new ServerTimingProperties(true, true, true));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/accounts/register"), response, WRITING_CHAIN);
+
+        String serverTiming = response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER);
+        assertNotNull(serverTiming);
+        assertTrue(serverTiming.matches("storage;dur=1\\.\\d{3}, db;dur=0\\.\\d{3}, total;dur=\\d+\\.\\d{3}"),
+                serverTiming);
+        assertFalse(RequestTiming.isActive());
+    }
+
+    @Test
+    @DisplayName("Should report only the total when no stage was recorded")
+    void testApiRequest_NoStages_ReportsTotal() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(new ServerTimingProperties(true, true, true));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/health"), response, new MockFilterChain());
+
+        assertTrue(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER).startsWith("total;dur="));
+    }
+
+    @Test
+    @DisplayName("Should not send the header when it is switched off or for non-API requests")
+    void testHeaderDisabledOrNonApi_NoServerTiming() throws Exception {
+        MockHttpServletResponse headerOff = new MockHttpServletResponse();
+        new ServerTimingFilter(new ServerTimingProperties(true, false, true))
+                .doFilter(new MockHttpServletRequest("POST", "/api/v1/accounts/register"), headerOff, WRITING_CHAIN);
+        MockHttpServletResponse actuator = new MockHttpServletResponse();
+        new ServerTimingFilter(new ServerTimingProperties(true, true, true))
+                .doFilter(new MockHttpServletRequest("GET", "/actuator/health"), actuator, WRITING_CHAIN);
+
+        assertNull(headerOff.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER));
+        assertNull(actuator.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER));
+    }
+}
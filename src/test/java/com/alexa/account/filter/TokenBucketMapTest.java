@@ -0,0 +1,95 @@
+package com.alexa.account.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TokenBucketMap Tests")
+class TokenBucketMapTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    private TokenBucketMap buckets(int capacity, Duration refillInterval, int maxClients) {
+        return new TokenBucketMap(capacity, refillInterval, maxClients, Duration.ofMinutes(10), clock::get);
+    }
+
+    @Test
+    @DisplayName("Should allow a burst up to the capacity and then report the wait for the next token")
+    void testTryAcquire_BurstThenWait() {
+        TokenBucketMap buckets = buckets(3, Duration.ofSeconds(2), 100);
+
+        assertEquals(0, buckets.tryAcquire("10.0.0.1"));
+        assertEquals(0, buckets.tryAcquire("10.0.0.1"));
+        assertEquals(0, buckets.tryAcquire("10.0.0.1"));
+        assertEquals(TimeUnit.SECONDS.toNanos(2), buckets.tryAcquire("10.0.0.1"));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(TimeUnit.SECONDS.toNanos(1), buckets.tryAcquire("10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("Should refill one token per refill interval, up to the capacity")
+    void testTryAcquire_Refill() {
+        TokenBucketMap buckets = buckets(2, Duration.ofSeconds(1), 100);
+        buckets.tryAcquire("client");
+        buckets.tryAcquire("client");
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(0, buckets.tryAcquire("client"));
+        assertTrue(buckets.tryAcquire("client") > 0);
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        assertEquals(0, buckets.tryAcquire("client"));
+        assertEquals(0, buckets.tryAcquire("client"));
+        assertTrue(buckets.tryAcquire("client") > 0);
+    }
+
+    @Test
+    @DisplayName("Should keep a separate bucket per client")
+    void testTryAcquire_SeparateClients() {
+        TokenBucketMap buckets = buckets(1, Duration.ofSeconds(1), 100);
+
+        assertEquals(0, buckets.tryAcquire("10.0.0.1"));
+        assertTrue(buckets.tryAcquire("10.0.0.1") > 0);
+        assertEquals(0, buckets.tryAcquire("10.0.0.2"));
+        assertEquals(2, buckets.size());
+    }
+
+    @Test
+    @DisplayName("Should stay bounded by dropping the least recently seen clients")
+    void testTryAcquire_Bounded() {
+        TokenBucketMap buckets = buckets(1, Duration.ofSeconds(1), 64);
+
+        for (int i = 0; i < 10_000; i++) {
+            buckets.tryAcquire("client-" + i);
+        }
+
+        assertTrue(buckets.size() <= 64, "size " + buckets.size());
+    }
+
+    @Test
+    @DisplayName("Should evict clients idle for longer than the idle timeout")
+    void testEvictIdle() {
+        TokenBucketMap buckets = buckets(1, Duration.ofSeconds(1), 100);
+        buckets.tryAcquire("idle");
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(6));
+        buckets.tryAcquire("active");
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(6));
+
+        assertEquals(1, buckets.evictIdle());
+        assertEquals(1, buckets.size());
+        assertEquals(0, buckets.evictIdle());
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive capacity or refill interval")
+    void testInvalidLimits_Throw() {
+        assertThrows(IllegalArgumentException.class, () -> buckets(0, Duration.ofSeconds(1), 100));
+        assertThrows(IllegalArgumentException.class, () -> buckets(1, Duration.ZERO, 100));
+    }
+}
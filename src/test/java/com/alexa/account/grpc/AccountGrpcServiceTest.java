@@ -0,0 +1,261 @@
+package com.alexa.account.grpc;
+
+import com.alexa.account.dto.AccountRequestDTO;
+import com.alexa.account.dto.AccountResponseDTO;
+import com.alexa.account.dto.AddressDTO;
+import com.alexa.account.dto.DraftRequestDTO;
+import com.alexa.account.dto.IdDocumentResponseDTO;
+import com.alexa.account.exception.ResourceNotFoundException;
+import com.alexa.account.grpc.v1.Account;
+import com.alexa.account.grpc.v1.AccountRegistrationServiceGrpc;
+import com.alexa.account.grpc.v1.AccountRequest;
+import com.alexa.account.grpc.v1.Address;
+import com.alexa.account.grpc.v1.GetAccountRequest;
+import com.alexa.account.grpc.v1.IdDocument;
+import com.alexa.account.grpc.v1.LookupResult;
+import com.alexa.account.grpc.v1.RegisterRequest;
+import com.alexa.account.grpc.v1.RegistrationChunk;
+import com.alexa.account.grpc.v1.RegistrationHeader;
+import com.alexa.account.grpc.v1.SaveDraftRequest;
+import com.alexa.account.model.AccountStatus;
+import com.alexa.account.model.AccountType;
+import com.alexa.account.service.IAccountService;
+import com.google.protobuf.ByteString;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AccountGrpcService Tests")
+@ExtendWith(MockitoExtension.class)
+class AccountGrpcServiceTest {
+
+    @Mock
+    private IAccountService accountService;
+
+    private ValidatorFactory validatorFactory;
+    private Server server;
+    private ManagedChannel channel;
+    private AccountRegistrationServiceGrpc.AccountRegistrationServiceBlockingStub blockingStub;
+    private AccountRegistrationServiceGrpc.AccountRegistrationServiceStub asyncStub;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new AccountGrpcService(accountService, validatorFactory.getValidator(),
+                        DataSize.ofBytes(8)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        blockingStub = AccountRegistrationServiceGrpc.newBlockingStub(channel);
+        asyncStub = AccountRegistrationServiceGrpc.newStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("Should register through the service layer and map the response")
+    void testRegister_ValidRequest_ReturnsAccount() {
+        when(accountService.registerOrSubmit(isNull(), any(AccountRequestDTO.class), any(MultipartFile.class)))
+                .thenReturn(response(AccountStatus.SUBMITTED));
+
+        Account account = blockingStub.register(RegisterRequest.newBuilder()
+                .setRequest(request())
+                .setIdDocument(IdDocument.newBuilder()
+                        .setDocumentName("passport.jpg")
+                        .setContentType("image/jpeg")
+                        .setContent(ByteString.copyFromUtf8("scan")))
+                .build());
+
+        assertEquals("AB2K-0590", account.getRequestId());
+        assertEquals("15-05-1990", account.getDateOfBirth());
+        assertEquals("1000.00", account.getStartingBalance());
+        assertEquals(com.alexa.account.grpc.v1.AccountStatus.SUBMITTED, account.getStatus());
+        assertTrue(account.getInterestedInOtherProducts());
+        ArgumentCaptor<AccountRequestDTO> captor = ArgumentCaptor.forClass(AccountRequestDTO.class);
+        verify(accountService).registerOrSubmit(isNull(), captor.capture(), any(MultipartFile.class));
+        assertEquals(LocalDate.of(1990, 5, 15), captor.getValue().dateOfBirth());
+        assertEquals(AccountType.SAVINGS, captor.getValue().accountType());
+        assertNull(captor.getValue().email());
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid request with INVALID_ARGUMENT before calling the service")
+    void testSaveDraft_InvalidRequest_ReturnsInvalidArgument() {
+        SaveDraftRequest request = SaveDraftRequest.newBuilder()
+                .setRequest(request().toBuilder().clearName().setDateOfBirth("1990-05-15"))
+                .build();
+
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () -> blockingStub.saveDraft(request));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, e.getStatus().getCode());
+        assertTrue(e.getStatus().getDescription().contains("dateOfBirth"));
+        verify(accountService, never()).saveDraft(any(DraftRequestDTO.class), any());
+    }
+
+    @Test
+    @DisplayName("Should map ResourceNotFoundException to NOT_FOUND")
+    void testGetAccount_Unknown_ReturnsNotFound() {
+        when(accountService.getByRequestId("NONEXISTENT"))
+                .thenThrow(new ResourceNotFoundException("Account request not found with ID: NONEXISTENT"));
+
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () -> blockingStub.getAccount(
+                GetAccountRequest.newBuilder().setRequestId("NONEXISTENT").build()));
+
+        assertEquals(Status.Code.NOT_FOUND, e.getStatus().getCode());
+    }
+
+    @Test
+    @DisplayName("Should assemble a streamed document and submit the draft named in the header")
+    void testUploadRegistration_Chunks_SubmitsWithDocument() throws Exception {
+        when(accountService.registerOrSubmit(eq("AB2K-0590"), any(AccountRequestDTO.class), any(MultipartFile.class)))
+                .thenReturn(response(AccountStatus.SUBMITTED));
+        RecordingObserver<Account> responses = new RecordingObserver<>();
+
+        StreamObserver<RegistrationChunk> upload = asyncStub.uploadRegistration(responses);
+        upload.onNext(RegistrationChunk.newBuilder().setHeader(RegistrationHeader.newBuilder()
+                .setRequestId("AB2K-0590")
+                .setRequest(request())
+                .setDocumentName("passport.jpg")
+                .setContentType("image/jpeg")).build());
+        upload.onNext(RegistrationChunk.newBuilder().setDocumentContent(ByteString.copyFromUtf8("scan")).build());
+        upload.onNext(RegistrationChunk.newBuilder().setDocumentContent(ByteString.copyFromUtf8("ned")).build());
+        upload.onCompleted();
+
+        assertEquals("AB2K-0590", responses.awaitValues().get(0).getRequestId());
+        ArgumentCaptor<MultipartFile> document = ArgumentCaptor.forClass(MultipartFile.class);
+        verify(accountService).registerOrSubmit(eq("AB2K-0590"), any(AccountRequestDTO.class), document.capture());
+        assertEquals("scanned", new String(document.getValue().getBytes()));
+        assertEquals("passport.jpg", document.getValue().getOriginalFilename());
+    }
+
+    @Test
+    @DisplayName("Should fail an upload whose document exceeds max-document-size")
+    void testUploadRegistration_DocumentTooLarge_ReturnsInvalidArgument() throws Exception {
+        RecordingObserver<Account> responses = new RecordingObserver<>();
+
+        StreamObserver<RegistrationChunk> upload = asyncStub.uploadRegistration(responses);
+        upload.onNext(RegistrationChunk.newBuilder().setHeader(RegistrationHeader.newBuilder()
+                .setRequest(request())
+                .setDocumentName("passport.jpg")).build());
+        upload.onNext(RegistrationChunk.newBuilder()
+                .setDocumentContent(ByteString.copyFromUtf8("more than eight bytes")).build());
+
+        StatusRuntimeException e = assertInstanceOf(StatusRuntimeException.class, responses.awaitError());
+        assertEquals(Status.Code.INVALID_ARGUMENT, e.getStatus().getCode());
+        verifyNoInteractions(accountService);
+    }
+
+    @Test
+    @DisplayName("Should answer every lookup in order and report failures per request ID")
+    void testLookupAccounts_MixedResults_ReturnsResultPerRequest() throws Exception {
+        when(accountService.getByRequestId("AB2K-0590")).thenReturn(response(AccountStatus.DRAFT));
+        when(accountService.getByRequestId("NONEXISTENT"))
+                .thenThrow(new ResourceNotFoundException("Account request not found with ID: NONEXISTENT"));
+        RecordingObserver<LookupResult> results = new RecordingObserver<>();
+
+        StreamObserver<GetAccountRequest> lookups = asyncStub.lookupAccounts(results);
+        for (String requestId : List.of("AB2K-0590", "NONEXISTENT", "AB2K-0590")) {
+            lookups.onNext(GetAccountRequest.newBuilder().setRequestId(requestId).build());
+        }
+        lookups.onCompleted();
+
+        List<LookupResult> values = results.awaitValues();
+        assertEquals(3, values.size());
+        assertEquals(com.alexa.account.grpc.v1.AccountStatus.DRAFT, values.get(0).getAccount().getStatus());
+        assertEquals("NONEXISTENT", values.get(1).getRequestId());
+        assertEquals("NOT_FOUND", values.get(1).getError().getCode());
+        assertTrue(values.get(2).hasAccount());
+    }
+
+    private static AccountRequest request() {
+        return AccountRequest.newBuilder()
+                .setName("Priya")
+                .setDateOfBirth("15-05-1990")
+                .setAddress(Address.newBuilder()
+                        .setStreetName("Hoofdstraat")
+                        .setHouseNumber("123A")
+                        .setPostCode("1234 AB")
+                        .setCity("Amsterdam"))
+                .setAccountType(com.alexa.account.grpc.v1.AccountType.SAVINGS)
+                .setStartingBalance("1000.00")
+                .build();
+    }
+
+    private static AccountResponseDTO response(AccountStatus status) {
+        return new AccountResponseDTO("AB2K-0590", "Priya", LocalDate.of(1990, 5, 15),
+                new IdDocumentResponseDTO("passport.jpg", "image/jpeg", 4L),
+                new AddressDTO("Hoofdstraat", "123A", "1234 AB", "Amsterdam"),
+                AccountType.SAVINGS, new BigDecimal("1000.00"), null, null, true, status);
+    }
+
+    /**
+     * Collects the responses of a streaming call.
+     */
+    private static final class RecordingObserver<T> implements StreamObserver<T> {
+
+        private final List<T> values = new ArrayList<>();
+        private final CompletableFuture<Throwable> done = new CompletableFuture<>();
+
+        @Override
+        public void onNext(T value) {
+            values.add(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            done.complete(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            done.complete(null);
+        }
+
+        List<T> awaitValues() throws Exception {
+            assertNull(done.get(5, TimeUnit.SECONDS));
+            return values;
+        }
+
+        Throwable awaitError() throws Exception {
+            Throwable error = done.get(5, TimeUnit.SECONDS);
+            assertNotNull(error);
+            return error;
+        }
+    }
+}
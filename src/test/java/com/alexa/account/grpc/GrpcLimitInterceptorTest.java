@@ -0,0 +1,180 @@
+package com.alexa.account.grpc;
+
+import com.alexa.account.config.ConcurrencyLimitProperties;
+import com.alexa.account.config.RateLimitProperties;
+import com.alexa.account.dto.AccountResponseDTO;
+import com.alexa.account.filter.AdaptiveConcurrencyLimit;
+import com.alexa.account.filter.ConcurrencyLimitFilter;
+import com.alexa.account.filter.RateLimitFilter;
+import com.alexa.account.grpc.v1.AccountRegistrationServiceGrpc;
+import com.alexa.account.grpc.v1.GetAccountRequest;
+import com.alexa.account.grpc.v1.LookupResult;
+import com.alexa.account.model.AccountStatus;
+import com.alexa.account.model.AccountType;
+import com.alexa.account.service.IAccountService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("GrpcLimitInterceptor Tests")
+@ExtendWith(MockitoExtension.class)
+class GrpcLimitInterceptorTest {
+
+    @Mock
+    private IAccountService accountService;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ValidatorFactory validatorFactory;
+    private ConcurrencyLimitFilter concurrencyLimitFilter;
+    private Server server;
+    private ManagedChannel channel;
+    private AccountRegistrationServiceGrpc.AccountRegistrationServiceBlockingStub blockingStub;
+    private AccountRegistrationServiceGrpc.AccountRegistrationServiceStub asyncStub;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RateLimitProperties rateLimitProperties = new RateLimitProperties(true, 1000, Duration.ofMinutes(10),
+                "X-API-Key", List.of(),
+                List.of(new RateLimitProperties.Route("account-lookup", "/api/v1/accounts/{requestId}",
+                        List.of("GET"), 2, Duration.ofMinutes(1))));
+        ConcurrencyLimitProperties concurrencyLimitProperties = new ConcurrencyLimitProperties(true,
+                Duration.ofSeconds(2),
+                new ConcurrencyLimitProperties.Budget(1, 1, 1),
+                new ConcurrencyLimitProperties.Budget(1, 1, 1));
+        concurrencyLimitFilter = new ConcurrencyLimitFilter(concurrencyLimitProperties, objectMapper, meterRegistry);
+        GrpcLimitInterceptor interceptor = new GrpcLimitInterceptor(
+                new RateLimitFilter(rateLimitProperties, objectMapper, meterRegistry), rateLimitProperties,
+                concurrencyLimitFilter, concurrencyLimitProperties, meterRegistry);
+
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new AccountGrpcService(accountService, validatorFactory.getValidator(),
+                        DataSize.ofMegabytes(1)))
+                .intercept(interceptor)
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        blockingStub = AccountRegistrationServiceGrpc.newBlockingStub(channel);
+        asyncStub = AccountRegistrationServiceGrpc.newStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("Should fail calls with RESOURCE_EXHAUSTED once the client exceeds the REST route limit")
+    void testGetAccount_RateLimitExceeded_ResourceExhausted() {
+        when(accountService.getByRequestId("AB2K-0590")).thenReturn(response());
+        GetAccountRequest request = GetAccountRequest.newBuilder().setRequestId("AB2K-0590").build();
+
+        blockingStub.getAccount(request);
+        blockingStub.getAccount(request);
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () -> blockingStub.getAccount(request));
+
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, e.getStatus().getCode());
+        assertEquals("Rate limit exceeded. Retry after 60 seconds", e.getStatus().getDescription());
+        verify(accountService, times(2)).getByRequestId("AB2K-0590");
+        assertEquals(1, meterRegistry.get("grpc.calls.rejected").tag("reason", "rate_limited").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should shed calls with UNAVAILABLE while the shared concurrency limit is reached")
+    void testGetAccount_ConcurrencyLimitReached_Unavailable() {
+        AdaptiveConcurrencyLimit readLimit = concurrencyLimitFilter.getReadLimit();
+        int inFlight = readLimit.tryAcquire();
+
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () -> blockingStub.getAccount(
+                GetAccountRequest.newBuilder().setRequestId("AB2K-0590").build()));
+
+        assertEquals(Status.Code.UNAVAILABLE, e.getStatus().getCode());
+        assertEquals("Server is busy. Retry after 2 seconds", e.getStatus().getDescription());
+        verifyNoInteractions(accountService);
+        readLimit.release(TimeUnit.MILLISECONDS.toNanos(10), inFlight, false);
+    }
+
+    @Test
+    @DisplayName("Should release the concurrency slot when the call completes")
+    void testGetAccount_Completed_ReleasesSlot() {
+        when(accountService.getByRequestId("AB2K-0590")).thenReturn(response());
+
+        blockingStub.getAccount(GetAccountRequest.newBuilder().setRequestId("AB2K-0590").build());
+
+        assertEquals(0, concurrencyLimitFilter.getReadLimit().getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should take a token per looked up request ID and close the stream once limited")
+    void testLookupAccounts_RateLimitExceeded_ClosesStream() throws Exception {
+        when(accountService.getByRequestId("AB2K-0590")).thenReturn(response());
+        List<LookupResult> results = new ArrayList<>();
+        CompletableFuture<Throwable> done = new CompletableFuture<>();
+
+        StreamObserver<GetAccountRequest> lookups = asyncStub.lookupAccounts(new StreamObserver<>() {
+            @Override
+            public void onNext(LookupResult result) {
+                results.add(result);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                done.complete(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                done.complete(null);
+            }
+        });
+        for (int i = 0; i < 3; i++) {
+            lookups.onNext(GetAccountRequest.newBuilder().setRequestId("AB2K-0590").build());
+        }
+        lookups.onCompleted();
+
+        StatusRuntimeException e = assertInstanceOf(StatusRuntimeException.class, done.get(5, TimeUnit.SECONDS));
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, e.getStatus().getCode());
+        assertEquals(2, results.size());
+        verify(accountService, times(2)).getByRequestId("AB2K-0590");
+        assertEquals(0, concurrencyLimitFilter.getReadLimit().getInFlight());
+    }
+
+    private static AccountResponseDTO response() {
+        return new AccountResponseDTO("AB2K-0590", "Priya", LocalDate.of(1990, 5, 15), null, null,
+                AccountType.SAVINGS, new BigDecimal("1000.00"), null, null, true, AccountStatus.DRAFT);
+    }
+}
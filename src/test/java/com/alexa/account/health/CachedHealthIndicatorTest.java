@@ -0,0 +1,47 @@
+package com.alexa.account.health;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CachedHealthIndicator Tests")
+@ExtendWith(MockitoExtension.class)
+class CachedHealthIndicatorTest {
+
+    @Mock
+    private HealthIndicator delegate;
+
+    @Test
+    @DisplayName("Should reuse the result within the time-to-live")
+    void testHealth_WithinTtl_ChecksOnce() {
+        when(delegate.health()).thenReturn(Health.up().build());
+        CachedHealthIndicator indicator = new CachedHealthIndicator(delegate, Duration.ofHours(1));
+
+        assertEquals(Status.UP, indicator.health().getStatus());
+        assertEquals(Status.UP, indicator.health().getStatus());
+
+        verify(delegate, times(1)).health();
+    }
+
+    @Test
+    @DisplayName("Should check again once the result has expired")
+    void testHealth_Expired_ChecksAgain() {
+        when(delegate.health()).thenReturn(Health.up().build(), Health.down().build());
+        CachedHealthIndicator indicator = new CachedHealthIndicator(delegate, Duration.ZERO);
+
+        assertEquals(Status.UP, indicator.health().getStatus());
+        assertEquals(Status.DOWN, indicator.health().getStatus());
+
+        verify(delegate, times(2)).health();
+    }
+}
@@ -0,0 +1,53 @@
+package com.alexa.account.health;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UploadStorageHealthIndicator Tests")
+class UploadStorageHealthIndicatorTest {
+
+    @TempDir
+    Path uploadDir;
+
+    @Test
+    @DisplayName("Should be UP when the directory is writable and has enough space")
+    void testHealth_WritableDirectory_ReturnsUp() throws Exception {
+        Health health = new UploadStorageHealthIndicator(uploadDir, DataSize.ofBytes(1), Duration.ofSeconds(10))
+                .health();
+
+        assertEquals(Status.UP, health.getStatus());
+        assertNotNull(health.getDetails().get("writeLatencyMs"));
+        try (var files = Files.list(uploadDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Should be DOWN when free space is below the threshold")
+    void testHealth_NotEnoughSpace_ReturnsDown() {
+        Health health = new UploadStorageHealthIndicator(uploadDir, DataSize.ofTerabytes(1_000_000),
+                Duration.ofSeconds(10)).health();
+
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals("Free space below threshold", health.getDetails().get("reason"));
+    }
+
+    @Test
+    @DisplayName("Should be DOWN when the directory does not exist")
+    void testHealth_MissingDirectory_ReturnsDown() {
+        Health health = new UploadStorageHealthIndicator(uploadDir.resolve("missing"), DataSize.ofBytes(1),
+                Duration.ofSeconds(10)).health();
+
+        assertEquals(Status.DOWN, health.getStatus());
+    }
+}
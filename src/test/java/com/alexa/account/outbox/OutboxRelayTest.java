@@ -0,0 +1,157 @@
+package com.alexa.account.outbox;
+
+import com.alexa.account.model.OutboxEvent;
+import com.alexa.account.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OutboxRelay Tests")
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository repository;
+
+    @Mock
+    private OutboxSink sink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(repository, sink, new TransactionTemplate(transactionManager), meterRegistry,
+                true, 2, 3, Duration.ofDays(7));
+        lenient().when(repository.findFirstByPublishedAtIsNullAndDeadLetteredAtIsNullOrderByIdAsc()).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("Should publish claimed events in order and mark them published")
+    void testRelay_ClaimedEvents_PublishedInOrderAndMarked() throws IOException {
+        OutboxEvent first = event(1L, "AB2K-0590");
+        OutboxEvent second = event(2L, "CD3L-0691");
+        OutboxEvent third = event(3L, "AB2K-0590");
+        when(repository.claimUnpublished(any()))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+
+        int published = relay.relay();
+
+        assertEquals(3, published);
+        InOrder inOrder = inOrder(sink);
+        inOrder.verify(sink).publish(OutboxMessage.of(first));
+        inOrder.verify(sink).publish(OutboxMessage.of(second));
+        inOrder.verify(sink).flush();
+        inOrder.verify(sink).publish(OutboxMessage.of(third));
+        inOrder.verify(sink).flush();
+        assertNotNull(first.getPublishedAt());
+        assertNotNull(second.getPublishedAt());
+        assertNotNull(third.getPublishedAt());
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(3.0, meterRegistry.get("outbox.events.published").counter().count());
+        assertEquals(3, meterRegistry.get("outbox.events.publish.delay").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should publish the rest of the batch when one event fails and retry it in the next run")
+    void testRelay_PublishFails_PublishesOthersAndCountsAttempt() throws IOException {
+        OutboxEvent first = event(1L, "AB2K-0590");
+        OutboxEvent second = event(2L, "CD3L-0691");
+        when(repository.claimUnpublished(any())).thenReturn(List.of(first, second));
+        doThrow(new IOException("rejected")).when(sink).publish(OutboxMessage.of(first));
+
+        int published = relay.relay();
+
+        assertEquals(1, published);
+        assertNull(first.getPublishedAt());
+        assertEquals(1, first.getAttempts());
+        assertNotNull(second.getPublishedAt());
+        verify(repository, times(1)).claimUnpublished(any());
+        assertEquals(1.0, meterRegistry.get("outbox.relay.failures").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should dead-letter an event after max-attempts failures")
+    void testRelay_RepeatedFailures_DeadLettersEvent() throws IOException {
+        OutboxEvent poison = event(1L, "AB2K-0590");
+        when(repository.claimUnpublished(any())).thenReturn(List.of(poison));
+        doThrow(new IOException("rejected")).when(sink).publish(any());
+
+        relay.relay();
+        relay.relay();
+        assertNull(poison.getDeadLetteredAt());
+        relay.relay();
+
+        assertEquals(3, poison.getAttempts());
+        assertNotNull(poison.getDeadLetteredAt());
+        assertNull(poison.getPublishedAt());
+        assertEquals(1.0, meterRegistry.get("outbox.events.dead.lettered").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should not mark events published when the sink cannot flush them")
+    void testRelay_FlushFails_NothingMarked() throws IOException {
+        OutboxEvent event = event(1L, "AB2K-0590");
+        when(repository.claimUnpublished(any())).thenReturn(List.of(event));
+        doThrow(new IOException("disk full")).when(sink).flush();
+
+        int published = relay.relay();
+
+        assertEquals(0, published);
+        assertNull(event.getPublishedAt());
+    }
+
+    @Test
+    @DisplayName("Should report the age of the oldest unpublished event as lag")
+    void testRelay_PendingEvent_ReportsLag() {
+        when(repository.claimUnpublished(any())).thenReturn(List.of());
+        OutboxEvent pending = event(1L, "AB2K-0590");
+        pending.setCreatedAt(LocalDateTime.now().minusSeconds(30));
+        when(repository.findFirstByPublishedAtIsNullAndDeadLetteredAtIsNullOrderByIdAsc()).thenReturn(Optional.of(pending));
+
+        relay.relay();
+
+        assertTrue(relay.getLag().toSeconds() >= 30);
+        assertTrue(meterRegistry.get("outbox.relay.lag").gauge().value() >= 30.0);
+    }
+
+    @Test
+    @DisplayName("Should not run the scheduled relay when disabled")
+    void testScheduledRelay_Disabled_DoesNothing() {
+        OutboxRelay disabled = new OutboxRelay(repository, sink, new TransactionTemplate(transactionManager),
+                meterRegistry, false, 2, 3, Duration.ofDays(7));
+
+        disabled.scheduledRelay();
+
+        verifyNoInteractions(sink, transactionManager);
+    }
+
+    private static OutboxEvent event(Long id, String requestId) {
+        OutboxEvent event = new OutboxEvent("AccountSubmitted", requestId, "{\"requestId\":\"" + requestId + "\"}");
+        event.setId(id);
+        return event;
+    }
+}
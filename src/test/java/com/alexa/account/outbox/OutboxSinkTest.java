@@ -0,0 +1,93 @@
+package com.alexa.account.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Outbox Sink Tests")
+class OutboxSinkTest {
+
+    private static final OutboxMessage MESSAGE = new OutboxMessage(42L, "AccountSubmitted", "AB2K-0590",
+            "{\"requestId\":\"AB2K-0590\"}", LocalDateTime.of(2026, 2, 15, 12, 0));
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("In-memory sink should queue events and reject them when full")
+    void testInMemorySink_QueueFull_Rejects() throws IOException {
+        InMemoryOutboxSink sink = new InMemoryOutboxSink(1);
+
+        sink.publish(MESSAGE);
+
+        assertThrows(IOException.class, () -> sink.publish(MESSAGE));
+        assertEquals(List.of(MESSAGE), sink.drain(10));
+        assertEquals(0, sink.size());
+    }
+
+    @Test
+    @DisplayName("File sink should append one JSON line per event on flush")
+    void testFileSink_Flush_AppendsJsonLines() throws IOException {
+        Path file = tempDir.resolve("outbox/events.jsonl");
+        try (FileOutboxSink sink = new FileOutboxSink(objectMapper, file)) {
+            sink.publish(MESSAGE);
+            assertFalse(Files.exists(file) && Files.size(file) > 0, "Nothing is written before flush");
+
+            sink.flush();
+            sink.publish(MESSAGE);
+            sink.flush();
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        JsonNode line = objectMapper.readTree(lines.get(0));
+        assertEquals(42L, line.get("id").asLong());
+        assertEquals("AccountSubmitted", line.get("type").asText());
+        assertEquals("AB2K-0590", line.get("aggregateId").asText());
+        assertEquals("AB2K-0590", line.get("payload").get("requestId").asText());
+    }
+
+    @Test
+    @DisplayName("HTTP sink should post the payload with event headers and fail on non-2xx responses")
+    void testHttpSink_Post_SendsHeadersAndChecksStatus() throws IOException {
+        List<String> received = new CopyOnWriteArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/events", exchange -> {
+            received.add(exchange.getRequestHeaders().getFirst(HttpOutboxSink.EVENT_ID_HEADER) + " "
+                    + exchange.getRequestHeaders().getFirst(HttpOutboxSink.EVENT_TYPE_HEADER) + " "
+                    + new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(received.size() == 1 ? 204 : 503, -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            HttpOutboxSink sink = new HttpOutboxSink(
+                    URI.create("http://localhost:" + server.getAddress().getPort() + "/events"), Duration.ofSeconds(5));
+
+            sink.publish(MESSAGE);
+            assertThrows(IOException.class, () -> sink.publish(MESSAGE));
+        } finally {
+            server.stop(0);
+        }
+
+        assertEquals("42 AccountSubmitted {\"requestId\":\"AB2K-0590\"}", received.get(0));
+    }
+}
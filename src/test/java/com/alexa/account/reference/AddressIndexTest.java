@@ -0,0 +1,94 @@
+package com.alexa.account.reference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AddressIndex Tests")
+class AddressIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    private AddressIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path dataset = tempDir.resolve("addresses.csv");
+        Files.writeString(dataset, """
+                # postcode;fromNumber;toNumber;parity;city
+                1011AB;1;25;odd;Amsterdam
+                1011AB;2;30;even;Amsterdam
+                3511 CD;100;120;mixed;Utrecht
+                9999ZZ;5;5;mixed;Groningen
+                not-a-postcode;1;2;mixed;Nowhere
+                1234AB;10;1;mixed;Backwards
+                """);
+        index = AddressIndex.load(dataset);
+    }
+
+    @Test
+    @DisplayName("Should skip malformed lines and index distinct post codes")
+    void testLoad_SkipsMalformedLines() {
+        assertEquals(3, index.size());
+        assertTrue(index.memoryFootprint() > 0);
+    }
+
+    @Test
+    @DisplayName("Should find post codes with or without space and in any case")
+    void testContainsPostCode_NormalizesInput() {
+        assertTrue(index.containsPostCode("1011 AB"));
+        assertTrue(index.containsPostCode("1011ab"));
+        assertTrue(index.containsPostCode("3511 CD"));
+        assertFalse(index.containsPostCode("1011 AC"));
+        assertFalse(index.containsPostCode("1234 AB"));
+        assertFalse(index.containsPostCode("0999 AB"));
+        assertFalse(index.containsPostCode(null));
+    }
+
+    @Test
+    @DisplayName("Should accept the same separators as the post code format check")
+    void testContainsPostCode_WhitespaceSeparator() {
+        assertTrue(index.containsPostCode("1011\tAB"));
+        assertEquals("Utrecht", index.cityOf("3511\u000BCD"));
+        assertFalse(index.containsPostCode("1011-AB"));
+    }
+
+    @Test
+    @DisplayName("Should check house numbers against ranges and parity")
+    void testContainsHouseNumber_RespectsRangesAndParity() {
+        assertTrue(index.containsHouseNumber("1011 AB", "25"));
+        assertTrue(index.containsHouseNumber("1011 AB", "30"));
+        assertTrue(index.containsHouseNumber("1011 AB", "7A-bis"));
+        assertFalse(index.containsHouseNumber("1011 AB", "27"));
+        assertFalse(index.containsHouseNumber("1011 AB", "32"));
+        assertTrue(index.containsHouseNumber("3511 CD", "101"));
+        assertFalse(index.containsHouseNumber("3511 CD", "99"));
+        assertFalse(index.containsHouseNumber("1234 AB", "5"));
+    }
+
+    @Test
+    @DisplayName("Should resolve city and compare ignoring case")
+    void testCityOf_ReturnsCity() {
+        assertEquals("Amsterdam", index.cityOf("1011 AB"));
+        assertEquals("Groningen", index.cityOf("9999ZZ"));
+        assertNull(index.cityOf("1000 AA"));
+        assertTrue(index.cityMatches("3511 CD", " utrecht "));
+        assertFalse(index.cityMatches("3511 CD", "Amsterdam"));
+    }
+
+    @Test
+    @DisplayName("Should answer nothing from the empty index")
+    void testEmptyIndex_ContainsNothing() {
+        assertEquals(0, AddressIndex.EMPTY.size());
+        assertFalse(AddressIndex.EMPTY.containsPostCode("1011 AB"));
+        assertNull(AddressIndex.EMPTY.cityOf("1011 AB"));
+    }
+}
@@ -0,0 +1,123 @@
+package com.alexa.account.reference;
+
+import com.alexa.account.validation.FieldRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SuggestionIndex Tests")
+class SuggestionIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    private SuggestionIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path reference = tempDir.resolve("suggestions.csv");
+        Files.writeString(reference, """
+                # field;name;weight
+                city;Amsterdam;900
+                city;Amstelveen;90
+                city;Alkmaar;100
+                city;Den Haag;500
+                city;Ĳsselstein;30
+                city;Émmen;50
+                city;amsterdam;5
+                streetName;Damrak;10
+                streetName;Dam;20
+                country;Nederland;1
+                city;Broken;abc
+                not a line
+                """);
+        index = SuggestionIndex.load(reference);
+    }
+
+    @Test
+    @DisplayName("Should skip malformed lines and merge names that fold to the same key")
+    void testLoad_SkipsMalformedAndMergesDuplicates() {
+        assertEquals(6, index.size(FieldRule.CITY));
+        assertEquals(2, index.size(FieldRule.STREET_NAME));
+        assertEquals(0, index.size(FieldRule.POST_CODE));
+        assertEquals(List.of("Amsterdam"), index.suggest(FieldRule.CITY, "amsterdam", 10));
+    }
+
+    @Test
+    @DisplayName("Should rank suggestions by weight")
+    void testSuggest_RanksByWeight() {
+        assertEquals(List.of("Amsterdam", "Alkmaar", "Amstelveen"), index.suggest(FieldRule.CITY, "a", 10));
+        assertEquals(List.of("Amsterdam", "Amstelveen"), index.suggest(FieldRule.CITY, "ams", 10));
+    }
+
+    @Test
+    @DisplayName("Should return only the top suggestions up to the limit")
+    void testSuggest_AppliesLimit() {
+        assertEquals(List.of("Amsterdam", "Alkmaar"), index.suggest(FieldRule.CITY, "a", 2));
+        assertEquals(List.of("Amsterdam"), index.suggest(FieldRule.CITY, "amst", 1));
+    }
+
+    @Test
+    @DisplayName("Should match ignoring case and diacritics")
+    void testSuggest_IgnoresCaseAndDiacritics() {
+        assertEquals(List.of("Ĳsselstein"), index.suggest(FieldRule.CITY, "ijs", 10));
+        assertEquals(List.of("Émmen"), index.suggest(FieldRule.CITY, "em", 10));
+        assertEquals(List.of("Émmen"), index.suggest(FieldRule.CITY, "ÉMM", 10));
+        assertEquals(List.of("Den Haag"), index.suggest(FieldRule.CITY, " den h", 10));
+    }
+
+    @Test
+    @DisplayName("Should keep fields separate")
+    void testSuggest_PerField() {
+        assertEquals(List.of("Den Haag"), index.suggest(FieldRule.CITY, "d", 10));
+        assertEquals(List.of("Dam", "Damrak"), index.suggest(FieldRule.STREET_NAME, "d", 10));
+    }
+
+    @Test
+    @DisplayName("Should return no suggestions for unknown prefixes and empty input")
+    void testSuggest_NoMatch_ReturnsEmpty() {
+        assertTrue(index.suggest(FieldRule.CITY, "zz", 10).isEmpty());
+        assertTrue(index.suggest(FieldRule.CITY, "amsterdamse", 10).isEmpty());
+        assertTrue(index.suggest(FieldRule.CITY, "", 10).isEmpty());
+        assertTrue(index.suggest(FieldRule.CITY, null, 10).isEmpty());
+        assertTrue(index.suggest(FieldRule.CITY, "a", 0).isEmpty());
+        assertTrue(SuggestionIndex.EMPTY.suggest(FieldRule.CITY, "a", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should cap the number of suggestions")
+    void testSuggest_LimitCapped() throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            lines.append("streetName;Straat ").append(i).append(';').append(i).append('\n');
+        }
+        Path reference = tempDir.resolve("streets.csv");
+        Files.writeString(reference, lines);
+
+        SuggestionIndex streets = SuggestionIndex.load(reference);
+
+        List<String> suggestions = streets.suggest(FieldRule.STREET_NAME, "straat", 100);
+        assertEquals(SuggestionIndex.MAX_SUGGESTIONS, suggestions.size());
+        assertEquals("Straat 49", suggestions.get(0));
+        assertEquals(suggestions, streets.suggest(FieldRule.STREET_NAME, "st", 100));
+    }
+
+    @Test
+    @DisplayName("Should fold names to lower case without diacritics")
+    void testFold() {
+        assertEquals("zurich", SuggestionIndex.fold("Zürich"));
+        assertEquals("ijsselstein", SuggestionIndex.fold("Ĳsselstein"));
+        assertEquals("den haag", SuggestionIndex.fold("Den Haag"));
+        assertTrue(SuggestionIndex.isSupported(FieldRule.CITY));
+        assertFalse(SuggestionIndex.isSupported(FieldRule.POST_CODE));
+        assertFalse(SuggestionIndex.isSupported(null));
+    }
+}
@@ -0,0 +1,57 @@
+package com.alexa.account.repository;
+
+import com.alexa.account.model.AccountRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AccountCursor Tests")
+class AccountCursorTest {
+
+    @Test
+    @DisplayName("Should decode an encoded cursor to the same position")
+    void testEncodeDecode_RoundTrip_SamePosition() {
+        AccountCursor cursor = new AccountCursor(LocalDateTime.of(2026, 2, 15, 12, 30, 45, 123_456_000), 42L);
+
+        AccountCursor decoded = AccountCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    @DisplayName("Should encode to a URL-safe string without padding")
+    void testEncode_AnyPosition_UrlSafe() {
+        String encoded = new AccountCursor(LocalDateTime.of(2026, 2, 15, 12, 0), 1L).encode();
+
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    @DisplayName("Should take the position of the last row of a page")
+    void testOf_AccountRequest_UsesCreatedAtAndId() {
+        AccountRequest accountRequest = new AccountRequest();
+        accountRequest.setId(7L);
+        accountRequest.setCreatedAt(LocalDateTime.of(2026, 1, 1, 9, 0));
+
+        AccountCursor cursor = AccountCursor.of(accountRequest);
+
+        assertEquals(LocalDateTime.of(2026, 1, 1, 9, 0), cursor.createdAt());
+        assertEquals(7L, cursor.id());
+    }
+
+    @Test
+    @DisplayName("Should reject values that are not cursors")
+    void testDecode_Malformed_ThrowsIllegalArgumentException() {
+        String noSeparator = Base64.getUrlEncoder().encodeToString("2026-01-01T09:00".getBytes(StandardCharsets.UTF_8));
+        String badDate = Base64.getUrlEncoder().encodeToString("yesterday|5".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> AccountCursor.decode("not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> AccountCursor.decode(noSeparator));
+        assertThrows(IllegalArgumentException.class, () -> AccountCursor.decode(badDate));
+    }
+}
@@ -0,0 +1,163 @@
+package com.alexa.account.service;
+
+import com.alexa.account.model.AccountStatus;
+import com.alexa.account.repository.AccountRequestRepository;
+import com.alexa.account.repository.ArchivedAccountRequestRepository;
+import com.alexa.account.repository.StoredDocumentView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AccountArchiveService Tests")
+@ExtendWith(MockitoExtension.class)
+class AccountArchiveServiceTest {
+
+    @Mock
+    private AccountRequestRepository accountRequestRepository;
+
+    @Mock
+    private ArchivedAccountRequestRepository archivedAccountRequestRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AccountArchiveService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = createService(true);
+    }
+
+    @Test
+    @DisplayName("Should move old submitted requests chunk by chunk until a chunk is not full")
+    void testArchive_MultipleChunks_MovesAllChunks() {
+        when(accountRequestRepository.findUpdatedBefore(eq(AccountStatus.SUBMITTED), any(), any()))
+                .thenReturn(List.of(request(1L), request(2L)))
+                .thenReturn(List.of(request(3L)));
+        when(archivedAccountRequestRepository.copySubmitted(anyCollection(), any())).thenReturn(2).thenReturn(1);
+        when(accountRequestRepository.deleteByIdInAndStatus(anyCollection(), eq(AccountStatus.SUBMITTED)))
+                .thenReturn(2).thenReturn(1);
+
+        int archived = service.archiveSubmittedRequests();
+
+        assertEquals(3, archived);
+        verify(archivedAccountRequestRepository).copySubmitted(eq(List.of(1L, 2L)), any());
+        verify(accountRequestRepository).deleteByIdInAndStatus(List.of(1L, 2L), AccountStatus.SUBMITTED);
+        verify(archivedAccountRequestRepository).copySubmitted(eq(List.of(3L)), any());
+        verify(accountRequestRepository).deleteByIdInAndStatus(List.of(3L), AccountStatus.SUBMITTED);
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(3.0, meterRegistry.get("account.requests.archived").counter().count());
+        assertEquals(1, meterRegistry.get("account.requests.archive").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no submitted request is old enough")
+    void testArchive_NothingToArchive_ReturnsZero() {
+        when(accountRequestRepository.findUpdatedBefore(any(), any(), any())).thenReturn(List.of());
+
+        assertEquals(0, service.archiveSubmittedRequests());
+        verifyNoInteractions(archivedAccountRequestRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should roll back a chunk whose copy and delete do not match")
+    void testArchive_CopyAndDeleteMismatch_RollsBack() {
+        when(accountRequestRepository.findUpdatedBefore(any(), any(), any())).thenReturn(List.of(request(1L)));
+        when(archivedAccountRequestRepository.copySubmitted(anyCollection(), any())).thenReturn(1);
+        when(accountRequestRepository.deleteByIdInAndStatus(anyCollection(), any())).thenReturn(0);
+
+        assertThrows(IllegalStateException.class, () -> service.archiveSubmittedRequests());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should move a conflicting chunk row by row and skip the row that cannot be archived")
+    void testArchive_ConflictingRow_SkippedAndOthersMoved() {
+        when(accountRequestRepository.findUpdatedBefore(any(), any(), any()))
+                .thenReturn(List.of(request(1L), request(2L)))
+                .thenReturn(List.of(request(1L)));
+        when(archivedAccountRequestRepository.copySubmitted(anyCollection(), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenReturn(1);
+        when(accountRequestRepository.deleteByIdInAndStatus(List.of(2L), AccountStatus.SUBMITTED)).thenReturn(1);
+
+        assertEquals(1, service.archiveSubmittedRequests());
+        verify(archivedAccountRequestRepository).copySubmitted(eq(List.of(1L)), any());
+        verify(archivedAccountRequestRepository).copySubmitted(eq(List.of(2L)), any());
+        assertEquals(1.0, meterRegistry.get("account.requests.archived").counter().count());
+        assertEquals(1.0, meterRegistry.get("account.requests.archive.conflicts").counter().count());
+        assertEquals(1.0, meterRegistry.get("account.requests.archive.skipped").gauge().value());
+
+        // The next run does not retry the skipped row
+        assertEquals(0, service.archiveSubmittedRequests());
+        verify(archivedAccountRequestRepository, times(3)).copySubmitted(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("Should stop archiving once max-skipped rows cannot be archived")
+    void testArchive_MaxSkippedReached_StopsArchiving() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new AccountArchiveService(accountRequestRepository, archivedAccountRequestRepository,
+                new TransactionTemplate(transactionManager), meterRegistry,
+                true, Duration.ofDays(30), 2, Duration.ZERO, 2);
+        when(accountRequestRepository.findUpdatedBefore(any(), any(), any()))
+                .thenReturn(List.of(request(1L), request(2L)));
+        when(archivedAccountRequestRepository.copySubmitted(anyCollection(), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertEquals(0, service.archiveSubmittedRequests());
+        assertEquals(0, service.archiveSubmittedRequests());
+
+        // One chunk and its two rows; the second run stops before selecting
+        verify(accountRequestRepository, times(1)).findUpdatedBefore(any(), any(), any());
+        verify(archivedAccountRequestRepository, times(3)).copySubmitted(anyCollection(), any());
+        assertEquals(2.0, meterRegistry.get("account.requests.archive.skipped").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should not run the scheduled archive when disabled")
+    void testScheduledArchive_Disabled_DoesNothing() {
+        createService(false).scheduledArchive();
+
+        verifyNoInteractions(accountRequestRepository, archivedAccountRequestRepository);
+    }
+
+    private AccountArchiveService createService(boolean enabled) {
+        return new AccountArchiveService(accountRequestRepository, archivedAccountRequestRepository,
+                new TransactionTemplate(transactionManager), meterRegistry,
+                enabled, Duration.ofDays(30), 2, Duration.ZERO, 1000);
+    }
+
+    private static StoredDocumentView request(Long id) {
+        return new StoredDocumentView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getFilePath() {
+                return null;
+            }
+        };
+    }
+}
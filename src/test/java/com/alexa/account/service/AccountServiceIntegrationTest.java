@@ -9,15 +9,24 @@ import com.alexa.account.exception.InvalidRequestException;
 import com.alexa.account.exception.ResourceNotFoundException;
 import com.alexa.account.model.AccountStatus;
 import com.alexa.account.model.AccountType;
+import com.alexa.account.outbox.InMemoryOutboxSink;
+import com.alexa.account.outbox.OutboxMessage;
+import com.alexa.account.outbox.OutboxRelay;
 import com.alexa.account.repository.AccountRequestRepository;
+import com.alexa.account.repository.ArchivedAccountRequestRepository;
+import com.alexa.account.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -30,6 +39,21 @@ class AccountServiceIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private AccountRequestRepository accountRequestRepository;
 
+    @Autowired
+    private ArchivedAccountRequestRepository archivedAccountRequestRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxSink outboxSink;
+
     @Test
     @DisplayName("Should register account and persist to H2 database")
     void testRegister_ValidRequest_SavesToDatabaseAndReturnsResponse() {
@@ -949,4 +973,136 @@ class AccountServiceIntegrationTest extends BaseIntegrationTest {
         assertEquals(originalRequestId, submittedResponse.requestId());
         assertEquals(AccountStatus.SUBMITTED, submittedResponse.status());
     }
+
+    @Test
+    @DisplayName("Should move submitted requests to the archive and still find them by request ID")
+    void testArchive_SubmittedRequest_MovedAndFoundThroughArchive() {
+        AccountResponseDTO submitted = accountService.registerOrSubmit(null, new AccountRequestDTO(
+            "Archived User",
+            LocalDate.of(1980, 1, 5),
+            new AddressDTO("Damrak", "1", "1012 LG", "Amsterdam"),
+            AccountType.INVESTMENT,
+            new BigDecimal("250.00"),
+            "archived@example.com",
+            new BigDecimal("4000.00"),
+            true
+        ), new MockMultipartFile("file", "id.pdf", "application/pdf", "pdf".getBytes()));
+        AccountResponseDTO draft = accountService.saveDraft(new DraftRequestDTO(
+            "Draft User",
+            LocalDate.of(1980, 1, 5),
+            new AddressDTO("Damrak", "2", "1012 LG", "Amsterdam"),
+            null, null, null, null, null
+        ), null);
+
+        int archived = archiveEverythingSubmitted();
+
+        assertTrue(archived >= 1);
+        assertTrue(accountRequestRepository.findByRequestId(submitted.requestId()).isEmpty());
+        assertTrue(archivedAccountRequestRepository.findByRequestId(submitted.requestId()).isPresent());
+        assertTrue(accountRequestRepository.findByRequestId(draft.requestId()).isPresent());
+        assertEquals(submitted, accountService.getByRequestId(submitted.requestId()));
+    }
+
+    @Test
+    @DisplayName("Should reject updating or submitting an archived request")
+    void testArchive_ArchivedRequest_CannotBeUpdatedOrSubmitted() {
+        AccountRequestDTO requestDTO = new AccountRequestDTO(
+            "Archived User",
+            LocalDate.of(1980, 1, 5),
+            new AddressDTO("Damrak", "1", "1012 LG", "Amsterdam"),
+            AccountType.SAVINGS,
+            null, null, null, null
+        );
+        String requestId = accountService.registerOrSubmit(null, requestDTO,
+                new MockMultipartFile("file", "id.jpg", "image/jpeg", "jpg".getBytes())).requestId();
+        archiveEverythingSubmitted();
+
+        InvalidRequestException update = assertThrows(InvalidRequestException.class,
+                () -> accountService.updateDraft(requestId, requestDTO, null));
+        InvalidRequestException submit = assertThrows(InvalidRequestException.class,
+                () -> accountService.registerOrSubmit(requestId, requestDTO, null));
+
+        assertEquals("Cannot update a submitted request", update.getMessage());
+        assertEquals("Request has already been submitted", submit.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should archive a chunk containing a request ID that is already archived")
+    void testArchive_CollidingRequestId_SkipsRowAndArchivesRest() {
+        String archivedId = registerForArchive("First User", "1").requestId();
+        archiveEverythingSubmitted();
+        assertTrue(accountRequestRepository.existsByRequestIdIncludingArchive(archivedId));
+
+        String collidingId = registerForArchive("Colliding User", "2").requestId();
+        String otherId = registerForArchive("Other User", "3").requestId();
+        // A request ID handed out again before new IDs were checked against the archive
+        transactionTemplate.executeWithoutResult(status ->
+                accountRequestRepository.findByRequestId(collidingId).orElseThrow().setRequestId(archivedId));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccountArchiveService archiveService = new AccountArchiveService(accountRequestRepository,
+                archivedAccountRequestRepository, transactionTemplate, meterRegistry,
+                true, Duration.ofSeconds(-1), 100, Duration.ZERO, 1000);
+
+        assertTrue(archiveService.archiveSubmittedRequests() >= 1);
+        assertTrue(archivedAccountRequestRepository.findByRequestId(otherId).isPresent());
+        assertTrue(accountRequestRepository.findByRequestId(archivedId).isPresent());
+        assertEquals(1.0, meterRegistry.get("account.requests.archive.conflicts").counter().count());
+
+        archiveService.archiveSubmittedRequests();
+        assertEquals(1.0, meterRegistry.get("account.requests.archive.conflicts").counter().count());
+        // Other tests archive everything submitted, so do not leave the colliding row behind
+        accountRequestRepository.delete(accountRequestRepository.findByRequestId(archivedId).orElseThrow());
+    }
+
+    private AccountResponseDTO registerForArchive(String name, String houseNumber) {
+        return accountService.registerOrSubmit(null, new AccountRequestDTO(
+            name,
+            LocalDate.of(1980, 1, 5),
+            new AddressDTO("Damrak", houseNumber, "1012 LG", "Amsterdam"),
+            AccountType.SAVINGS,
+            null, null, null, null
+        ), new MockMultipartFile("file", "id.jpg", "image/jpeg", "jpg".getBytes()));
+    }
+
+    private int archiveEverythingSubmitted() {
+        // A negative age puts the cutoff in the future, so every submitted request qualifies
+        AccountArchiveService archiveService = new AccountArchiveService(accountRequestRepository,
+                archivedAccountRequestRepository, transactionTemplate, new SimpleMeterRegistry(),
+                true, Duration.ofSeconds(-1), 100, Duration.ZERO, 1000);
+        return archiveService.archiveSubmittedRequests();
+    }
+
+    @Test
+    @DisplayName("Should record an AccountSubmitted event with a submission and relay it to the sink")
+    void testRegister_Submission_RecordsAndRelaysOutboxEvent() {
+        AccountResponseDTO draft = accountService.saveDraft(new DraftRequestDTO(
+            "Outbox User",
+            LocalDate.of(1991, 7, 1),
+            new AddressDTO("Damrak", "3", "1012 LG", "Amsterdam"),
+            null, null, null, null, null
+        ), null);
+        assertTrue(outboxEventRepository.findAll().stream()
+                .noneMatch(event -> event.getAggregateId().equals(draft.requestId())));
+
+        accountService.registerOrSubmit(draft.requestId(), new AccountRequestDTO(
+            "Outbox User",
+            LocalDate.of(1991, 7, 1),
+            new AddressDTO("Damrak", "3", "1012 LG", "Amsterdam"),
+            AccountType.CURRENT,
+            null, null, null, null
+        ), new MockMultipartFile("file", "id.jpg", "image/jpeg", "jpg".getBytes()));
+
+        outboxRelay.relay();
+
+        List<OutboxMessage> relayed = outboxSink.drain(Integer.MAX_VALUE).stream()
+                .filter(message -> message.aggregateId().equals(draft.requestId()))
+                .toList();
+        assertEquals(1, relayed.size());
+        assertEquals("AccountSubmitted", relayed.get(0).eventType());
+        assertTrue(relayed.get(0).payload().contains("\"status\":\"SUBMITTED\""));
+        assertTrue(outboxEventRepository.findAll().stream()
+                .filter(event -> event.getAggregateId().equals(draft.requestId()))
+                .allMatch(event -> event.getPublishedAt() != null));
+    }
 }
@@ -0,0 +1,189 @@
+package com.alexa.account.service;
+
+import com.alexa.account.BaseIntegrationTest;
+import com.alexa.account.SqlStatementCount;
+import com.alexa.account.dto.AccountRequestDTO;
+import com.alexa.account.dto.AccountResponseDTO;
+import com.alexa.account.dto.AccountSearchCriteria;
+import com.alexa.account.dto.AddressDTO;
+import com.alexa.account.dto.DraftRequestDTO;
+import com.alexa.account.exception.ResourceNotFoundException;
+import com.alexa.account.model.AccountStatus;
+import com.alexa.account.model.AccountType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement budgets of the AccountService flows behind the account endpoints. A change that adds a query
+ * to a flow fails here; if the extra statement is intended, update the budget in the same change.
+ */
+@DisplayName("AccountService Statement Budget Tests")
+class AccountServiceStatementCountTest extends BaseIntegrationTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Register: request ID check, account insert and outbox insert")
+    void testRegisterOrSubmit_NewRegistration_StatementBudget() {
+        SqlStatementCount.reset();
+
+        accountService.registerOrSubmit(null, registration("Haripriya"), document());
+
+        SqlStatementCount.assertStatements(1, 2, 0, 0);
+    }
+
+    @Test
+    @DisplayName("Register with requestId: draft lookup, outbox insert and account update")
+    void testRegisterOrSubmit_DraftSubmission_StatementBudget() {
+        String requestId = accountService.saveDraft(draft(), document()).requestId();
+        SqlStatementCount.reset();
+
+        accountService.registerOrSubmit(requestId, registration("Haripriya"), null);
+
+        SqlStatementCount.assertStatements(1, 1, 1, 0);
+    }
+
+    @Test
+    @DisplayName("Submit draft: draft lookup, outbox insert and account update")
+    void testSubmitDraft_StatementBudget() {
+        String requestId = accountService.saveDraft(draft(), null).requestId();
+        SqlStatementCount.reset();
+
+        accountService.submitDraft(requestId, registration("Haripriya"), document());
+
+        SqlStatementCount.assertStatements(1, 1, 1, 0);
+    }
+
+    @Test
+    @DisplayName("Accept async registration: request ID check and account insert")
+    void testAcceptRegistration_StatementBudget() {
+        SqlStatementCount.reset();
+
+        accountService.acceptRegistration(registration("Haripriya"), document());
+
+        SqlStatementCount.assertStatements(1, 1, 0, 0);
+    }
+
+    @Test
+    @DisplayName("Complete async registration: locking read, outbox insert and account update")
+    void testCompleteRegistration_StatementBudget() {
+        String requestId = accountService.acceptRegistration(registration("Haripriya"), document()).requestId();
+        SqlStatementCount.reset();
+
+        assertTrue(accountService.completeRegistration(requestId));
+
+        SqlStatementCount.assertStatements(1, 1, 1, 0);
+    }
+
+    @Test
+    @DisplayName("Fail async registration: locking read and account update")
+    void testFailRegistration_StatementBudget() {
+        String requestId = accountService.acceptRegistration(registration("Haripriya"), document()).requestId();
+        SqlStatementCount.reset();
+
+        accountService.failRegistration(requestId);
+
+        SqlStatementCount.assertStatements(1, 0, 1, 0);
+    }
+
+    @Test
+    @DisplayName("Save draft: request ID check and account insert")
+    void testSaveDraft_StatementBudget() {
+        SqlStatementCount.reset();
+
+        accountService.saveDraft(draft(), document());
+
+        SqlStatementCount.assertStatements(1, 1, 0, 0);
+    }
+
+    @Test
+    @DisplayName("Update draft: draft lookup and one update")
+    void testUpdateDraft_StatementBudget() {
+        String requestId = accountService.saveDraft(draft(), null).requestId();
+        SqlStatementCount.reset();
+
+        accountService.updateDraft(requestId, registration("Haripriya Updated"), document());
+
+        SqlStatementCount.assertStatements(1, 0, 1, 0);
+    }
+
+    @Test
+    @DisplayName("Patch draft: draft lookup and one update")
+    void testPatchDraft_StatementBudget() throws Exception {
+        String requestId = accountService.saveDraft(draft(), null).requestId();
+        SqlStatementCount.reset();
+
+        accountService.patchDraft(requestId, objectMapper.readTree("{\"email\":\"patched@example.com\"}"));
+
+        SqlStatementCount.assertStatements(1, 0, 1, 0);
+    }
+
+    @Test
+    @DisplayName("Get by request ID: one lookup for an active request, two for an unknown one")
+    void testGetByRequestId_StatementBudget() {
+        String requestId = accountService.saveDraft(draft(), null).requestId();
+        SqlStatementCount.reset();
+
+        accountService.getByRequestId(requestId);
+
+        SqlStatementCount.assertStatements(1, 0, 0, 0);
+
+        SqlStatementCount.reset();
+        assertThrows(ResourceNotFoundException.class, () -> accountService.getByRequestId("ZZZZ-0000"));
+        SqlStatementCount.assertStatements(2, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("List accounts: one keyset query per page")
+    void testListAccounts_StatementBudget() {
+        accountService.saveDraft(draft(), null);
+        accountService.saveDraft(draft(), null);
+        SqlStatementCount.reset();
+
+        AccountResponseDTO first = accountService.listAccounts(
+                new AccountSearchCriteria(AccountStatus.DRAFT, null, null, null), null, 1).items().get(0);
+
+        assertNotNull(first);
+        SqlStatementCount.assertStatements(1, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("Should publish Hibernate statistics as metrics")
+    void testHibernateStatistics_PublishedAsMetrics() {
+        accountService.saveDraft(draft(), null);
+
+        assertNotNull(meterRegistry.find("hibernate.statements").tag("status", "prepared").functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.entities.inserts").functionCounter());
+    }
+
+    private static AccountRequestDTO registration(String name) {
+        return new AccountRequestDTO(name, LocalDate.of(1990, 5, 15),
+                new AddressDTO("Main Street", "123", "1234 AB", "Amsterdam"),
+                AccountType.SAVINGS, null, "budget@example.com", null, null);
+    }
+
+    private static DraftRequestDTO draft() {
+        return new DraftRequestDTO("Haripriya", LocalDate.of(1990, 5, 15),
+                new AddressDTO("Main Street", "123", "1234 AB", "Amsterdam"),
+                null, null, null, null, null);
+    }
+
+    private static MockMultipartFile document() {
+        return new MockMultipartFile("idDocument", "passport.jpg", "image/jpeg", "test content".getBytes());
+    }
+}
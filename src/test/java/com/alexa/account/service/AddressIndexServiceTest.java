@@ -0,0 +1,84 @@
+package com.alexa.account.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AddressIndexService Tests")
+class AddressIndexServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should be unavailable when no dataset is configured")
+    void testNoDataset_IsUnavailable() {
+        AddressIndexService service = new AddressIndexService("");
+
+        assertEquals(0, service.snapshot().size());
+        assertFalse(service.snapshot().containsPostCode("1011 AB"));
+        assertDoesNotThrow(service::reloadIfChanged);
+    }
+
+    @Test
+    @DisplayName("Should be unavailable when the dataset file is missing")
+    void testMissingDataset_IsUnavailable() {
+        AddressIndexService service = new AddressIndexService(tempDir.resolve("missing.csv").toString());
+
+        assertEquals(0, service.snapshot().size());
+    }
+
+    @Test
+    @DisplayName("Should load the dataset at startup")
+    void testDataset_LoadedAtStartup() throws IOException {
+        Path dataset = tempDir.resolve("addresses.csv");
+        Files.writeString(dataset, "1011AB;1;25;odd;Amsterdam\n");
+
+        AddressIndexService service = new AddressIndexService(dataset.toString());
+
+        assertTrue(service.snapshot().size() > 0);
+        assertTrue(service.snapshot().containsPostCode("1011 AB"));
+        assertTrue(service.snapshot().containsHouseNumber("1011 AB", "3"));
+        assertEquals("Amsterdam", service.snapshot().cityOf("1011 AB"));
+    }
+
+    @Test
+    @DisplayName("Should hot-reload the dataset when the file changes")
+    void testReloadIfChanged_FileChanged_SwapsIndex() throws IOException {
+        Path dataset = tempDir.resolve("addresses.csv");
+        Files.writeString(dataset, "1011AB;1;25;odd;Amsterdam\n");
+        Files.setLastModifiedTime(dataset, FileTime.from(Instant.parse("2026-01-01T00:00:00Z")));
+        AddressIndexService service = new AddressIndexService(dataset.toString());
+
+        Files.writeString(dataset, "3511CD;100;120;mixed;Utrecht\n");
+        Files.setLastModifiedTime(dataset, FileTime.from(Instant.parse("2026-01-02T00:00:00Z")));
+        service.reloadIfChanged();
+
+        assertFalse(service.snapshot().containsPostCode("1011 AB"));
+        assertTrue(service.snapshot().containsPostCode("3511 CD"));
+    }
+
+    @Test
+    @DisplayName("Should keep the current index when the file is unchanged")
+    void testReloadIfChanged_FileUnchanged_KeepsIndex() throws IOException {
+        Path dataset = tempDir.resolve("addresses.csv");
+        Files.writeString(dataset, "1011AB;1;25;odd;Amsterdam\n");
+        FileTime version = FileTime.from(Instant.parse("2026-01-01T00:00:00Z"));
+        Files.setLastModifiedTime(dataset, version);
+        AddressIndexService service = new AddressIndexService(dataset.toString());
+
+        Files.writeString(dataset, "3511CD;100;120;mixed;Utrecht\n");
+        Files.setLastModifiedTime(dataset, version);
+        service.reloadIfChanged();
+
+        assertTrue(service.snapshot().containsPostCode("1011 AB"));
+    }
+}
@@ -0,0 +1,67 @@
+package com.alexa.account.service;
+
+import com.alexa.account.exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AddressSuggestionService Tests")
+class AddressSuggestionServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should return no suggestions when no reference file is configured")
+    void testNoReferenceFile_ReturnsEmpty() {
+        AddressSuggestionService service = new AddressSuggestionService("");
+
+        assertTrue(service.suggest("city", "ams", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return no suggestions when the reference file is missing")
+    void testMissingReferenceFile_ReturnsEmpty() {
+        AddressSuggestionService service = new AddressSuggestionService(tempDir.resolve("missing.csv").toString());
+
+        assertTrue(service.suggest("streetName", "dam", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should suggest names from the reference file, matching the field name ignoring case")
+    void testSuggest_FromReferenceFile() throws IOException {
+        Path reference = tempDir.resolve("suggestions.csv");
+        Files.writeString(reference, "city;Amsterdam;900\ncity;Amstelveen;90\nstreetName;Damrak;10\n");
+        AddressSuggestionService service = new AddressSuggestionService(reference.toString());
+
+        assertEquals(List.of("Amsterdam", "Amstelveen"), service.suggest("city", "ams", 10));
+        assertEquals(List.of("Damrak"), service.suggest("STREETNAME", "da", 10));
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported fields")
+    void testSuggest_UnsupportedField_Throws() {
+        AddressSuggestionService service = new AddressSuggestionService("");
+
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> service.suggest("postCode", "10", 10));
+        assertEquals("Unknown field: postCode. Supported fields: city, streetName", exception.getMessage());
+        assertThrows(InvalidRequestException.class, () -> service.suggest(null, "10", 10));
+    }
+
+    @Test
+    @DisplayName("Should reject limits out of range")
+    void testSuggest_InvalidLimit_Throws() {
+        AddressSuggestionService service = new AddressSuggestionService("");
+
+        assertThrows(InvalidRequestException.class, () -> service.suggest("city", "a", 0));
+        assertThrows(InvalidRequestException.class, () -> service.suggest("city", "a", 21));
+    }
+}
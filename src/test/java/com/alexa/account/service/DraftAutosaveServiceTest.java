@@ -0,0 +1,165 @@
+package com.alexa.account.service;
+
+import com.alexa.account.dto.AddressDTO;
+import com.alexa.account.dto.DraftRequestDTO;
+import com.alexa.account.exception.ResourceNotFoundException;
+import com.alexa.account.model.AccountStatus;
+import com.alexa.account.repository.AccountRequestRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DraftAutosaveService Tests")
+@ExtendWith(MockitoExtension.class)
+class DraftAutosaveServiceTest {
+
+    @Mock
+    private AccountRequestRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private DraftAutosaveService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new DraftAutosaveService(repository, new TransactionTemplate(transactionManager), meterRegistry,
+                2, 2);
+    }
+
+    @Test
+    @DisplayName("Should write only the latest of several autosaves of a draft")
+    void testAutosave_RepeatedAutosaves_WritesLatestOnce() {
+        when(repository.existsByRequestIdAndStatus("AB2K-0590", AccountStatus.DRAFT)).thenReturn(true);
+
+        service.autosave("AB2K-0590", draft("first@example.com"));
+        service.autosave("AB2K-0590", draft("second@example.com"));
+        service.autosave("AB2K-0590", draft("latest@example.com"));
+        int flushed = service.flushAll();
+
+        assertEquals(1, flushed);
+        verify(repository).existsByRequestIdAndStatus("AB2K-0590", AccountStatus.DRAFT);
+        verify(repository).updateDrafts(eq(Map.of("AB2K-0590", draft("latest@example.com"))), any());
+        assertEquals(0, service.flushAll());
+        assertEquals(3.0, meterRegistry.get("account.drafts.autosave.received").counter().count());
+        assertEquals(1.0, meterRegistry.get("account.drafts.autosave.written").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should flush buffered drafts in batches of batch-size")
+    void testFlushAll_MoreDraftsThanBatchSize_WritesBatches() {
+        service = new DraftAutosaveService(repository, new TransactionTemplate(transactionManager), meterRegistry,
+                10, 2);
+        when(repository.existsByRequestIdAndStatus(anyString(), eq(AccountStatus.DRAFT))).thenReturn(true);
+
+        service.autosave("AAAA-0190", draft("a@example.com"));
+        service.autosave("BBBB-0190", draft("b@example.com"));
+        service.autosave("CCCC-0190", draft("c@example.com"));
+        int flushed = service.flushAll();
+
+        assertEquals(3, flushed);
+        verify(repository).updateDrafts(argThat(batch -> batch.size() == 2), any());
+        verify(repository).updateDrafts(argThat(batch -> batch.size() == 1), any());
+    }
+
+    @Test
+    @DisplayName("Should reject an autosave for a request that is not a draft")
+    void testAutosave_NotADraft_ThrowsNotFound() {
+        when(repository.existsByRequestIdAndStatus("AB2K-0590", AccountStatus.DRAFT)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> service.autosave("AB2K-0590", draft("a@example.com")));
+        assertEquals(0, service.flushAll());
+    }
+
+    @Test
+    @DisplayName("Should write an autosave directly when the buffer is full")
+    void testAutosave_BufferFull_WritesDirectly() {
+        when(repository.existsByRequestIdAndStatus(anyString(), eq(AccountStatus.DRAFT))).thenReturn(true);
+
+        service.autosave("AAAA-0190", draft("a@example.com"));
+        service.autosave("BBBB-0190", draft("b@example.com"));
+        service.autosave("CCCC-0190", draft("c@example.com"));
+
+        verify(repository).updateDrafts(eq(Map.of("CCCC-0190", draft("c@example.com"))), any());
+        assertEquals(1.0, meterRegistry.get("account.drafts.autosave.direct").counter().count());
+        assertEquals(2, service.flushAll());
+    }
+
+    @Test
+    @DisplayName("Should write the buffered state of a draft before it is updated or submitted")
+    void testFlush_BufferedDraft_WritesAndRemoves() {
+        when(repository.existsByRequestIdAndStatus("AB2K-0590", AccountStatus.DRAFT)).thenReturn(true);
+        service.autosave("AB2K-0590", draft("latest@example.com"));
+
+        service.flush("AB2K-0590");
+        service.flush("BBBB-0190");
+
+        verify(repository, times(1)).updateDrafts(eq(Map.of("AB2K-0590", draft("latest@example.com"))), any());
+        assertEquals(0, service.flushAll());
+    }
+
+    @Test
+    @DisplayName("Should make an explicit flush wait until a batch writing the same draft has committed")
+    void testFlush_DuringBatchWrite_WaitsForBatch() throws Exception {
+        when(repository.existsByRequestIdAndStatus("AB2K-0590", AccountStatus.DRAFT)).thenReturn(true);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        when(repository.updateDrafts(anyMap(), any())).thenAnswer(invocation -> {
+            writing.countDown();
+            assertTrue(commit.await(5, TimeUnit.SECONDS));
+            return 1;
+        });
+        service.autosave("AB2K-0590", draft("latest@example.com"));
+
+        CompletableFuture<Integer> batch = CompletableFuture.supplyAsync(service::flushAll);
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Void> explicit = CompletableFuture.runAsync(() -> service.flush("AB2K-0590"));
+
+        assertThrows(TimeoutException.class, () -> explicit.get(200, TimeUnit.MILLISECONDS));
+        commit.countDown();
+        assertEquals(1, batch.get(5, TimeUnit.SECONDS));
+        explicit.get(5, TimeUnit.SECONDS);
+        verify(repository, times(1)).updateDrafts(anyMap(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep drafts buffered when a flush fails")
+    void testFlushAll_WriteFails_KeepsDrafts() {
+        when(repository.existsByRequestIdAndStatus("AB2K-0590", AccountStatus.DRAFT)).thenReturn(true);
+        when(repository.updateDrafts(anyMap(), any()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(1);
+        service.autosave("AB2K-0590", draft("latest@example.com"));
+
+        assertEquals(0, service.flushAll());
+        assertEquals(1, service.flushAll());
+        verify(repository, times(2)).updateDrafts(eq(Map.of("AB2K-0590", draft("latest@example.com"))), any());
+    }
+
+    private static DraftRequestDTO draft(String email) {
+        return new DraftRequestDTO("Haripriya", LocalDate.of(1985, 8, 20),
+                new AddressDTO("Keizersgracht", "45B", "1015 AB", "Amsterdam"),
+                null, null, email, null, null);
+    }
+}
@@ -0,0 +1,137 @@
+package com.alexa.account.service;
+
+import com.alexa.account.model.AccountStatus;
+import com.alexa.account.repository.AccountRequestRepository;
+import com.alexa.account.repository.StoredDocumentView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DraftPurgeService Tests")
+@ExtendWith(MockitoExtension.class)
+class DraftPurgeServiceTest {
+
+    @Mock
+    private AccountRequestRepository repository;
+
+    @Mock
+    private IFileStorageService fileStorageService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private DraftPurgeService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new DraftPurgeService(repository, fileStorageService, meterRegistry,
+                true, Duration.ofDays(30), 2, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Should delete expired drafts chunk by chunk until a chunk is not full")
+    void testPurge_MultipleChunks_DeletesAllChunks() {
+        when(repository.findUpdatedBefore(eq(AccountStatus.DRAFT), any(), argThat((Limit limit) -> limit.max() == 2)))
+                .thenReturn(List.of(draft(1L, "id-documents/1.jpg"), draft(2L, null)))
+                .thenReturn(List.of(draft(3L, "id-documents/3.jpg")));
+        when(repository.deleteUpdatedBefore(anyCollection(), eq(AccountStatus.DRAFT), any()))
+                .thenReturn(2)
+                .thenReturn(1);
+
+        int purged = service.purgeExpiredDrafts();
+
+        assertEquals(3, purged);
+        verify(repository, times(2)).findUpdatedBefore(any(), any(), any());
+        verify(repository).deleteUpdatedBefore(eq(List.of(1L, 2L)), eq(AccountStatus.DRAFT), any());
+        verify(repository).deleteUpdatedBefore(eq(List.of(3L)), eq(AccountStatus.DRAFT), any());
+        verify(fileStorageService).deleteFile("id-documents/1.jpg");
+        verify(fileStorageService).deleteFile("id-documents/3.jpg");
+        verifyNoMoreInteractions(fileStorageService);
+        verify(repository, never()).findExistingIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should keep the document of a draft resumed after it was selected")
+    void testPurge_DraftResumedDuringPurge_KeepsDocument() {
+        when(repository.findUpdatedBefore(any(), any(), any()))
+                .thenReturn(List.of(draft(1L, "id-documents/1.jpg"), draft(2L, "id-documents/2.jpg")))
+                .thenReturn(List.of());
+        when(repository.deleteUpdatedBefore(anyCollection(), any(), any())).thenReturn(1);
+        when(repository.findExistingIds(List.of(1L, 2L))).thenReturn(List.of(2L));
+
+        int purged = service.purgeExpiredDrafts();
+
+        assertEquals(1, purged);
+        verify(fileStorageService).deleteFile("id-documents/1.jpg");
+        verify(fileStorageService, never()).deleteFile("id-documents/2.jpg");
+    }
+
+    @Test
+    @DisplayName("Should only select drafts last updated before the maximum age")
+    void testPurge_Cutoff_IsMaxAgeAgo() {
+        when(repository.findUpdatedBefore(any(), any(), any())).thenReturn(List.of());
+        LocalDateTime before = LocalDateTime.now().minusDays(30);
+
+        int purged = service.purgeExpiredDrafts();
+
+        LocalDateTime after = LocalDateTime.now().minusDays(30);
+        assertEquals(0, purged);
+        verify(repository).findUpdatedBefore(eq(AccountStatus.DRAFT),
+                argThat(cutoff -> !cutoff.isBefore(before) && !cutoff.isAfter(after)),
+                argThat((Limit limit) -> limit.max() == 2));
+        verify(repository, never()).deleteUpdatedBefore(anyCollection(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should publish purge counts and durations")
+    void testPurge_PublishesMetrics() {
+        when(repository.findUpdatedBefore(any(), any(), any()))
+                .thenReturn(List.of(draft(1L, "id-documents/1.jpg")));
+        when(repository.deleteUpdatedBefore(anyCollection(), any(), any())).thenReturn(1);
+
+        service.purgeExpiredDrafts();
+
+        assertEquals(1.0, meterRegistry.get("account.drafts.purged").counter().count());
+        assertEquals(1.0, meterRegistry.get("account.drafts.purge.documents").counter().count());
+        assertEquals(1, meterRegistry.get("account.drafts.purge").timer().count());
+        assertEquals(1, meterRegistry.get("account.drafts.purge.chunk").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should not run the scheduled purge when disabled")
+    void testScheduledPurge_Disabled_DoesNothing() {
+        DraftPurgeService disabled = new DraftPurgeService(repository, fileStorageService, meterRegistry,
+                false, Duration.ofDays(30), 2, Duration.ZERO);
+
+        disabled.scheduledPurge();
+
+        verifyNoInteractions(repository, fileStorageService);
+    }
+
+    private static StoredDocumentView draft(Long id, String filePath) {
+        return new StoredDocumentView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getFilePath() {
+                return filePath;
+            }
+        };
+    }
+}
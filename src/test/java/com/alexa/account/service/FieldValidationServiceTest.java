@@ -1,13 +1,19 @@
 package com.alexa.account.service;
 
+import com.alexa.account.dto.AddressDTO;
 import com.alexa.account.dto.FieldValidationRequest;
 import com.alexa.account.dto.FieldValidationResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("FieldValidationService Tests")
@@ -17,7 +23,7 @@ class FieldValidationServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new FieldValidationService();
+        service = new FieldValidationService(new AddressIndexService(""));
     }
 
     // Name Validation Tests
@@ -472,5 +478,42 @@ class FieldValidationServiceTest {
         FieldValidationRequest cityRequest = new FieldValidationRequest("city", "Amsterdam");
         assertTrue(service.validateField(cityRequest).valid());
     }
-}
 
+    // Address index Tests
+    @Test
+    @DisplayName("Should only check address formats when no dataset is loaded")
+    void testValidateAddress_NoDataset_ChecksFormatOnly() {
+        assertTrue(service.validateAddress(new AddressDTO("Main Street", "123", "5678 XY", "Anywhere")).valid());
+        assertFalse(service.validateAddress(new AddressDTO("Main Street", "0123", "5678 XY", "Anywhere")).valid());
+        assertFalse(service.validateAddress(null).valid());
+    }
+
+    @Test
+    @DisplayName("Should check post code existence, house number and city against the dataset")
+    void testValidateAddress_WithDataset_ChecksExistence(@TempDir Path tempDir) throws IOException {
+        Path dataset = tempDir.resolve("addresses.csv");
+        Files.writeString(dataset, "1011AB;1;25;odd;Amsterdam\n");
+        FieldValidationService indexed = new FieldValidationService(new AddressIndexService(dataset.toString()));
+
+        assertTrue(indexed.validatePostCode("1011 AB").valid());
+        assertEquals("Post code does not exist", indexed.validatePostCode("1011 AC").message());
+        assertFalse(indexed.validateField(new FieldValidationRequest("postCode", "1011 AC")).valid());
+
+        assertTrue(indexed.validateAddress(new AddressDTO("Damrak", "7A", "1011 AB", "amsterdam")).valid());
+        assertTrue(indexed.validateAddress(new AddressDTO("Damrak", "8", "1011 AB", "Amsterdam"))
+                .message().contains("does not exist"));
+        assertTrue(indexed.validateAddress(new AddressDTO("Damrak", "7", "1011 AB", "Utrecht"))
+                .message().contains("expected Amsterdam"));
+    }
+
+    @Test
+    @DisplayName("Should check a post code with any accepted separator against the dataset")
+    void testValidateAddress_WithDataset_TabSeparatedPostCode(@TempDir Path tempDir) throws IOException {
+        Path dataset = tempDir.resolve("addresses.csv");
+        Files.writeString(dataset, "1011AB;1;25;odd;Amsterdam\n");
+        FieldValidationService indexed = new FieldValidationService(new AddressIndexService(dataset.toString()));
+
+        assertTrue(indexed.validatePostCode("1011\tAB").valid());
+        assertTrue(indexed.validateAddress(new AddressDTO("Damrak", "7", "1011\tAB", "Amsterdam")).valid());
+    }
+}
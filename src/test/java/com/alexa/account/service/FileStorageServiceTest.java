@@ -2,6 +2,7 @@ package com.alexa.account.service;
 
 import com.alexa.account.exception.InvalidRequestException;
 import com.alexa.account.exception.ResourceNotFoundException;
+import com.alexa.account.exception.StorageException;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.io.TempDir;
 import org.springframework.core.io.Resource;
@@ -208,6 +209,22 @@ class FileStorageServiceTest {
         assertEquals("Cannot store empty file", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("Should throw StorageException with the cause when the file cannot be written")
+    void testStoreFile_WriteFails_ThrowsStorageException() throws IOException {
+        // Arrange: a plain file where the category directory should be
+        Files.createFile(tempDir.resolve("documents"));
+        MockMultipartFile file = new MockMultipartFile("file", "id.pdf", "application/pdf", "content".getBytes());
+
+        // Act & Assert
+        StorageException exception = assertThrows(
+                StorageException.class,
+                () -> fileStorageService.storeFile(file, "documents")
+        );
+        assertEquals("Could not create category directory", exception.getMessage());
+        assertInstanceOf(IOException.class, exception.getCause());
+    }
+
     @Test
     @DisplayName("Should replace existing file when storing with same path")
     void testStoreFile_ReplacesExistingFile() {
@@ -0,0 +1,247 @@
+package com.alexa.account.service;
+
+import com.alexa.account.dto.AccountResponseDTO;
+import com.alexa.account.dto.AddressDTO;
+import com.alexa.account.dto.IdempotentResponse;
+import com.alexa.account.exception.ConflictException;
+import com.alexa.account.exception.InvalidRequestException;
+import com.alexa.account.exception.UnprocessableRequestException;
+import com.alexa.account.model.AccountStatus;
+import com.alexa.account.model.AccountType;
+import com.alexa.account.model.IdempotencyRecord;
+import com.alexa.account.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("IdempotencyService Tests")
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final AccountResponseDTO RESPONSE = new AccountResponseDTO("AB2K-0590", "Priya",
+            LocalDate.of(1990, 5, 15), null, new AddressDTO("Hoofdstraat", "123A", "1234 AB", "Amsterdam"),
+            AccountType.SAVINGS, new BigDecimal("5000.00"), null, null, true, AccountStatus.SUBMITTED);
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private IdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new IdempotencyService(repository, new TransactionTemplate(transactionManager), objectMapper,
+                Duration.ofHours(24), Duration.ofSeconds(5), 100);
+        lenient().when(repository.findById(anyString())).thenReturn(Optional.empty());
+    }
+
+    private IdempotentResponse created() {
+        return new IdempotentResponse(201, RESPONSE, false);
+    }
+
+    @Test
+    @DisplayName("Should execute the first request and store its response")
+    void testExecute_FirstRequest_ExecutesAndStores() {
+        IdempotentResponse response = service.execute("key-1", "fp", this::created);
+
+        assertFalse(response.replayed());
+        assertEquals(201, response.status());
+        ArgumentCaptor<IdempotencyRecord> stored = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(repository).saveAndFlush(stored.capture());
+        assertEquals("key-1", stored.getValue().getIdempotencyKey());
+        assertEquals("fp", stored.getValue().getFingerprint());
+        assertEquals(201, stored.getValue().getStatusCode());
+        assertTrue(stored.getValue().getResponseBody().contains("AB2K-0590"));
+    }
+
+    @Test
+    @DisplayName("Should replay a retry from memory without executing it again")
+    void testExecute_Retry_ReplayedFromCache() {
+        AtomicInteger executions = new AtomicInteger();
+        service.execute("key-1", "fp", () -> {
+            executions.incrementAndGet();
+            return created();
+        });
+
+        IdempotentResponse replay = service.execute("key-1", "fp", () -> {
+            executions.incrementAndGet();
+            return created();
+        });
+
+        assertEquals(1, executions.get());
+        assertTrue(replay.replayed());
+        assertEquals(201, replay.status());
+        assertEquals(RESPONSE, replay.body());
+        verify(repository, times(1)).findById("key-1");
+    }
+
+    @Test
+    @DisplayName("Should replay a response stored in the database")
+    void testExecute_StoredInDatabase_Replayed() throws Exception {
+        IdempotencyRecord record = new IdempotencyRecord("key-2", "fp", 200, objectMapper.writeValueAsString(RESPONSE));
+        record.setCreatedAt(LocalDateTime.now().minusHours(1));
+        when(repository.findById("key-2")).thenReturn(Optional.of(record));
+
+        IdempotentResponse replay = service.execute("key-2", "fp", () -> fail("Must not execute"));
+
+        assertTrue(replay.replayed());
+        assertEquals(200, replay.status());
+        assertEquals(RESPONSE, replay.body());
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Should execute again when the stored response has expired")
+    void testExecute_Expired_ExecutesAgain() throws Exception {
+        IdempotencyRecord record = new IdempotencyRecord("key-3", "fp", 201, objectMapper.writeValueAsString(RESPONSE));
+        record.setCreatedAt(LocalDateTime.now().minusDays(2));
+        when(repository.findById("key-3")).thenReturn(Optional.of(record), Optional.empty());
+
+        IdempotentResponse response = service.execute("key-3", "fp", this::created);
+
+        assertFalse(response.replayed());
+        verify(repository).deleteById("key-3");
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different request")
+    void testExecute_DifferentFingerprint_Throws() {
+        service.execute("key-1", "fp", this::created);
+
+        UnprocessableRequestException exception = assertThrows(UnprocessableRequestException.class,
+                () -> service.execute("key-1", "other", this::created));
+        assertEquals("Idempotency-Key has already been used for a different request", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should not store failed executions, so a retry executes again")
+    void testExecute_Failure_NotStored() {
+        assertThrows(InvalidRequestException.class, () -> service.execute("key-1", "fp", () -> {
+            throw new InvalidRequestException("ID document is mandatory");
+        }));
+
+        IdempotentResponse retry = service.execute("key-1", "fp", this::created);
+
+        assertFalse(retry.replayed());
+        verify(repository, times(1)).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Should let concurrent duplicates wait for the first execution")
+    void testExecute_ConcurrentDuplicate_WaitsForFirst() throws Exception {
+        CountDownLatch executing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        CompletableFuture<IdempotentResponse> first = CompletableFuture.supplyAsync(() ->
+                service.execute("key-1", "fp", () -> {
+                    executions.incrementAndGet();
+                    executing.countDown();
+                    await(release);
+                    return created();
+                }));
+        assertTrue(executing.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<IdempotentResponse> duplicate = CompletableFuture.supplyAsync(() ->
+                service.execute("key-1", "fp", () -> {
+                    executions.incrementAndGet();
+                    return created();
+                }));
+        Thread.sleep(100);
+        assertFalse(duplicate.isDone());
+        release.countDown();
+
+        assertFalse(first.get(5, TimeUnit.SECONDS).replayed());
+        IdempotentResponse replay = duplicate.get(5, TimeUnit.SECONDS);
+        assertTrue(replay.replayed());
+        assertEquals(RESPONSE, replay.body());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should answer a duplicate with a conflict when the first execution outlasts the wait timeout")
+    void testExecute_DuplicateWaitTimeout_ThrowsConflict() throws Exception {
+        IdempotencyService impatient = new IdempotencyService(repository, new TransactionTemplate(transactionManager),
+                objectMapper, Duration.ofHours(24), Duration.ofMillis(50), 100);
+        CountDownLatch executing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<IdempotentResponse> first = CompletableFuture.supplyAsync(() ->
+                impatient.execute("key-1", "fp", () -> {
+                    executing.countDown();
+                    await(release);
+                    return created();
+                }));
+        assertTrue(executing.await(5, TimeUnit.SECONDS));
+
+        ConflictException exception = assertThrows(ConflictException.class,
+                () -> impatient.execute("key-1", "fp", this::created));
+        release.countDown();
+
+        assertEquals("A request with this Idempotency-Key is still being processed", exception.getMessage());
+        assertFalse(first.get(5, TimeUnit.SECONDS).replayed());
+    }
+
+    @Test
+    @DisplayName("Should reject blank and overlong keys")
+    void testExecute_InvalidKey_Throws() {
+        assertThrows(InvalidRequestException.class, () -> service.execute(" ", "fp", this::created));
+        assertThrows(InvalidRequestException.class, () -> service.execute("k".repeat(256), "fp", this::created));
+    }
+
+    @Test
+    @DisplayName("Should compute stable fingerprints that differ per request")
+    void testFingerprint() {
+        assertEquals(IdempotencyService.fingerprint("register", null, RESPONSE),
+                IdempotencyService.fingerprint("register", null, RESPONSE));
+        assertNotEquals(IdempotencyService.fingerprint("register", RESPONSE),
+                IdempotencyService.fingerprint("draft", RESPONSE));
+        assertEquals(64, IdempotencyService.fingerprint("draft").length());
+    }
+
+    @Test
+    @DisplayName("Should purge stored responses older than the retention")
+    void testPurgeExpired() {
+        when(repository.deleteCreatedBefore(any())).thenReturn(3);
+
+        service.purgeExpired();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).deleteCreatedBefore(cutoff.capture());
+        assertTrue(cutoff.getValue().isBefore(LocalDateTime.now().minusHours(23)));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -5,6 +5,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -91,5 +93,27 @@ class RequestIdGeneratorServiceTest {
             assertTrue(result.matches("[A-Z2-9]{4}-0590"), "All generated IDs should be valid");
         }
     }
-}
 
+    @Test
+    @DisplayName("Should retry until a generated ID is not in use")
+    void testGenerateUniqueRequestId_Collisions_Retries() {
+        List<String> checked = new ArrayList<>();
+        String result = service.generateUniqueRequestId(LocalDate.of(1990, 5, 15),
+                requestId -> checked.add(requestId) && checked.size() < 3);
+
+        assertEquals(3, checked.size());
+        assertEquals(checked.get(2), result);
+        assertTrue(result.matches("[A-Z2-9]{4}-0590"));
+    }
+
+    @Test
+    @DisplayName("Should give up after the maximum number of attempts")
+    void testGenerateUniqueRequestId_AllInUse_Throws() {
+        List<String> checked = new ArrayList<>();
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> service.generateUniqueRequestId(LocalDate.of(1990, 5, 15), checked::add));
+        assertEquals(RequestIdGeneratorService.MAX_ATTEMPTS, checked.size());
+        assertEquals("No unused request ID after 10 attempts", exception.getMessage());
+    }
+}
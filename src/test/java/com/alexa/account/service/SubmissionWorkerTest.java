@@ -0,0 +1,144 @@
+package com.alexa.account.service;
+
+import com.alexa.account.model.AccountStatus;
+import com.alexa.account.repository.AccountRequestRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SubmissionWorker Tests")
+@ExtendWith(MockitoExtension.class)
+class SubmissionWorkerTest {
+
+    @Mock
+    private IAccountService accountService;
+
+    @Mock
+    private AccountRequestRepository repository;
+
+    @Mock
+    private SubmissionSpool submissionSpool;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SubmissionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new SubmissionWorker(accountService, repository, submissionSpool, meterRegistry,
+                true, 1, 1, Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        worker.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should complete a queued submission and delete its spooled document")
+    void testSubmit_Completes_DeletesSpool() throws InterruptedException {
+        when(accountService.completeRegistration("AB2K-0590")).thenReturn(true);
+
+        worker.submit("AB2K-0590");
+        worker.shutdown();
+
+        verify(submissionSpool).delete("AB2K-0590");
+        verify(accountService, never()).failRegistration(any());
+        assertEquals(1.0, meterRegistry.get("submission.jobs").tag("result", "completed").counter().count());
+        assertEquals(1, meterRegistry.get("submission.latency").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should mark a submission that cannot be completed as failed")
+    void testSubmit_CompletionFails_MarksFailed() throws InterruptedException {
+        when(accountService.completeRegistration("AB2K-0590")).thenThrow(new IllegalStateException("storage down"));
+
+        worker.submit("AB2K-0590");
+        worker.shutdown();
+
+        verify(accountService).failRegistration("AB2K-0590");
+        verify(submissionSpool).delete("AB2K-0590");
+        assertEquals(1.0, meterRegistry.get("submission.jobs").tag("result", "failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should keep the spooled document when the failure cannot be recorded")
+    void testSubmit_FailureNotRecorded_KeepsSpool() throws InterruptedException {
+        when(accountService.completeRegistration("AB2K-0590")).thenThrow(new IllegalStateException("db down"));
+        doThrow(new IllegalStateException("db down")).when(accountService).failRegistration("AB2K-0590");
+
+        worker.submit("AB2K-0590");
+        worker.shutdown();
+
+        verify(submissionSpool, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Should report unavailable while the queue is full")
+    void testIsAvailable_QueueFull_ReturnsFalse() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(accountService.completeRegistration(anyString())).thenAnswer(invocation -> {
+            running.countDown();
+            release.await();
+            return true;
+        });
+
+        worker.submit("AAAA-0190");
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        worker.submit("BBBB-0190");
+        assertFalse(worker.isAvailable());
+        assertEquals(1.0, meterRegistry.get("submission.queue.depth").gauge().value());
+
+        // Rejected requests are left PROCESSING for recovery
+        worker.submit("CCCC-0190");
+        release.countDown();
+        worker.shutdown();
+
+        verify(accountService).completeRegistration("BBBB-0190");
+        verify(accountService, never()).completeRegistration("CCCC-0190");
+    }
+
+    @Test
+    @DisplayName("Should re-queue stalled PROCESSING requests up to the free queue capacity")
+    void testRecoverStalled_QueuesStalledRequests() throws InterruptedException {
+        when(repository.findRequestIdsUpdatedBefore(eq(AccountStatus.PROCESSING), any(),
+                argThat((Limit limit) -> limit.max() == 1)))
+                .thenReturn(List.of("AB2K-0590"));
+        when(accountService.completeRegistration("AB2K-0590")).thenReturn(true);
+
+        worker.recoverStalled();
+        worker.shutdown();
+
+        verify(accountService).completeRegistration("AB2K-0590");
+    }
+
+    @Test
+    @DisplayName("Should not queue anything when disabled")
+    void testDisabled_NotAvailableAndNoRecovery() throws InterruptedException {
+        SubmissionWorker disabled = new SubmissionWorker(accountService, repository, submissionSpool,
+                new SimpleMeterRegistry(), false, 1, 1, Duration.ofMinutes(10));
+
+        assertFalse(disabled.isAvailable());
+        disabled.recoverStalled();
+
+        verifyNoInteractions(repository);
+        disabled.shutdown();
+    }
+}
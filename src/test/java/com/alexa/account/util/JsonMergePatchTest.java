@@ -0,0 +1,46 @@
+package com.alexa.account.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JsonMergePatch Utility Tests")
+class JsonMergePatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Examples from RFC 7396, appendix A (quotes swapped for readability).
+     */
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', quoteCharacter = '`', value = {
+            "{'a':'b'}                     | {'a':'c'}             | {'a':'c'}",
+            "{'a':'b'}                     | {'b':'c'}             | {'a':'b','b':'c'}",
+            "{'a':'b'}                     | {'a':null}            | {}",
+            "{'a':'b','b':'c'}             | {'a':null}            | {'b':'c'}",
+            "{'a':['b']}                   | {'a':'c'}             | {'a':'c'}",
+            "{'a':'c'}                     | {'a':['b']}           | {'a':['b']}",
+            "{'a':{'b':'c'}}               | {'a':{'b':'d','c':null}} | {'a':{'b':'d'}}",
+            "{'a':[{'b':'c'}]}             | {'a':[1]}             | {'a':[1]}",
+            "{'e':null}                    | {'a':1}               | {'e':null,'a':1}",
+            "[1,2]                         | {'a':'b','c':null}    | {'a':'b'}",
+            "{}                            | {'a':{'bb':{'ccc':null}}} | {'a':{'bb':{}}}"
+    })
+    @DisplayName("Should apply the RFC 7396 examples")
+    void testApply_RfcExamples(String target, String patch, String expected) throws Exception {
+        JsonNode targetNode = json(target);
+
+        JsonNode result = JsonMergePatch.apply(targetNode, json(patch));
+
+        assertEquals(json(expected), result);
+        assertEquals(json(target), targetNode);
+    }
+
+    private JsonNode json(String value) throws Exception {
+        return objectMapper.readTree(value.replace('\'', '"'));
+    }
+}
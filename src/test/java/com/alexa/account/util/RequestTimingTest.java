@@ -0,0 +1,53 @@
+package com.alexa.account.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RequestTiming Tests")
+class RequestTimingTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTiming.stop();
+    }
+
+    @Test
+    @DisplayName("Should add up the time and count of a stage within a request")
+    void testEnd_ActiveRequest_AccumulatesStage() {
+        RequestTiming.start();
+
+        RequestTiming.end(RequestTiming.Stage.DB, RequestTiming.begin() - 1_000_000);
+        RequestTiming.end(RequestTiming.Stage.DB, RequestTiming.begin() - 2_000_000);
+
+        assertEquals(2, RequestTiming.count(RequestTiming.Stage.DB));
+        assertTrue(RequestTiming.nanos(RequestTiming.Stage.DB) >= 3_000_000);
+        assertEquals(0, RequestTiming.count(RequestTiming.Stage.STORAGE));
+    }
+
+    @Test
+    @DisplayName("Should not record stages outside a request")
+    void testEnd_NoActiveRequest_NotRecorded() {
+        RequestTiming.start();
+        RequestTiming.stop();
+
+        RequestTiming.end(RequestTiming.Stage.STORAGE, RequestTiming.begin());
+
+        assertFalse(RequestTiming.isActive());
+        assertEquals(0, RequestTiming.count(RequestTiming.Stage.STORAGE));
+    }
+
+    @Test
+    @DisplayName("Should clear the stages of the previous request on start")
+    void testStart_PreviousRequest_ClearsStages() {
+        RequestTiming.start();
+        RequestTiming.end(RequestTiming.Stage.MAPPING, RequestTiming.begin());
+
+        RequestTiming.start();
+
+        assertEquals(0, RequestTiming.count(RequestTiming.Stage.MAPPING));
+        assertEquals(0, RequestTiming.nanos(RequestTiming.Stage.MAPPING));
+    }
+}
@@ -0,0 +1,122 @@
+package com.alexa.account.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FieldMatchers Tests")
+class FieldMatchersTest {
+
+    // Regular expressions the hand-written matchers replace
+    private static final Pattern POSTCODE_PATTERN = Pattern.compile("^[0-9]{4}\\s[A-Za-z]{2}$");
+    private static final Pattern HOUSE_NUMBER_PATTERN = Pattern.compile("^[1-9][0-9]{0,4}([A-Za-z])?(-[A-Za-z0-9]+)?$");
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1234 AB", "9999 zz", "0000\tAa"})
+    @DisplayName("Should accept valid post codes")
+    void testIsPostCode_Valid_ReturnsTrue(String value) {
+        assertTrue(FieldMatchers.isPostCode(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "1234AB", "1234 A", "123 ABC", "1234 A1", "ABCD 12", "1234 AB "})
+    @DisplayName("Should reject invalid post codes")
+    void testIsPostCode_Invalid_ReturnsFalse(String value) {
+        assertFalse(FieldMatchers.isPostCode(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1", "123", "12345", "45A", "7-1", "123-bis", "9z-0A"})
+    @DisplayName("Should accept valid house numbers")
+    void testIsHouseNumber_Valid_ReturnsTrue(String value) {
+        assertTrue(FieldMatchers.isHouseNumber(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "0123", "123456", "12AB", "12-", "1-a-b", "A1", "12 A"})
+    @DisplayName("Should reject invalid house numbers")
+    void testIsHouseNumber_Invalid_ReturnsFalse(String value) {
+        assertFalse(FieldMatchers.isHouseNumber(value));
+    }
+
+    @Test
+    @DisplayName("Should agree with the replaced regular expressions on random input")
+    void testMatchers_RandomInput_AgreeWithRegex() {
+        String alphabet = "0123456789 -aZb\tx";
+        Random random = new Random(42);
+        for (int n = 0; n < 200_000; n++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(11);
+            for (int i = 0; i < length; i++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String value = sb.toString();
+            assertEquals(POSTCODE_PATTERN.matcher(value).matches(), FieldMatchers.isPostCode(value), value);
+            assertEquals(HOUSE_NUMBER_PATTERN.matcher(value).matches(), FieldMatchers.isHouseNumber(value), value);
+        }
+    }
+
+    @Test
+    @DisplayName("Should parse dates exactly like the dd-MM-yyyy formatter")
+    void testParseDate_AllCombinations_AgreeWithFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+        for (int year = 0; year <= 2100; year += 7) {
+            for (int month = 0; month <= 13; month++) {
+                for (int day = 0; day <= 32; day++) {
+                    String value = String.format("%02d-%02d-%04d", day, month, year);
+                    LocalDate expected;
+                    try {
+                        expected = LocalDate.parse(value, formatter);
+                    } catch (Exception e) {
+                        expected = null;
+                    }
+                    assertEquals(expected, FieldMatchers.parseDate(value), value);
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "2024-05-15", "15/05/1990", "1-5-1990", "15-05-90", "aa-bb-cccc"})
+    @DisplayName("Should return null instead of throwing for malformed dates")
+    void testParseDate_Malformed_ReturnsNull(String value) {
+        assertNull(FieldMatchers.parseDate(value));
+    }
+
+    @Test
+    @DisplayName("Should only accept dates in the past")
+    void testIsPastDate_FutureDate_ReturnsFalse() {
+        assertTrue(FieldMatchers.isPastDate("15-05-1990"));
+        assertFalse(FieldMatchers.isPastDate("15-05-2999"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Y", "n", " yes ", "True", "0", "off"})
+    @DisplayName("Should accept Y/N values like YesNoBoolean")
+    void testIsYesNo_Valid_ReturnsTrue(String value) {
+        assertTrue(FieldMatchers.isYesNo(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "X", "yess", "2"})
+    @DisplayName("Should reject invalid Y/N values")
+    void testIsYesNo_Invalid_ReturnsFalse(String value) {
+        assertFalse(FieldMatchers.isYesNo(value));
+    }
+
+    @Test
+    @DisplayName("Should match account types ignoring case")
+    void testIsAccountType_IgnoresCase() {
+        assertTrue(FieldMatchers.isAccountType("savings"));
+        assertTrue(FieldMatchers.isAccountType("INVESTMENT"));
+        assertFalse(FieldMatchers.isAccountType("Checking"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.alexa.account.validation;
+
+import com.alexa.account.dto.AddressDTO;
+import com.alexa.account.dto.FieldValidationResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FieldRule Tests")
+class FieldRuleTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("Should look up rules by field name ignoring case")
+    void testForFieldName_IgnoresCase() {
+        assertEquals(FieldRule.POST_CODE, FieldRule.forFieldName("postcode"));
+        assertEquals(FieldRule.POST_CODE, FieldRule.forFieldName("POSTCODE"));
+        assertEquals(FieldRule.DATE_OF_BIRTH, FieldRule.forFieldName("dateOfBirth"));
+        assertEquals(FieldRule.INTERESTED_IN_OTHER_PRODUCTS, FieldRule.forFieldName("interestedInOtherProducts"));
+        assertEquals(FieldRule.INTERESTED_IN_OTHER_PRODUCTS, FieldRule.forFieldName("interestedinotherprodcts"));
+        assertNull(FieldRule.forFieldName("unknown"));
+        assertNull(FieldRule.forFieldName(null));
+    }
+
+    @Test
+    @DisplayName("Should return the same prebuilt response instances")
+    void testValidate_ReturnsPrebuiltResponses() {
+        assertSame(FieldRule.VALID, FieldRule.POST_CODE.validate("1234 AB"));
+        assertSame(FieldRule.POST_CODE.validate("1234"), FieldRule.POST_CODE.validate("12 AB"));
+        assertSame(FieldRule.CITY.validate(null), FieldRule.CITY.validate(" "));
+    }
+
+    @Test
+    @DisplayName("Should report the first failing date of birth check")
+    void testValidate_DateOfBirth_ReportsFormatBeforePast() {
+        FieldValidationResponse format = FieldRule.DATE_OF_BIRTH.validate("1990-05-15");
+        FieldValidationResponse future = FieldRule.DATE_OF_BIRTH.validate("15-05-2999");
+
+        assertFalse(format.valid());
+        assertTrue(format.message().contains("DD-MM-YYYY"));
+        assertFalse(future.valid());
+        assertTrue(future.message().contains("past"));
+    }
+
+    @Test
+    @DisplayName("Should treat blank optional fields as valid")
+    void testValidate_OptionalBlank_ReturnsValid() {
+        assertSame(FieldRule.VALID, FieldRule.INTERESTED_IN_OTHER_PRODUCTS.validate(null));
+        assertSame(FieldRule.VALID, FieldRule.INTERESTED_IN_OTHER_PRODUCTS.validate(" "));
+    }
+
+    @Test
+    @DisplayName("Should drive Bean Validation on AddressDTO with the catalogue checks and messages")
+    void testValidField_AddressDto_UsesRuleMessages() {
+        AddressDTO address = new AddressDTO("Main Street", "0123", "1234AB", "Amsterdam");
+
+        Map<String, String> messages = validator.validate(address).stream()
+                .collect(Collectors.toMap(violation -> violation.getPropertyPath().toString(),
+                        ConstraintViolation::getMessage));
+
+        assertEquals(2, messages.size());
+        assertEquals(FieldRule.POST_CODE.validate("1234AB").message(), messages.get("postCode"));
+        // AddressDTO keeps its own house number message
+        assertEquals("House number must be a valid house number (e.g., 123, 45A, 7-1, 123-bis)",
+                messages.get("houseNumber"));
+    }
+
+    @Test
+    @DisplayName("Should accept a valid AddressDTO")
+    void testValidField_ValidAddress_NoViolations() {
+        AddressDTO address = new AddressDTO("Main Street", "45A", "1234 AB", "Amsterdam");
+
+        assertTrue(validator.validate(address).isEmpty());
+    }
+}